@@ -31,6 +31,7 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.category.TimingsCategory;
+import org.spongepowered.common.event.RegisteredListener;
 
 import java.util.Optional;
 import java.util.Queue;
@@ -58,6 +59,7 @@ public void init() {
         setTimingsEnabled(this.moduleEnabled && config.isEnabled());
         setHistoryInterval(config.getHistoryInterval());
         setHistoryLength(config.getHistoryLength());
+        RegisteredListener.setRecordingLatencies(config.isListenerLatencies());
 
         SpongeImpl.getLogger().debug("Sponge Timings: " + this.timingsEnabled +
                                     " - Verbose: " + this.verboseEnabled +
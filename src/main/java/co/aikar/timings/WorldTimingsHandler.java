@@ -75,6 +75,10 @@ public class WorldTimingsHandler {
     // Chunk population
     public final Timing chunkPopulate;
 
+    // Explosions
+    public final Timing explosionRayTrace;
+    public final Timing explosionBlocks;
+
     public WorldTimingsHandler(World world) {
         String name = world.getWorldInfo().getWorldName() + " - ";
 
@@ -119,5 +123,8 @@ public WorldTimingsHandler(World world) {
         this.causeTrackerEntityItemTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityItemCaptures");
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
+
+        this.explosionRayTrace = SpongeTimingsFactory.ofSafe(name + "explosion - Ray Trace");
+        this.explosionBlocks = SpongeTimingsFactory.ofSafe(name + "explosion - Blocks");
     }
 }
@@ -77,6 +77,7 @@
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.item.inventory.util.InventoryUtil;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.util.SpawnerSpawnType;
@@ -253,7 +254,7 @@ public static MapStorage getWorldMapStorage(World world) {
     }
 
     public static int countEntities(WorldServer worldServer, net.minecraft.entity.EnumCreatureType type, boolean forSpawnCount) {
-        return worldServer.countEntities(type.getCreatureClass());
+        return ((IMixinWorldServer) worldServer).getCreatureCount(type);
     }
 
     public static int getMaxSpawnPackSize(EntityLiving entityLiving) {
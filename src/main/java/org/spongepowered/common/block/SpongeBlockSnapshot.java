@@ -59,6 +59,7 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.CompactDataContainer;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.DataUtil;
@@ -238,7 +239,7 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
-        final DataContainer container = DataContainer.createNew()
+        final DataContainer container = new CompactDataContainer()
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(Queries.WORLD_ID, this.worldUniqueId.toString())
             .createView(DataQueries.SNAPSHOT_WORLD_POSITION)
@@ -252,7 +253,8 @@ public DataContainer toContainer() {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            // Translate straight into the container, rather than into a new container that gets copied
+            NbtTranslator.getInstance().addTo(this.compound, container.createView(DataQueries.UNSAFE_NBT));
         }
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
         if (!dataList.isEmpty()) {
@@ -38,6 +38,7 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.data.AbstractArchetype;
+import org.spongepowered.common.data.LazyNbtDataContainer;
 import org.spongepowered.common.data.nbt.NbtDataType;
 import org.spongepowered.common.data.nbt.NbtDataTypes;
 import org.spongepowered.common.data.nbt.validation.ValidationType;
@@ -70,7 +71,7 @@ public TileEntityType getTileEntityType() {
 
     @Override
     public DataContainer getTileData() {
-        return NbtTranslator.getInstance().translateFrom(this.data);
+        return new LazyNbtDataContainer(this.data.copy());
     }
 
     @Override
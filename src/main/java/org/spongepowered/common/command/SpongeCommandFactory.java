@@ -29,6 +29,7 @@
 import static org.spongepowered.api.command.args.GenericArguments.dimension;
 import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
 import static org.spongepowered.api.command.args.GenericArguments.literal;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.optionalWeak;
@@ -40,6 +41,7 @@
 import co.aikar.timings.SpongeTimingsFactory;
 import co.aikar.timings.Timings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
@@ -88,14 +90,21 @@
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ListenerLatencyHistogram;
+import org.spongepowered.common.event.RegisteredListener;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
+import org.spongepowered.common.interfaces.world.IMixinWorldEntitySpawner;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.SpongeExplosionTracer;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.lighting.SpongeLightingEngine;
+import org.spongepowered.common.world.storage.SpongeChunkSaveExecutor;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -108,9 +117,12 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -170,6 +182,7 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongePluginsCommand(), "plugins");
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
+        nonFlagChildren.register(createSpongeListenersCommand(), "listeners");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeConfigCommand(), "config");
         flagChildren.register(createSpongeReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -191,6 +204,7 @@ INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
+                        INDENT, title("listeners"), LONG_INDENT, "Lists the slowest event listeners and plugins\n",
                         SpongeImplHooks.getAdditionalCommandDescriptions()))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -316,13 +330,64 @@ protected Text value(Object text) {
                     }
 
                     protected Text getChunksInfo(WorldServer worldserver) {
-                        return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
+                        final Text info = Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                getSpawnerInfo(worldserver),
+                                getChunkSaveInfo(),
+                                getExplosionInfo()
+                        );
+                        if (!SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                                || !SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+                            return info;
+                        }
+                        final SpongeLightingEngine lightingEngine = ((IMixinWorldServer) worldserver).getLightingEngine();
+                        return Text.of(info,
+                                key("Light update backlog: "), value(lightingEngine.getBacklog()), NEWLINE_TEXT,
+                                key("Lighting chunks scheduled: "), value(lightingEngine.getScheduledChunkCount()), NEWLINE_TEXT,
+                                key("Lighting regions active: "), value(lightingEngine.getActiveRegionCount()), NEWLINE_TEXT,
+                                key("Time to light (avg / last): "), value(lightingEngine.getAverageTimeToLight(TimeUnit.MILLISECONDS) + "ms / "
+                                        + lightingEngine.getLastTimeToLight(TimeUnit.MILLISECONDS) + "ms"), NEWLINE_TEXT
+                        );
+                    }
+
+                    protected Text getSpawnerInfo(WorldServer worldserver) {
+                        final IMixinWorldEntitySpawner spawner = (IMixinWorldEntitySpawner) ((IMixinWorldServer) worldserver).getEntitySpawner();
+                        return Text.of(
+                                key("Spawn eligible chunks: "), value(spawner.getEligibleChunkCount()), NEWLINE_TEXT,
+                                key("Spawn pass time (avg / last / max): "), value(spawner.getAverageSpawnPassTime(TimeUnit.MICROSECONDS) + "us / "
+                                        + spawner.getLastSpawnPassTime(TimeUnit.MICROSECONDS) + "us / "
+                                        + spawner.getMaxSpawnPassTime(TimeUnit.MICROSECONDS) + "us"), NEWLINE_TEXT
+                        );
+                    }
+
+                    protected Text getChunkSaveInfo() {
+                        final SpongeChunkSaveExecutor saveExecutor = SpongeChunkSaveExecutor.getInstance();
+                        return Text.of(
+                                key("Pending chunk saves (all worlds): "), value(saveExecutor.getPendingChunkCount()), NEWLINE_TEXT,
+                                key("Chunk saves (written / stalls): "), value(saveExecutor.getWrittenChunkCount() + " / "
+                                        + saveExecutor.getStallCount()), NEWLINE_TEXT,
+                                key("Chunk save throughput: "), value(saveExecutor.getBytesPerSecond() / 1024 + "KiB/s"), NEWLINE_TEXT,
+                                key("Chunk flush time (last / max): "), value(saveExecutor.getLastFlushTime(TimeUnit.MILLISECONDS) + "ms / "
+                                        + saveExecutor.getMaxFlushTime(TimeUnit.MILLISECONDS) + "ms"), NEWLINE_TEXT
+                        );
+                    }
+
+                    protected Text getExplosionInfo() {
+                        if (!SpongeExplosionTracer.isEnabled()) {
+                            return Text.EMPTY;
+                        }
+                        final SpongeExplosionTracer tracer = SpongeExplosionTracer.getInstance();
+                        return Text.of(
+                                key("Traced explosions (all / parallel): "), value(tracer.getTracedExplosionCount() + " / "
+                                        + tracer.getParallelExplosionCount()), NEWLINE_TEXT,
+                                key("Explosion trace time (avg / last / max): "), value(tracer.getAverageTraceTime(TimeUnit.MICROSECONDS) + "us / "
+                                        + tracer.getLastTraceTime(TimeUnit.MICROSECONDS) + "us / "
+                                        + tracer.getMaxTraceTime(TimeUnit.MICROSECONDS) + "us"), NEWLINE_TEXT
                         );
                     }
                 })
@@ -715,6 +780,114 @@ private static CommandSpec createSpongeWhichCommand() {
                 .build();
     }
 
+    private static final Map<String, ToLongFunction<ListenerLatencyHistogram>> LATENCY_METRICS = ImmutableMap.of(
+            "p50", histogram -> histogram.getValueAtPercentile(50),
+            "p99", histogram -> histogram.getValueAtPercentile(99),
+            "total", ListenerLatencyHistogram::getTotalNanos);
+    private static final int DEFAULT_LISTENER_LIMIT = 10;
+
+    private static CommandSpec createSpongeListenersCommand() {
+        final CommandElement metricArguments = seq(
+                optionalWeak(choices(Text.of("metric"), LATENCY_METRICS)),
+                optional(integer(Text.of("limit"))));
+        return CommandSpec.builder()
+                .permission("sponge.command.listeners")
+                .description(Text.of("Lists the event listeners with the highest latencies"))
+                .arguments(metricArguments)
+                .executor((src, args) -> {
+                    if (!checkListenerLatencies(src)) {
+                        return CommandResult.empty();
+                    }
+                    final ToLongFunction<ListenerLatencyHistogram> metric = getLatencyMetric(args);
+                    final List<RegisteredListener<?>> listeners = ((SpongeEventManager) Sponge.getEventManager())
+                            .getSlowestListeners(metric, getListenerLimit(args));
+                    src.sendMessage(title("Slowest listeners:"));
+                    for (RegisteredListener<?> listener : listeners) {
+                        src.sendMessage(Text.of(LIST_ITEM_TEXT, hl(listener.getPlugin().getId()), " ",
+                                listener.getHandle().getClass().getSimpleName(), " (", listener.getEventType().getType().getSimpleName(), ") ",
+                                formatLatencies(listener.getLatencies())));
+                    }
+                    return CommandResult.success();
+                })
+                .child(CommandSpec.builder()
+                        .arguments(metricArguments)
+                        .executor((src, args) -> {
+                            if (!checkListenerLatencies(src)) {
+                                return CommandResult.empty();
+                            }
+                            final ToLongFunction<ListenerLatencyHistogram> metric = getLatencyMetric(args);
+                            src.sendMessage(title("Slowest plugins:"));
+                            ((SpongeEventManager) Sponge.getEventManager()).getPluginLatencies().entrySet().stream()
+                                    .sorted(Comparator.comparingLong((Map.Entry<PluginContainer, ListenerLatencyHistogram> entry) ->
+                                            metric.applyAsLong(entry.getValue())).reversed())
+                                    .limit(getListenerLimit(args))
+                                    .forEach(entry -> src.sendMessage(Text.of(LIST_ITEM_TEXT, hl(entry.getKey().getId()), " ",
+                                            formatLatencies(entry.getValue()))));
+                            return CommandResult.success();
+                        })
+                        .build(), "plugins")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            ((SpongeEventManager) Sponge.getEventManager()).resetListenerLatencies();
+                            src.sendMessage(Text.of("Listener latencies reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            RegisteredListener.setRecordingLatencies(true);
+                            src.sendMessage(Text.of("Enabled listener latencies"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            RegisteredListener.setRecordingLatencies(false);
+                            src.sendMessage(Text.of("Disabled listener latencies"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .build();
+    }
+
+    private static boolean checkListenerLatencies(CommandSource src) {
+        if (!(Sponge.getEventManager() instanceof SpongeEventManager)) {
+            src.sendMessage(Text.of(TextColors.RED, "Listener latencies are not supported by the current event manager"));
+            return false;
+        }
+        if (!RegisteredListener.isRecordingLatencies()) {
+            src.sendMessage(Text.of("Listener latencies are not being recorded, enable them by typing /sponge listeners on"));
+        }
+        return true;
+    }
+
+    private static ToLongFunction<ListenerLatencyHistogram> getLatencyMetric(CommandContext args) {
+        return args.<ToLongFunction<ListenerLatencyHistogram>>getOne("metric").orElse(LATENCY_METRICS.get("total"));
+    }
+
+    private static int getListenerLimit(CommandContext args) throws CommandException {
+        final int limit = args.<Integer>getOne("limit").orElse(DEFAULT_LISTENER_LIMIT);
+        if (limit < 1) {
+            throw new CommandException(Text.of("The limit must be at least 1"), true);
+        }
+        return limit;
+    }
+
+    private static Text formatLatencies(@Nullable ListenerLatencyHistogram histogram) {
+        if (histogram == null) {
+            return Text.EMPTY;
+        }
+        return Text.of("calls: ", histogram.getCount(),
+                ", p50: ", TextColors.RED, formatNanos(histogram.getValueAtPercentile(50)), TextColors.RESET,
+                ", p99: ", TextColors.RED, formatNanos(histogram.getValueAtPercentile(99)), TextColors.RESET,
+                ", max: ", formatNanos(histogram.getMaxNanos()),
+                ", total: ", TextColors.LIGHT_PURPLE, formatNanos(histogram.getTotalNanos()));
+    }
+
+    private static String formatNanos(long nanos) {
+        return THREE_DECIMAL_DIGITS_FORMATTER.format(nanos * 1.0e-6d) + "ms";
+    }
+
     private static CommandSpec createSpongeTpsCommand() {
         return CommandSpec.builder()
                 .permission("sponge.command.tps")
@@ -0,0 +1,54 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class AsyncChunkLoadingCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', chunks requested by players are read from disk asynchronously.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for reading and decoding chunks from disk. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "max-load-time", comment = "The maximum time in milliseconds the server thread spends each tick on adding \n"
+                                              + "asynchronously read chunks to the world. At least one chunk is added per tick. (Default: 10)")
+    private int maxLoadTime = 10;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public int getMaxLoadTime() {
+        return this.maxLoadTime;
+    }
+}
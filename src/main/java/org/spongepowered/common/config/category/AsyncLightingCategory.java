@@ -33,7 +33,8 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "enabled", comment = "If 'true', lighting updates are run asynchronously.")
     private boolean enabled = true;
 
-    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous lighting updates. (Default: 2)")
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous lighting updates. Light updates are \n"
+                                            + "batched per tick and each thread lights one region of chunks at a time. (Default: 2)")
     private int numAsyncThreads = 2;
 
     public boolean isEnabled() {
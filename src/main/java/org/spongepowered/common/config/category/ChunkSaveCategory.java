@@ -0,0 +1,49 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkSaveCategory extends ConfigCategory {
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for writing chunks to disk. Pending chunk writes are \n"
+                                            + "sharded by region file, each thread writes the chunks of its own region files. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "max-pending-chunks", comment = "The maximum amount of chunks that may be waiting to be written to disk. When reached, \n"
+                                                   + "the server thread waits for the writers to catch up before queueing more chunks. \n"
+                                                   + "Repeated saves of a chunk that is still waiting count once. Set to 0 to disable. (Default: 8192)")
+    private int maxPendingChunks = 8192;
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public int getMaxPendingChunks() {
+        return this.maxPendingChunks;
+    }
+}
@@ -33,6 +33,9 @@ public class GlobalGeneralCategory extends GeneralCategory {
     @Setting(value = "file-io-thread-sleep", comment = "If 'true', sleeping between chunk saves will be enabled, beware of memory issues.")
     private boolean fileIOThreadSleep = false;
 
+    @Setting(value = "chunk-save", comment = "Configuration options related to writing chunks to disk.")
+    private ChunkSaveCategory chunkSave = new ChunkSaveCategory();
+
     public GlobalGeneralCategory() {
         
     }
@@ -40,4 +43,8 @@ public GlobalGeneralCategory() {
     public boolean getFileIOThreadSleep() {
         return this.fileIOThreadSleep;
     }
+
+    public ChunkSaveCategory getChunkSave() {
+        return this.chunkSave;
+    }
 }
@@ -57,11 +57,35 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "async-chunk-loading", comment = "Reads and decodes chunks requested by players asynchronously, only adding \n"
+                                                    + "them to the world happens on the server thread.")
+    private AsyncChunkLoadingCategory asyncChunkLoadingCategory = new AsyncChunkLoadingCategory();
+
+    @Setting(value = "parallel-explosions", comment = "Traces explosion rays against a snapshot of the surrounding blocks and batches \n"
+                                                    + "the neighbor notifications of the blocks they destroy.")
+    private ParallelExplosionsCategory parallelExplosionsCategory = new ParallelExplosionsCategory();
+
+    @Setting(value = "entity-spatial-index", comment = "If 'true', keeps the entities of each chunk in a grid so entity collision and \n"
+                                                     + "bounding box lookups only check the entities close to the searched area. \n"
+                                                     + "The entity collision limits are applied while searching the grid. \n"
+                                                     + "Note: The found entities are ordered by grid cell instead of the order they were added \n"
+                                                     + "to the chunk, which changes for example which items hoppers pick up first and which \n"
+                                                     + "entities take cramming damage.")
+    private boolean entitySpatialIndex = false;
+
     @Setting(value = "panda-redstone", comment = "If 'true', uses Panda4494's redstone implementation which improves performance. \n"
                                                + "See https://bugs.mojang.com/browse/MC-11193 for more information. \n"
                                                + "Note: This optimization has a few issues which are explained in the bug report.")
     private boolean pandaRedstone = false;
 
+    @Setting(value = "bulk-block-worker", comment = "If 'true', block workers filling, mapping or merging into a world or chunk write \n"
+                                                  + "the blocks directly into the chunk sections while no plugin listens to block changes. \n"
+                                                  + "Note: No block physics, neighbor notifications or block owner and notifier tracking \n"
+                                                  + "are performed for the written blocks. Only the written chunk sections are resent \n"
+                                                  + "to players, so sky light changed in the sections below them may show wrong until \n"
+                                                  + "the chunk is resent.")
+    private boolean bulkBlockWorker = false;
+
     public OptimizationCategory() {  
         try {
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
@@ -97,7 +121,31 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public AsyncChunkLoadingCategory getAsyncChunkLoadingCategory() {
+        return this.asyncChunkLoadingCategory;
+    }
+
+    public boolean useAsyncChunkLoading() {
+        return this.asyncChunkLoadingCategory.isEnabled();
+    }
+
+    public ParallelExplosionsCategory getParallelExplosionsCategory() {
+        return this.parallelExplosionsCategory;
+    }
+
+    public boolean useParallelExplosions() {
+        return this.parallelExplosionsCategory.isEnabled();
+    }
+
+    public boolean useEntitySpatialIndex() {
+        return this.entitySpatialIndex;
+    }
+
     public boolean usePandaRedstone() {
         return this.pandaRedstone;
     }
+
+    public boolean useBulkBlockWorker() {
+        return this.bulkBlockWorker;
+    }
 }
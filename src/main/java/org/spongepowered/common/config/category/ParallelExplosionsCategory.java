@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ParallelExplosionsCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', explosion rays are traced against a snapshot of the blocks around the explosion, \n"
+                                        + "on multiple threads for large explosions. The neighbor notifications of the destroyed \n"
+                                        + "blocks are deferred until the explosion is done and sent once per neighbor. \n"
+                                        + "Explosions larger than a radius of about 10 are traced against the world like in vanilla, \n"
+                                        + "since snapshotting their area costs more than tracing their rays.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for tracing explosion rays. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "min-parallel-radius", comment = "The minimum radius of an explosion for its rays to be traced on multiple threads, \n"
+                                                    + "the rays of smaller explosions are traced on the server thread. (Default: 4.0)")
+    private float minParallelRadius = 4.0F;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public float getMinParallelRadius() {
+        return this.minParallelRadius;
+    }
+}
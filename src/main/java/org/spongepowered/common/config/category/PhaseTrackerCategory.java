@@ -69,6 +69,19 @@ public class PhaseTrackerCategory extends ConfigCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     private int maxRunawayCount = 3;
 
+    @Setting(value = "recycle-phase-contexts", comment = "If 'true', phase contexts created for entity, tile entity and block ticks \n"
+                                                       + "are recycled per thread once their phase completes, along with their \n"
+                                                       + "capture lists, instead of being allocated for every single tick. \n"
+                                                       + "Note: The capture lists are cleared when a context is recycled, so events or \n"
+                                                       + "plugins still holding on to captured data after the phase completed see it emptied.")
+    private boolean recyclePhaseContexts = false;
+
+    @Setting(value = "detect-phase-context-leaks", comment = "If 'true', recycled phase contexts record where they were released, \n"
+                                                           + "and any use of a context after its phase has completed will print \n"
+                                                           + "both the offending call and the point of release. Only useful for \n"
+                                                           + "debugging, as a stack trace is generated for every recycled context.")
+    private boolean detectPhaseContextLeaks = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -88,4 +101,12 @@ public boolean generateStackTracePerStateEntry() {
     public int getMaximumRunawayCount() {
         return this.maxRunawayCount;
     }
+
+    public boolean recyclePhaseContexts() {
+        return this.recyclePhaseContexts;
+    }
+
+    public boolean detectPhaseContextLeaks() {
+        return this.detectPhaseContextLeaks;
+    }
 }
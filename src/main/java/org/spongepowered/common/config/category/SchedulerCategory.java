@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-max-threads", comment = "The maximum amount of threads running asynchronous plugin tasks. \n"
+                                                  + "If '0', twice the amount of available processors is used, with a minimum of 4.")
+    private int maxAsyncThreads = 0;
+
+    @Setting(value = "async-plugin-concurrency", comment = "The maximum amount of asynchronous tasks a single plugin may run at the same time. \n"
+                                                         + "Further tasks of the plugin wait in its queue. If '0', a plugin may use the whole pool.")
+    private int pluginConcurrency = 0;
+
+    @Setting(value = "async-plugin-queue-limit", comment = "The maximum amount of asynchronous tasks of a single plugin waiting to be run. \n"
+                                                         + "Tasks submitted beyond this limit are rejected and logged. If '0', the queue is unbounded. \n"
+                                                         + "Only applies if 'async-plugin-concurrency' is above '0', as tasks never wait \n"
+                                                         + "in the queue of their plugin otherwise. A rejected repeating task runs again \n"
+                                                         + "at its next interval, a rejected one-shot task is cancelled.")
+    private int pluginQueueLimit = 0;
+
+    @Setting(value = "async-virtual-threads", comment = "If 'true', asynchronous tasks run on virtual threads instead of the bounded pool \n"
+                                                      + "when the Java runtime supports them. The per plugin limits still apply.")
+    private boolean useVirtualThreads = false;
+
+    public int getMaxAsyncThreads() {
+        if (this.maxAsyncThreads <= 0) {
+            return Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        }
+        return this.maxAsyncThreads;
+    }
+
+    public int getPluginConcurrency() {
+        return this.pluginConcurrency;
+    }
+
+    public int getPluginQueueLimit() {
+        return this.pluginQueueLimit;
+    }
+
+    public boolean useVirtualThreads() {
+        return this.useVirtualThreads;
+    }
+}
@@ -46,6 +46,9 @@ public class SpawnerCategory extends ConfigCategory {
     private int tickRateAquatic = 400;
     @Setting(value = "tick-rate-monster", comment = "The monster spawning tick rate. Default: 1")
     private int tickRateMonster = 1;
+    @Setting(value = "max-spawn-time", comment = "The maximum time in milliseconds the spawner spends each tick on spawning mobs \n"
+                                               + "in this world. Chunks left over resume on the next tick. Set to 0 to disable. Default: 0")
+    private int maxSpawnTime = 0;
 
     public SpawnerCategory() {
         
@@ -82,4 +85,8 @@ public int getAquaticTickRate() {
     public int getMonsterTickRate() {
         return this.tickRateMonster;
     }
+
+    public int getMaxSpawnTime() {
+        return this.maxSpawnTime;
+    }
 }
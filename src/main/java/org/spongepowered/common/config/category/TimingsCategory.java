@@ -51,6 +51,10 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "listener-latencies", comment = "If enabled, records a latency histogram for every event listener called on the \n"
+            + "main thread, which '/sponge listeners' reports the slowest listeners and plugins from.")
+    private boolean listenerLatencies = false;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +87,12 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
-}
\ No newline at end of file
+    public boolean isListenerLatencies() {
+        return this.listenerLatencies;
+    }
+
+    public void setListenerLatencies(boolean listenerLatencies) {
+        this.listenerLatencies = listenerLatencies;
+    }
+
+}
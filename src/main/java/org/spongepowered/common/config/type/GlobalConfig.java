@@ -39,6 +39,7 @@
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.MovementChecksCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
 import org.spongepowered.common.util.IpSet;
@@ -88,6 +89,9 @@ public class GlobalConfig extends GeneralConfigBase {
     @Setting("movement-checks")
     private MovementChecksCategory movementChecks = new MovementChecksCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the plugin task scheduler.")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -159,4 +163,8 @@ public MovementChecksCategory getMovementChecks() {
         return this.movementChecks;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
 }
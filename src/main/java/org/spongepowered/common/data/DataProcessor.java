@@ -57,6 +57,19 @@
 
     boolean supports(EntityType entityType);
 
+    /**
+     * Gets whether {@link #supports(DataHolder)} can be true for any instance
+     * of the given data holder class. This is used to narrow down the
+     * processors tried for the data holders of a class once, so this may only
+     * return false if no instance of the class can ever be supported.
+     *
+     * @param holderClass The class of the data holder
+     * @return False if no instances of the class are supported
+     */
+    default boolean canSupport(Class<?> holderClass) {
+        return true;
+    }
+
     /**
      * Attempts to get the given {@link DataManipulator} of type {@code T} if
      * and only if the manipulator's required data exists from the
@@ -123,10 +123,25 @@
 
 public class DataRegistrar {
 
-    @SuppressWarnings("unchecked")
     public static void setupSerialization() {
-        SpongeDataManager dataManager = SpongeDataManager.getInstance();
+        final SpongeDataManager dataManager = SpongeDataManager.getInstance();
+
+        // Each group is timed on its own for the data registration report. The groups stay on
+        // this thread: constructing the processors loads their classes through the launch class
+        // loader, which isn't parallel capable, and processors of the same priority are ordered
+        // by their registration.
+        DataRegistrationReport.time("builders", () -> registerBuilders(dataManager));
+        DataRegistrationReport.time("content updaters", () -> registerContentUpdaters(dataManager));
+        DataRegistrationReport.time("entity processors", DataRegistrar::registerEntityProcessors);
+        DataRegistrationReport.time("item processors", DataRegistrar::registerItemProcessors);
+        DataRegistrationReport.time("block processors", DataRegistrar::registerBlockProcessors);
+        DataRegistrationReport.time("tile entity processors", DataRegistrar::registerTileEntityProcessors);
+        DataRegistrationReport.time("value processors", DataRegistrar::registerValueProcessors);
+        DataRegistrationReport.time("property stores", DataRegistrar::registerPropertyStores);
+    }
 
+    @SuppressWarnings("unchecked")
+    private static void registerBuilders(SpongeDataManager dataManager) {
         // TileEntities
         dataManager.registerBuilder(Banner.class, new SpongeBannerBuilder());
         dataManager.registerBuilder(PatternLayer.class, new SpongePatternLayerBuilder());
@@ -182,7 +197,9 @@ public static void setupSerialization() {
         dataManager.registerBuilder(SpongePlayerData.class, new SpongePlayerData.Builder());
 
         dataManager.registerBuilder(GameProfile.class, new SpongeGameProfileBuilder());
+    }
 
+    private static void registerContentUpdaters(SpongeDataManager dataManager) {
         // Content Updaters
         dataManager.registerContentUpdater(BlockState.class, new SpongeBlockStateMetaContentUpdater());
         final InvisibilityDataAddVanishUpdater invisibilityUpdater = new InvisibilityDataAddVanishUpdater();
@@ -199,7 +216,9 @@ public static void setupSerialization() {
 
         // Content Updaters for Custom Data
         dataManager.registerContentUpdater(DataManipulator.class, new LegacyCustomDataClassContentUpdater());
+    }
 
+    private static void registerEntityProcessors() {
         // Data Manipulators
 
         DataUtil.registerDataProcessorAndImpl(DisplayNameData.class, SpongeDisplayNameData.class,
@@ -454,7 +473,9 @@ public static void setupSerialization() {
                 new SheepDyeColorDataProcessor());
         DataUtil.registerDualProcessor(DyeableData.class, SpongeDyeableData.class, ImmutableDyeableData.class, ImmutableSpongeDyeableData.class,
                 new WolfDyeColorDataProcessor());
+    }
 
+    private static void registerItemProcessors() {
         // Item Processors
 
         DataUtil.registerDualProcessor(FireworkEffectData.class, SpongeFireworkEffectData.class,
@@ -537,7 +558,9 @@ public static void setupSerialization() {
 
         DataUtil.registerDualProcessor(DyeableData.class, SpongeDyeableData.class, ImmutableDyeableData.class, ImmutableSpongeDyeableData.class, new
                 ItemDyeColorDataProcessor());
+    }
 
+    private static void registerBlockProcessors() {
         // Block Processors
 
         DataUtil.registerDualProcessor(DirtData.class, SpongeDirtData.class, ImmutableDirtData.class,
@@ -659,7 +682,9 @@ public static void setupSerialization() {
 
         DataUtil.registerDualProcessor(MoistureData.class, SpongeMoistureData.class, ImmutableMoistureData.class,
                 ImmutableSpongeMoistureData.class, new MoistureDataProcessor());
+    }
 
+    private static void registerTileEntityProcessors() {
         // TileEntity Processors
 
         DataUtil.registerDualProcessor(SkullData.class, SpongeSkullData.class, ImmutableSkullData.class,
@@ -727,7 +752,9 @@ public static void setupSerialization() {
 
         DataUtil.registerDualProcessor(DyeableData.class, SpongeDyeableData.class, ImmutableDyeableData.class, ImmutableSpongeDyeableData.class,
                 new BedDyeColorDataProcessor());
+    }
 
+    private static void registerValueProcessors() {
         // Values
 
         DataUtil.registerValueProcessor(Keys.FUSE_DURATION, new FuseDurationValueProcessor());
@@ -838,7 +865,9 @@ public static void setupSerialization() {
         DataUtil.registerValueProcessor(Keys.INVULNERABLE, new InvulnerableValueProcessor());
         DataUtil.registerValueProcessor(Keys.LAST_ATTACKER, new LastAttackerValueProcessor());
         DataUtil.registerValueProcessor(Keys.LAST_DAMAGE, new LastDamageValueProcessor());
+    }
 
+    private static void registerPropertyStores() {
         // Properties
         final PropertyRegistry propertyRegistry = Sponge.getPropertyRegistry();
 
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.logging.log4j.Level;
+import org.spongepowered.asm.util.PrettyPrinter;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long every group of the data registration and the phases of
+ * the registry bake take at startup, so regressions in the startup time
+ * can be tracked. The breakdown is logged at debug level once the
+ * registration is finalized, or printed as a table with
+ * {@code -Dsponge.print_data_registration_times=true}.
+ */
+public final class DataRegistrationReport {
+
+    private static final boolean PRINT_REGISTRATION_TIMES = Boolean.parseBoolean(System.getProperty("sponge.print_data_registration_times"));
+
+    // Only ever touched from the startup thread
+    private static final Map<String, Long> groupTimes = new LinkedHashMap<>();
+
+    private DataRegistrationReport() {
+    }
+
+    /**
+     * Runs the registrations of a group and records how long they took.
+     *
+     * @param group The name of the group
+     * @param registrations The registrations
+     */
+    static void time(String group, Runnable registrations) {
+        final long start = System.nanoTime();
+        try {
+            registrations.run();
+        } finally {
+            groupTimes.merge(group, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    /**
+     * Gets the time in nanoseconds that every group took, in the order the
+     * groups were first run.
+     *
+     * @return The times of the groups
+     */
+    public static Map<String, Long> getGroupTimes() {
+        return ImmutableMap.copyOf(groupTimes);
+    }
+
+    static void report() {
+        final long total = groupTimes.values().stream().mapToLong(Long::longValue).sum();
+        if (PRINT_REGISTRATION_TIMES) {
+            final PrettyPrinter printer = new PrettyPrinter(60).add("Data Registration Times").centre().hr();
+            groupTimes.forEach((group, time) -> printer.add(" %-40s %8.2f ms", group, toMillis(time)));
+            printer.hr().add(" %-40s %8.2f ms", "total", toMillis(total));
+            printer.log(SpongeImpl.getLogger(), Level.INFO);
+        } else {
+            final StringJoiner joiner = new StringJoiner(", ");
+            groupTimes.forEach((group, time) -> joiner.add(String.format("%s %.2f ms", group, toMillis(time))));
+            SpongeImpl.getLogger().debug("Data registration took {} ms ({})", String.format("%.2f", toMillis(total)), joiner);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
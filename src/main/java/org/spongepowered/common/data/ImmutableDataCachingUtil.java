@@ -28,17 +28,29 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.cache.CacheStats;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.value.immutable.ImmutableSpongeBoundedValue;
+import org.spongepowered.common.data.value.immutable.ImmutableSpongeValue;
+import org.spongepowered.common.util.ReflectionUtil;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
 
 public final class ImmutableDataCachingUtil {
 
@@ -48,16 +60,67 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
         .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
+    // The constructors of the manipulators, found once per manipulator class
+    private static final Map<Class<?>, Constructor<?>> manipulatorConstructors = new ConcurrentHashMap<>();
+
+    // The factories of the value classes which don't need to be constructed reflectively
+    private static final Map<Class<?>, ValueFactory> valueFactories = new ConcurrentHashMap<>();
+    // Values served from the primitive tables, which bypass the value cache
+    private static final LongAdder primitiveHits = new LongAdder();
+
+    static {
+        //noinspection unchecked
+        registerValueFactory(ImmutableSpongeValue.class, (key, defaultValue, value, extraArgs) ->
+                new ImmutableSpongeValue<>(key, defaultValue, value));
+        registerValueFactory(ImmutableSpongeBoundedValue.class, (key, defaultValue, value, extraArgs) ->
+                new ImmutableSpongeBoundedValue<>(key, defaultValue, value, (Comparator<Object>) extraArgs[0], extraArgs[1], extraArgs[2]));
+    }
+
+    /**
+     * Registers a factory for the given value class which is used instead of
+     * constructing the values through reflection.
+     *
+     * @param valueClass The value class
+     * @param constructor The constructor of the values
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static void registerValueFactory(Class<? extends ImmutableValue> valueClass, ValueConstructor constructor) {
+        valueFactories.put(valueClass, new ValueFactory(constructor));
+    }
+
+    /**
+     * Gets the statistics of the manipulator cache.
+     *
+     * @return The manipulator cache statistics
+     */
+    public static CacheStats getManipulatorCacheStats() {
+        return manipulatorCache.stats();
+    }
+
+    /**
+     * Gets the statistics of the value cache, including the values that were
+     * served from the boolean and integer tables as hits.
+     *
+     * @return The value cache statistics
+     */
+    public static CacheStats getValueCacheStats() {
+        return valueCache.stats().plus(new CacheStats(primitiveHits.sum(), 0, 0, 0, 0, 0));
+    }
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,13 +138,13 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final CacheKey key = new CacheKey(immutableClass, null, null, null, args);
         // We can't really use the generic typing here because it's complicated...
         try {
             // Let's get the key
             return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
                     try {
-                        return createUnsafeInstance(immutableClass, args);
+                        return createManipulator(immutableClass, args);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                         SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
                                                      + Arrays.toString(args), e);
@@ -94,17 +157,53 @@ private ImmutableDataCachingUtil() {}
         }
     }
 
+    private static <T> T createManipulator(Class<T> immutableClass, Object[] args)
+            throws IllegalAccessException, InvocationTargetException, InstantiationException {
+        if (args == null) {
+            return createUnsafeInstance(immutableClass, (Object[]) null);
+        }
+        @SuppressWarnings("unchecked")
+        final Constructor<T> constructor = (Constructor<T>) manipulatorConstructors.get(immutableClass);
+        if (constructor != null && constructor.getParameterCount() == args.length) {
+            try {
+                return constructor.newInstance(args);
+            } catch (IllegalArgumentException e) {
+                // Another constructor is needed for these arguments
+            }
+        }
+        if (args.length != 0) {
+            try {
+                manipulatorConstructors.put(immutableClass, ReflectionUtil.findConstructor(immutableClass, args));
+            } catch (IllegalArgumentException e) {
+                // The arguments need to be unpacked, leave it to createUnsafeInstance
+            }
+        }
+        return createUnsafeInstance(immutableClass, args);
+    }
+
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final Object[] extra = extraArgs == null ? NO_ARGS : extraArgs;
+        final ValueFactory factory = valueFactories.get(valueClass);
+        if (factory != null) {
+            final ImmutableValue<?> value = factory.getPrimitive(usedKey, defaultArg, arg, extra);
+            if (value != null) {
+                primitiveHits.increment();
+                return (T) value;
+            }
+        }
+        final CacheKey key = new CacheKey(valueClass, usedKey, defaultArg, arg, extra);
         try {
             return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
+                    if (factory != null) {
+                        return factory.constructor.create((Key) usedKey, defaultArg, arg, extra);
+                    }
                     try {
-                        if (extraArgs == null || extraArgs.length == 0) {
+                        if (extra.length == 0) {
                             return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
                         }
-                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
+                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extra);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                         SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
                     }
@@ -115,15 +214,134 @@ public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T ge
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
+    /**
+     * Constructs a value of a specific value class.
+     */
+    @FunctionalInterface
+    public interface ValueConstructor {
+
+        ImmutableValue<?> create(Key<? extends BaseValue<Object>> key, Object defaultValue, Object value, Object[] extraArgs);
+
+    }
+
+    private static final class ValueFactory {
+
+        // Integers within this range are kept in the integer tables
+        private static final int MIN_TABLE_INT = -128;
+        private static final int MAX_TABLE_INT = 127;
+
+        final ValueConstructor constructor;
+        private final Map<Key<?>, PrimitiveTable> booleanTables = new ConcurrentHashMap<>();
+        private final Map<Key<?>, PrimitiveTable> intTables = new ConcurrentHashMap<>();
+
+        ValueFactory(ValueConstructor constructor) {
+            this.constructor = constructor;
+        }
+
+        /**
+         * Gets the value from the boolean or integer table of the key, if the
+         * value is a boolean or a small integer.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Nullable
+        ImmutableValue<?> getPrimitive(Key<?> key, Object defaultValue, Object value, Object[] extraArgs) {
+            final Map<Key<?>, PrimitiveTable> tables;
+            final int index;
+            if (value instanceof Boolean) {
+                tables = this.booleanTables;
+                index = (Boolean) value ? 1 : 0;
+            } else if (value instanceof Integer && (Integer) value >= MIN_TABLE_INT && (Integer) value <= MAX_TABLE_INT) {
+                tables = this.intTables;
+                index = (Integer) value - MIN_TABLE_INT;
             } else {
-                builder.append("{").append(object.toString()).append("}");
+                return null;
+            }
+            PrimitiveTable table = tables.get(key);
+            if (table == null) {
+                table = tables.computeIfAbsent(key, k -> new PrimitiveTable(defaultValue, extraArgs,
+                        tables == this.booleanTables ? 2 : MAX_TABLE_INT - MIN_TABLE_INT + 1));
+            }
+            // The table only holds the values of the first default and extra arguments it was
+            // used with, which for nearly all keys are the same on every call
+            if (!table.matches(defaultValue, extraArgs)) {
+                return null;
+            }
+            final ImmutableValue<?> cached = table.values.get(index);
+            if (cached != null) {
+                return cached;
+            }
+            // Racing threads may construct equal values, only one of them is kept
+            table.values.compareAndSet(index, null, this.constructor.create((Key) key, defaultValue, value, extraArgs));
+            return table.values.get(index);
+        }
+
+    }
+
+    private static final class PrimitiveTable {
+
+        private final Object defaultValue;
+        private final Object[] extraArgs;
+        final AtomicReferenceArray<ImmutableValue<?>> values;
+
+        PrimitiveTable(Object defaultValue, Object[] extraArgs, int size) {
+            this.defaultValue = defaultValue;
+            this.extraArgs = extraArgs.clone();
+            this.values = new AtomicReferenceArray<>(size);
+        }
+
+        boolean matches(Object defaultValue, Object[] extraArgs) {
+            return Objects.equals(this.defaultValue, defaultValue) && Arrays.equals(this.extraArgs, extraArgs);
+        }
+
+    }
+
+    /**
+     * The key of a cached manipulator or value, comparing the arguments by
+     * {@link Object#equals(Object)}.
+     */
+    private static final class CacheKey {
+
+        private final Class<?> type;
+        @Nullable private final Key<?> key;
+        @Nullable private final Object defaultValue;
+        @Nullable private final Object value;
+        private final Object[] args;
+        private final int hashCode;
+
+        CacheKey(Class<?> type, @Nullable Key<?> key, @Nullable Object defaultValue, @Nullable Object value, Object[] args) {
+            this.type = type;
+            this.key = key;
+            this.defaultValue = defaultValue;
+            this.value = value;
+            this.args = args;
+            int hashCode = type.hashCode();
+            hashCode = 31 * hashCode + Objects.hashCode(key);
+            hashCode = 31 * hashCode + Objects.hashCode(defaultValue);
+            hashCode = 31 * hashCode + Objects.hashCode(value);
+            this.hashCode = 31 * hashCode + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
             }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.hashCode == other.hashCode
+                    && this.type == other.type
+                    && Objects.equals(this.key, other.key)
+                    && Objects.equals(this.defaultValue, other.defaultValue)
+                    && Objects.equals(this.value, other.value)
+                    && Arrays.deepEquals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
         }
-        return builder.toString();
+
     }
 }
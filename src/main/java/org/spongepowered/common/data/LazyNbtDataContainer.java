@@ -0,0 +1,157 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataContainer} that wraps a {@link NBTTagCompound} and only
+ * translates the tags of the compound once they are accessed. Accessing a
+ * path translates the whole tag of the first part of the path, accessing
+ * the keys, values or the container as a whole translates everything.
+ *
+ * <p>The compound becomes owned by the container, translated tags are
+ * removed from it. Pass in a copy if the compound is still used elsewhere.
+ * </p>
+ */
+public class LazyNbtDataContainer extends CompactDataContainer {
+
+    @Nullable private NBTTagCompound compound;
+
+    public LazyNbtDataContainer(NBTTagCompound compound) {
+        super(DataView.SafetyMode.NO_DATA_CLONED);
+        this.compound = checkNotNull(compound, "compound");
+        if (compound.hasNoTags()) {
+            this.compound = null;
+        }
+    }
+
+    private void materialize(DataQuery path) {
+        final List<String> parts = path.getParts();
+        if (this.compound == null || parts.isEmpty()) {
+            return;
+        }
+        final String key = parts.get(0);
+        materialize(key);
+        materialize(key + NbtTranslator.BOOLEAN_IDENTIFER);
+    }
+
+    private void materialize(String key) {
+        final NBTBase base = this.compound == null ? null : this.compound.getTag(key);
+        if (base != null) {
+            this.compound.removeTag(key);
+            NbtTranslator.getInstance().addTo(key, base, this);
+            if (this.compound.hasNoTags()) {
+                this.compound = null;
+            }
+        }
+    }
+
+    @Override
+    void materialize() {
+        if (this.compound != null) {
+            final NBTTagCompound compound = this.compound;
+            this.compound = null;
+            for (String key : new ArrayList<>(compound.getKeySet())) {
+                NbtTranslator.getInstance().addTo(key, compound.getTag(key), this);
+            }
+        }
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        materialize();
+        return super.getKeys(deep);
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        materialize();
+        return super.getValues(deep);
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        materialize(checkNotNull(path, "path"));
+        return super.contains(path);
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        materialize(checkNotNull(path, "path"));
+        return super.get(path);
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        materialize(checkNotNull(path, "path"));
+        return super.set(path, value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        materialize(checkNotNull(path, "path"));
+        return super.remove(path);
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        materialize(checkNotNull(path, "path"));
+        return super.createView(path);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.compound == null && super.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        return super.toString();
+    }
+
+}
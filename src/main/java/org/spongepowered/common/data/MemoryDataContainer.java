@@ -62,6 +62,10 @@ public MemoryDataContainer(DataView.SafetyMode safety) {
         super(safety);
     }
 
+    MemoryDataContainer(DataView.SafetyMode safety, boolean compact) {
+        super(safety, compact);
+    }
+
     @Override
     public Optional<DataView> getParent() {
         return Optional.empty();
@@ -31,11 +31,29 @@
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
+import it.unimi.dsi.fastutil.booleans.BooleanLists;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteLists;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleLists;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatLists;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortLists;
 import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.Sponge;
@@ -67,26 +85,83 @@
  */
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    /**
+     * The single part queries of the keys of compact views, shared between
+     * all the compact views so every key only has one query and one string.
+     */
+    private static final LoadingCache<String, DataQuery> KEY_QUERIES = CacheBuilder.newBuilder()
+            .maximumSize(8192)
+            .build(new CacheLoader<String, DataQuery>() {
+                @Override
+                public DataQuery load(String key) {
+                    return of(key);
+                }
+            });
+
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
+    private final boolean compact;
 
     MemoryDataView(DataView.SafetyMode safety) {
+        this(safety, false);
+    }
+
+    MemoryDataView(DataView.SafetyMode safety, boolean compact) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = of();
         this.parent = this;
         this.container = (DataContainer) this;
         this.safety = checkNotNull(safety, "Safety mode");
+        this.compact = compact;
+        this.map = createMap(compact);
     }
 
-    private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
+    private MemoryDataView(MemoryDataView parent, DataQuery path, DataView.SafetyMode safety) {
         checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
         this.parent = parent;
         this.container = parent.getContainer();
         this.path = parent.getCurrentPath().then(path);
         this.safety = checkNotNull(safety, "Safety mode");
+        this.compact = parent.compact;
+        this.map = createMap(this.compact);
+    }
+
+    private static Map<String, Object> createMap(boolean compact) {
+        // Compact views store their entries flat in an open addressed table instead of
+        // allocating an entry node per key, most views only hold a handful of keys
+        return compact ? new Object2ObjectLinkedOpenHashMap<>(4) : Maps.newLinkedHashMap();
+    }
+
+    /**
+     * Gets whether this view stores its data in the compact form, see
+     * {@link CompactDataContainer}.
+     *
+     * @return Whether this view is compact
+     */
+    public boolean isCompact() {
+        return this.compact;
+    }
+
+    /**
+     * Ensures that all the data of this view is present in its map, for views
+     * that only create their data once it is accessed.
+     */
+    void materialize() {
+    }
+
+    private DataQuery keyQuery(String key) {
+        return this.compact ? KEY_QUERIES.getUnchecked(key) : of(key);
+    }
+
+    private String internKey(String key) {
+        return this.compact ? KEY_QUERIES.getUnchecked(key).getParts().get(0) : key;
+    }
+
+    private MemoryDataContainer createContainer(SafetyMode safety) {
+        return this.compact ? new CompactDataContainer(safety) : new MemoryDataContainer(safety);
     }
 
     @Override
@@ -115,13 +190,14 @@ public Set<DataQuery> getKeys(boolean deep) {
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
         for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
+            builder.add(keyQuery(entry.getKey()));
         }
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
+                    final DataQuery keyQuery = keyQuery(entry.getKey());
                     for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
+                        builder.add(keyQuery.then(query));
                     }
                 }
             }
@@ -144,7 +220,7 @@ public Map<DataQuery, Object> getValues(boolean deep) {
     }
 
     @Override
-    public final boolean contains(DataQuery path) {
+    public boolean contains(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
 
@@ -242,9 +318,9 @@ public DataView set(DataQuery path, Object value) {
         }
 
         List<String> parts = path.getParts();
-        String key = parts.get(0);
+        String key = internKey(parts.get(0));
         if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
+            DataQuery subQuery = keyQuery(key);
             Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
             DataView subView;
             if (!subViewOptional.isPresent()) {
@@ -313,6 +389,13 @@ public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void setCollection(String key, Collection<?> value) {
+        if (this.compact) {
+            final List<?> primitiveList = toPrimitiveList(value);
+            if (primitiveList != null) {
+                this.map.put(key, primitiveList);
+                return;
+            }
+        }
         ImmutableList.Builder<Object> builder = ImmutableList.builder();
         @Nullable DataManager manager;
 
@@ -327,7 +410,7 @@ private void setCollection(String key, Collection<?> value) {
                 builder.add(((DataSerializable) object).toContainer());
             } else if (object instanceof DataView) {
                 if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
-                    MemoryDataView view = new MemoryDataContainer(this.safety);
+                    MemoryDataView view = createContainer(this.safety);
                     DataView internalView = (DataView) object;
                     for (Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
                         view.set(entry.getKey(), entry.getValue());
@@ -362,6 +445,80 @@ private void setCollection(String key, Collection<?> value) {
         this.map.put(key, builder.build());
     }
 
+    /**
+     * Stores a non empty collection of which all the elements are of the
+     * same primitive wrapper type unboxed in an unmodifiable primitive list,
+     * which is still a {@link List} of the wrapper type for everything that
+     * reads it.
+     *
+     * @param value The collection
+     * @return The primitive list, or null if the collection can't be unboxed
+     */
+    @Nullable
+    private static List<?> toPrimitiveList(Collection<?> value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        final Class<?> type = value.iterator().next().getClass();
+        for (Object object : value) {
+            if (object.getClass() != type) {
+                return null;
+            }
+        }
+        final int size = value.size();
+        if (type == Integer.class) {
+            final int[] array = new int[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Integer) object;
+            }
+            return IntLists.unmodifiable(IntArrayList.wrap(array));
+        } else if (type == Long.class) {
+            final long[] array = new long[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Long) object;
+            }
+            return LongLists.unmodifiable(LongArrayList.wrap(array));
+        } else if (type == Double.class) {
+            final double[] array = new double[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Double) object;
+            }
+            return DoubleLists.unmodifiable(DoubleArrayList.wrap(array));
+        } else if (type == Float.class) {
+            final float[] array = new float[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Float) object;
+            }
+            return FloatLists.unmodifiable(FloatArrayList.wrap(array));
+        } else if (type == Short.class) {
+            final short[] array = new short[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Short) object;
+            }
+            return ShortLists.unmodifiable(ShortArrayList.wrap(array));
+        } else if (type == Byte.class) {
+            final byte[] array = new byte[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Byte) object;
+            }
+            return ByteLists.unmodifiable(ByteArrayList.wrap(array));
+        } else if (type == Boolean.class) {
+            final boolean[] array = new boolean[size];
+            int i = 0;
+            for (Object object : value) {
+                array[i++] = (Boolean) object;
+            }
+            return BooleanLists.unmodifiable(BooleanArrayList.wrap(array));
+        }
+        return null;
+    }
+
     @SuppressWarnings("rawtypes")
     private ImmutableList<Object> ensureSerialization(Collection<?> collection) {
         ImmutableList.Builder<Object> objectBuilder = ImmutableList.builder();
@@ -396,7 +553,7 @@ private ImmutableList<Object> ensureSerialization(Collection<?> collection) {
     }
 
     private void setMap(String key, Map<?, ?> value) {
-        DataView view = createView(of(key));
+        DataView view = createView(keyQuery(key));
         for (Map.Entry<?, ?> entry : value.entrySet()) {
             view.set(of(entry.getKey().toString()), entry.getValue());
         }
@@ -437,8 +594,8 @@ public DataView createView(DataQuery path) {
 
         checkArgument(sz != 0, "The size of the query must be at least 1");
 
-        String key = queryParts.get(0);
-        DataQuery keyQuery = of(key);
+        String key = internKey(queryParts.get(0));
+        DataQuery keyQuery = keyQuery(key);
 
         if (sz == 1) {
             DataView result = new MemoryDataView(this, keyQuery, this.safety);
@@ -448,7 +605,7 @@ public DataView createView(DataQuery path) {
         DataQuery subQuery = path.popFirst();
         DataView subView = (DataView) this.map.get(key);
         if (subView == null) {
-            subView = new MemoryDataView(this.parent, keyQuery, this.safety);
+            subView = new MemoryDataView(this, keyQuery, this.safety);
             this.map.put(key, subView);
         }
         return subView.createView(subQuery);
@@ -800,7 +957,7 @@ public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass)
 
     @Override
     public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer(this.safety);
+        final DataContainer container = createContainer(this.safety);
         getKeys(false)
             .forEach(query ->
                 get(query).ifPresent(obj ->
@@ -812,7 +969,7 @@ public DataContainer copy() {
 
     @Override
     public DataContainer copy(SafetyMode safety) {
-        final DataContainer container = new MemoryDataContainer(safety);
+        final DataContainer container = createContainer(safety);
         getKeys(false)
             .forEach(query ->
                 get(query).ifPresent(obj ->
@@ -842,10 +999,13 @@ public boolean equals(@Nullable Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null || getClass() != obj.getClass()) {
+        // Compact and regular views are interchangeable, only the storage differs
+        if (!(obj instanceof MemoryDataView) || (obj instanceof DataContainer) != (this instanceof DataContainer)) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
+        materialize();
+        other.materialize();
 
         return Objects.equal(this.map.entrySet(), other.map.entrySet())
                && Objects.equal(this.path, other.path);
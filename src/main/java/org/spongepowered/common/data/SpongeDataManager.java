@@ -217,6 +217,7 @@ public static void finalizeRegistration() {
         allowRegistrations = false;
         SpongeManipulatorRegistry.getInstance().bake();
         KeyRegistryModule.getInstance().registerKeyListeners();
+        DataRegistrationReport.report();
     }
 
     @Override
@@ -63,6 +63,7 @@
 import org.spongepowered.common.registry.type.data.KeyRegistryModule;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -72,7 +73,9 @@
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -87,11 +90,12 @@ public static SpongeManipulatorRegistry getInstance() {
     }
 
     private final Map<Class<? extends DataManipulator<?, ?>>, Class<? extends DataManipulator<?, ?>>> interfaceToImplDataManipulatorClasses = new IdentityHashMap<>();
-    private final Map<Class<? extends DataManipulator<?, ?>>, DataProcessorDelegate<?, ?>> dataProcessorDelegates =  new IdentityHashMap<>();
-    private final Map<Class<? extends ImmutableDataManipulator<?, ?>>, DataProcessorDelegate<?, ?>> immutableDataProcessorDelegates =  new IdentityHashMap<>();
+    // These will be replaced with immutable variants on #bake()
+    private Map<Class<? extends DataManipulator<?, ?>>, DataProcessorDelegate<?, ?>> dataProcessorDelegates = ImmutableMap.of();
+    private Map<Class<? extends ImmutableDataManipulator<?, ?>>, DataProcessorDelegate<?, ?>> immutableDataProcessorDelegates = ImmutableMap.of();
     private ImmutableTable<Class<? extends DataManipulator<?, ?>>, NbtDataType, NbtDataProcessor<?, ?>> nbtProcessorTable = ImmutableTable.of();
     private ImmutableTable<Key<?>, NbtDataType, NbtValueProcessor<?, ?>> nbtValueTable = ImmutableTable.of();
-    private final Map<Key<? extends BaseValue<?>>, ValueProcessorDelegate<?, ?>> valueDelegates = new IdentityHashMap<>();
+    private Map<Key<? extends BaseValue<?>>, ValueProcessorDelegate<?, ?>> valueDelegates = ImmutableMap.of();
 
     // This will be replaced with an immutable variant on #bake()
     private Multimap<PluginContainer, DataRegistration<?, ?>> pluginBasedRegistrations = ImmutableMultimap.of();
@@ -162,6 +166,15 @@ private static final class TemporaryRegistry {
         private final ConcurrentSkipListSet<SpongeDataRegistration<?, ?>> registrations = new ConcurrentSkipListSet<>(
             Comparator.comparing(DataRegistration::getId));
 
+        // Delegates handed out before the bake, dropped whenever a processor is registered for their target
+        private final Map<Class<?>, DataProcessorDelegate<?, ?>> delegateCache = new MapMaker()
+            .concurrencyLevel(4)
+            .makeMap();
+
+        private final Map<Key<?>, ValueProcessorDelegate<?, ?>> valueDelegateCache = new MapMaker()
+            .concurrencyLevel(4)
+            .makeMap();
+
     }
 
     private SpongeManipulatorRegistry() {
@@ -270,6 +283,10 @@ public <M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M
         checkArgument(!immutableProcessorList.contains(processor), "Duplicate DataProcessor Registration!");
         immutableProcessorList.add(processor);
 
+        this.tempRegistry.delegateCache.remove(manipulatorClass);
+        this.tempRegistry.delegateCache.remove(implClass);
+        this.tempRegistry.delegateCache.remove(immutableDataManipulator);
+        this.tempRegistry.delegateCache.remove(implImClass);
         return this;
     }
 
@@ -283,18 +300,28 @@ public <E, V extends BaseValue<E>> void registerValueProcessor(Key<V> key, Value
             this.tempRegistry.valueProcessorMap.computeIfAbsent(key, k -> Collections.synchronizedList(Lists.newArrayList()));
         checkArgument(!processorList.contains(valueProcessor), "Duplicate ValueProcessor registration!");
         processorList.add(valueProcessor);
+        this.tempRegistry.valueDelegateCache.remove(key);
     }
 
     @SuppressWarnings("SuspiciousMethodCalls")
     @Nullable
     public DataProcessor<?, ?> getDelegate(Class<?> mClass) {
-        if (this.tempRegistry != null) {
+        final TemporaryRegistry registry = this.tempRegistry;
+        if (registry != null) {
             // During soft registrations
-            if (DataManipulator.class.isAssignableFrom(mClass)) {
-                return new DataProcessorDelegate(ImmutableList.copyOf(this.tempRegistry.processorMap.get(mClass)));
-            } else {
-                return new DataProcessorDelegate(ImmutableList.copyOf(this.tempRegistry.immutableProcessorMap.get(mClass)));
+            final DataProcessorDelegate<?, ?> cached = registry.delegateCache.get(mClass);
+            if (cached != null) {
+                return cached;
             }
+            final List<DataProcessor<?, ?>> processors = DataManipulator.class.isAssignableFrom(mClass)
+                ? registry.processorMap.get(mClass)
+                : registry.immutableProcessorMap.get(mClass);
+            if (processors == null) {
+                return null;
+            }
+            final DataProcessorDelegate<?, ?> delegate = new DataProcessorDelegate(ImmutableList.copyOf(processors));
+            registry.delegateCache.put(mClass, delegate);
+            return delegate;
         }
         return DataManipulator.class.isAssignableFrom(mClass)
                ? this.dataProcessorDelegates.get(mClass)
@@ -303,9 +330,20 @@ public <E, V extends BaseValue<E>> void registerValueProcessor(Key<V> key, Value
 
     @Nullable
     public ValueProcessor<?, ?> getDelegate(Key<?> key) {
-        if (this.tempRegistry != null) {
+        final TemporaryRegistry registry = this.tempRegistry;
+        if (registry != null) {
             // During soft registrations
-            return new ValueProcessorDelegate(key, ImmutableList.copyOf(this.tempRegistry.valueProcessorMap.get(key)));
+            final ValueProcessorDelegate<?, ?> cached = registry.valueDelegateCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            final List<ValueProcessor<?, ?>> processors = registry.valueProcessorMap.get(key);
+            if (processors == null) {
+                return null;
+            }
+            final ValueProcessorDelegate<?, ?> delegate = new ValueProcessorDelegate(key, ImmutableList.copyOf(processors));
+            registry.valueDelegateCache.put(key, delegate);
+            return delegate;
         }
         return this.valueDelegates.get(key);
     }
@@ -330,26 +368,21 @@ public <E, V extends BaseValue<E>> void registerValueProcessor(Key<V> key, Value
 
     void bake() {
         checkState(this.tempRegistry != null);
+        final TemporaryRegistry registry = this.tempRegistry;
         // ValueProcessors
-        this.tempRegistry.valueProcessorMap.forEach((key, value) -> {
-            ImmutableList.Builder<ValueProcessor<?, ?>> valueListBuilder = ImmutableList.builder();
-            value.sort(ComparatorUtil.VALUE_PROCESSOR_COMPARATOR);
-            valueListBuilder.addAll(value);
-            final ValueProcessorDelegate<?, ?> delegate = new ValueProcessorDelegate(key, valueListBuilder.build());
-            this.valueDelegates.put(key, delegate);
-        });
+        DataRegistrationReport.time("bake value delegates", () -> this.valueDelegates = bakeDelegates(registry.valueProcessorMap,
+            ComparatorUtil.VALUE_PROCESSOR_COMPARATOR, (key, processors) -> new ValueProcessorDelegate(key, processors)));
         // DataProcessors
-        this.tempRegistry.processorMap.forEach((key, value) -> {
-            ImmutableList.Builder<DataProcessor<?, ?>> dataListBuilder = ImmutableList.builder();
-            value.sort(ComparatorUtil.DATA_PROCESSOR_COMPARATOR);
-            dataListBuilder.addAll(value);
-            final DataProcessorDelegate<?, ?> delegate = new DataProcessorDelegate(dataListBuilder.build());
-            this.dataProcessorDelegates.put(key, delegate);
+        DataRegistrationReport.time("bake data delegates", () -> {
+            this.dataProcessorDelegates = bakeDelegates(registry.processorMap, ComparatorUtil.DATA_PROCESSOR_COMPARATOR,
+                (key, processors) -> new DataProcessorDelegate(processors));
+            this.immutableDataProcessorDelegates = bakeDelegates(registry.immutableProcessorMap, ComparatorUtil.DATA_PROCESSOR_COMPARATOR,
+                (key, processors) -> new DataProcessorDelegate(processors));
         });
         SpongeDataManager manager = SpongeDataManager.getInstance();
 
         // DataManipulatorBuilders part 2 (Have to register them back for serialization stuff
-        this.dataProcessorDelegates.forEach((key, value) -> {
+        DataRegistrationReport.time("bake manipulator builders", () -> this.dataProcessorDelegates.forEach((key, value) -> {
             if (!Modifier.isInterface(key.getModifiers()) && !Modifier.isAbstract(key.getModifiers())) {
                 DataFunction<DataContainer, DataManipulator, Optional<? extends DataManipulator<?, ?>>> function =
                     ((DataProcessor) value)::fill;
@@ -364,19 +397,11 @@ void bake() {
                 manager.builderMap.put(key, checkNotNull(builder));
                 manager.registerBuilder(key, builder);
             }
-        });
+        }));
 
-        // Immutable DataProcessors
-        this.tempRegistry.immutableProcessorMap.forEach((key, value) -> {
-            ImmutableList.Builder<DataProcessor<?, ?>> dataListBuilder = ImmutableList.builder();
-            value.sort(ComparatorUtil.DATA_PROCESSOR_COMPARATOR);
-            dataListBuilder.addAll(value);
-            final DataProcessorDelegate<?, ?> delegate = new DataProcessorDelegate(dataListBuilder.build());
-            this.immutableDataProcessorDelegates.put(key, delegate);
-        });
         // NBT processors
         ImmutableTable.Builder<Class<? extends DataManipulator<?, ?>>, NbtDataType, NbtDataProcessor<?, ?>> builder = ImmutableTable.builder();
-        this.tempRegistry.nbtProcessorMap.forEach((key, value) -> {
+        registry.nbtProcessorMap.forEach((key, value) -> {
             final HashMultimap<NbtDataType, NbtDataProcessor<?, ?>> processorMultimap = HashMultimap.create();
             for (NbtDataProcessor<?, ?> nbtDataProcessor : value) {
                 processorMultimap.put(nbtDataProcessor.getTargetType(), nbtDataProcessor);
@@ -395,7 +420,7 @@ void bake() {
         ImmutableMap.Builder<Class<? extends ImmutableDataManipulator<?, ?>>, DataRegistration<?, ?>> immutableBuilder = ImmutableMap.builder();
         ImmutableMap.Builder<String, DataRegistration<?, ?>> idBuilder = ImmutableMap.builder();
         ImmutableMultimap.Builder<PluginContainer, DataRegistration<?, ?>> pluginBuilder = ImmutableMultimap.builder();
-        this.tempRegistry.registrations.forEach(registration -> {
+        registry.registrations.forEach(registration -> {
                 registrationBuilder.add(registration);
                 manipulatorBuilder.put(registration.getManipulatorClass(), registration);
                 if (!registration.getImplementationClass().equals(registration.getManipulatorClass())) {
@@ -425,4 +450,37 @@ void bake() {
 
         this.tempRegistry = null; // Finalizes the registration by setting the temporary object to null
     }
+
+    /**
+     * Builds the delegates for all the registered processor lists in parallel. The
+     * manipulator interfaces and their implementations share a single processor list,
+     * so each distinct list is only sorted and wrapped once and the resulting delegate
+     * is shared between all the keys that refer to it.
+     *
+     * @param processorMap The processor lists per key
+     * @param comparator The comparator to order the processors by priority
+     * @param delegateFactory The factory to create a delegate for a sorted list
+     * @return The immutable delegate lookup
+     */
+    private static <K, P, D> ImmutableMap<K, D> bakeDelegates(Map<K, List<P>> processorMap, Comparator<? super P> comparator,
+        BiFunction<K, ImmutableList<P>, D> delegateFactory) {
+        final Map<List<P>, K> firstKeys = new IdentityHashMap<>();
+        processorMap.forEach((key, processors) -> firstKeys.putIfAbsent(processors, key));
+        final List<Map.Entry<List<P>, K>> entries = new ArrayList<>(firstKeys.entrySet());
+        final Object[] delegates = new Object[entries.size()];
+        IntStream.range(0, delegates.length).parallel().forEach(index -> {
+            final Map.Entry<List<P>, K> entry = entries.get(index);
+            // Sort a copy, the registered lists are shared between keys and are left untouched
+            final List<P> sorted = new ArrayList<>(entry.getKey());
+            sorted.sort(comparator);
+            delegates[index] = delegateFactory.apply(entry.getValue(), ImmutableList.copyOf(sorted));
+        });
+        final Map<List<P>, D> delegatesByList = new IdentityHashMap<>();
+        for (int i = 0; i < delegates.length; i++) {
+            delegatesByList.put(entries.get(i).getKey(), (D) delegates[i]);
+        }
+        final ImmutableMap.Builder<K, D> builder = ImmutableMap.builder();
+        processorMap.forEach((key, processors) -> builder.put(key, delegatesByList.get(processors)));
+        return builder.build();
+    }
 }
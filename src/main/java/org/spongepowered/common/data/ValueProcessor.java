@@ -139,6 +139,19 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Gets whether {@link #supports(ValueContainer)} can be true for any
+     * instance of the given container class. This is used to narrow down the
+     * processors tried for the containers of a class once, so this may only
+     * return false if no instance of the class can ever be supported.
+     *
+     * @param containerClass The class of the value container
+     * @return False if no instances of the class are supported
+     */
+    default boolean canSupport(Class<?> containerClass) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
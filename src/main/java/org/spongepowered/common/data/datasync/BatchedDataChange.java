@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.datasync;
+
+import net.minecraft.network.datasync.DataParameter;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+
+import java.util.List;
+
+/**
+ * A change of a {@link DataParameter} made during a change batch of an
+ * entity data manager, of which the event is fired once the batch finishes.
+ *
+ * @param <E> The type of the value
+ */
+public final class BatchedDataChange<E> {
+
+    private final DataParameter<E> parameter;
+    private final DataParameterConverter<E> converter;
+    private final E originalValue;
+    private DataTransactionResult transaction;
+
+    public BatchedDataChange(DataParameter<E> parameter, DataParameterConverter<E> converter, E originalValue,
+            DataTransactionResult transaction) {
+        this.parameter = parameter;
+        this.converter = converter;
+        this.originalValue = originalValue;
+        this.transaction = transaction;
+    }
+
+    public DataParameter<E> getParameter() {
+        return this.parameter;
+    }
+
+    public DataParameterConverter<E> getConverter() {
+        return this.converter;
+    }
+
+    /**
+     * Gets the value the parameter had before the batch started.
+     *
+     * @return The original value
+     */
+    public E getOriginalValue() {
+        return this.originalValue;
+    }
+
+    public DataTransactionResult getTransaction() {
+        return this.transaction;
+    }
+
+    public void setTransaction(DataTransactionResult transaction) {
+        this.transaction = transaction;
+    }
+
+    /**
+     * Gets the value to apply from the end result of the batch event.
+     *
+     * @param currentValue The value the parameter has now
+     * @param immutableValues The successful data of the event
+     * @return The value to apply
+     */
+    public E getValueFromEvent(E currentValue, List<ImmutableValue<?>> immutableValues) {
+        try {
+            return this.converter.getValueFromEvent(this.originalValue, immutableValues);
+        } catch (Exception e) {
+            // Worst case scenario, we don't want to cause an issue, so we keep the value
+            return currentValue;
+        }
+    }
+
+}
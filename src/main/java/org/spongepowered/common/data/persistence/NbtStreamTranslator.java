@@ -0,0 +1,352 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.CompactDataContainer;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Translates between the binary NBT format and {@link DataView}s directly,
+ * without building an intermediate {@link net.minecraft.nbt.NBTTagCompound}
+ * tree. The data that is read and written is identical to what the
+ * {@link NbtTranslator} and {@link net.minecraft.nbt.CompressedStreamTools}
+ * produce together.
+ */
+public final class NbtStreamTranslator {
+
+    /**
+     * The maximum depth of nested tags, the same as the vanilla limit.
+     */
+    private static final int MAX_DEPTH = 512;
+
+    private NbtStreamTranslator() {
+    }
+
+    /**
+     * Reads a root compound tag from the uncompressed input.
+     *
+     * @param input The input
+     * @return The container with the data of the compound
+     * @throws IOException If the input couldn't be read or isn't valid NBT
+     */
+    public static DataContainer read(DataInput input) throws IOException {
+        checkNotNull(input, "input");
+        final byte type = input.readByte();
+        if (type != NbtDataUtil.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+        final DataContainer container = new CompactDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        readCompound(input, container, 0);
+        return container;
+    }
+
+    /**
+     * Reads a root compound tag from the gzip compressed input, closing the
+     * input afterwards.
+     *
+     * @param input The input
+     * @return The container with the data of the compound
+     * @throws IOException If the input couldn't be read or isn't valid NBT
+     */
+    public static DataContainer readCompressed(InputStream input) throws IOException {
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new GZIPInputStream(input)))) {
+            return read(dis);
+        }
+    }
+
+    /**
+     * Writes the view as an unnamed root compound tag to the uncompressed
+     * output.
+     *
+     * @param view The view to write
+     * @param output The output
+     * @throws IOException If the output couldn't be written
+     */
+    public static void write(DataView view, DataOutput output) throws IOException {
+        checkNotNull(view, "view");
+        checkNotNull(output, "output");
+        output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        output.writeUTF("");
+        writeView(view, output);
+    }
+
+    /**
+     * Writes the view as an unnamed root compound tag to the gzip compressed
+     * output, closing the output afterwards.
+     *
+     * @param view The view to write
+     * @param output The output
+     * @throws IOException If the output couldn't be written
+     */
+    public static void writeCompressed(DataView view, OutputStream output) throws IOException {
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output)))) {
+            write(view, dos);
+        }
+    }
+
+    private static void readCompound(DataInput input, DataView view, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            final String key = input.readUTF();
+            switch (type) {
+                case NbtDataUtil.TAG_BYTE:
+                    if (key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                        view.set(of(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, "")), input.readByte() != 0);
+                    } else {
+                        view.set(of(key), input.readByte());
+                    }
+                    break;
+                case NbtDataUtil.TAG_COMPOUND:
+                    // Read straight into the child view, there is no need to create a
+                    // separate container which would be copied into this view anyways
+                    readCompound(input, view.createView(of(key)), depth + 1);
+                    break;
+                default:
+                    view.set(of(key), readPayload(input, type, depth + 1));
+                    break;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readPayload(DataInput input, byte type, int depth) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return input.readByte();
+            case NbtDataUtil.TAG_SHORT:
+                return input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return input.readInt();
+            case NbtDataUtil.TAG_LONG:
+                return input.readLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return input.readFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return input.readDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[input.readInt()];
+                input.readFully(array);
+                return array;
+            }
+            case NbtDataUtil.TAG_STRING:
+                return input.readUTF();
+            case NbtDataUtil.TAG_LIST: {
+                if (depth > MAX_DEPTH) {
+                    throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+                }
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                if (listType == NbtDataUtil.TAG_END && count > 0) {
+                    throw new IOException("Missing type on ListTag");
+                }
+                final List list = Lists.newArrayListWithCapacity(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readPayload(input, listType, depth + 1));
+                }
+                return list;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                final DataContainer container = new CompactDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+                readCompound(input, container, depth);
+                return container;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                final int[] array = new int[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void writeView(DataView view, DataOutput output) throws IOException {
+        for (DataQuery query : view.getKeys(false)) {
+            final Object value = view.get(query).get();
+            final String key = query.asString('.');
+            if (value instanceof Boolean) {
+                writeNamedTag(key + NbtTranslator.BOOLEAN_IDENTIFER, value, output);
+            } else {
+                writeNamedTag(key, value, output);
+            }
+        }
+        output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    private static void writeNamedTag(String key, Object value, DataOutput output) throws IOException {
+        output.writeByte(getType(value));
+        output.writeUTF(key);
+        writePayload(value, output);
+    }
+
+    /**
+     * Gets the NBT type the value is written as, matching the tags that the
+     * {@link NbtTranslator} creates for it.
+     */
+    private static byte getType(Object value) {
+        checkNotNull(value);
+        if (value instanceof Boolean || value instanceof Byte) {
+            return NbtDataUtil.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return NbtDataUtil.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return NbtDataUtil.TAG_INT;
+        } else if (value instanceof Long) {
+            return NbtDataUtil.TAG_LONG;
+        } else if (value instanceof Float) {
+            return NbtDataUtil.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return NbtDataUtil.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return NbtDataUtil.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return NbtDataUtil.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return NbtDataUtil.TAG_INT_ARRAY;
+        } else if (value instanceof List) {
+            return NbtDataUtil.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return NbtDataUtil.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writePayload(Object value, DataOutput output) throws IOException {
+        if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            final byte[] array = (byte[]) value;
+            output.writeInt(array.length);
+            output.write(array);
+        } else if (value instanceof Byte[]) {
+            final Byte[] array = (Byte[]) value;
+            output.writeInt(array.length);
+            for (Byte data : array) {
+                output.writeByte(data);
+            }
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            output.writeInt(array.length);
+            for (int data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof Integer[]) {
+            final Integer[] array = (Integer[]) value;
+            output.writeInt(array.length);
+            for (Integer data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof List) {
+            writeList((List<?>) value, output);
+        } else if (value instanceof Map) {
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                if (entry.getKey() instanceof DataQuery) {
+                    final String key = ((DataQuery) entry.getKey()).asString('.');
+                    if (entry.getValue() instanceof Boolean) {
+                        writeNamedTag(key + NbtTranslator.BOOLEAN_IDENTIFER, entry.getValue(), output);
+                    } else {
+                        writeNamedTag(key, entry.getValue(), output);
+                    }
+                } else {
+                    writeNamedTag(entry.getKey().toString(), entry.getValue(), output);
+                }
+            }
+            output.writeByte(NbtDataUtil.TAG_END);
+        } else if (value instanceof DataSerializable) {
+            writeView(((DataSerializable) value).toContainer(), output);
+        } else if (value instanceof DataView) {
+            writeView((DataView) value, output);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+        }
+    }
+
+    private static void writeList(List<?> list, DataOutput output) throws IOException {
+        if (list.isEmpty()) {
+            output.writeByte(NbtDataUtil.TAG_END);
+            output.writeInt(0);
+            return;
+        }
+        // A list tag only holds elements of the type of its first element, the
+        // other elements are skipped just like NBTTagList#appendTag does
+        final byte listType = getType(list.get(0));
+        int count = 0;
+        for (Object element : list) {
+            if (getType(element) == listType) {
+                count++;
+            }
+        }
+        output.writeByte(listType);
+        output.writeInt(count);
+        for (Object element : list) {
+            if (getType(element) == listType) {
+                writePayload(element, output);
+            }
+        }
+    }
+}
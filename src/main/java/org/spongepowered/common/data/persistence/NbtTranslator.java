@@ -312,6 +312,19 @@ public DataView addTo(NBTTagCompound compound, DataView container) {
         return container;
     }
 
+    /**
+     * Translates a single tag of a compound and sets it in the view.
+     *
+     * @param key The key of the tag within its compound
+     * @param base The tag
+     * @param view The view to set the translated tag in
+     * @return The view
+     */
+    public DataView addTo(String key, NBTBase base, DataView view) {
+        setInternal(base, base.getId(), view, key);
+        return view;
+    }
+
     @Override
     public String getId() {
         return "sponge:nbt";
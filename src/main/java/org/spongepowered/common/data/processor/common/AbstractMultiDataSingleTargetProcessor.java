@@ -55,6 +55,11 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public boolean canSupport(Class<?> type) {
+        return this.holderClass.isAssignableFrom(type);
+    }
+
     protected boolean supports(Holder dataHolder) {
         return true;
     }
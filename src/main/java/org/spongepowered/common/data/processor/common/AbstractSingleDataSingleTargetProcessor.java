@@ -69,6 +69,11 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public boolean canSupport(Class<?> type) {
+        return this.holderClass.isAssignableFrom(type);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
@@ -36,6 +36,7 @@
 import org.spongepowered.common.data.processor.common.AbstractEntitySingleDataProcessor;
 import org.spongepowered.common.data.value.immutable.ImmutableSpongeValue;
 import org.spongepowered.common.data.value.mutable.SpongeValue;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.util.Optional;
 
@@ -49,6 +50,9 @@ public PersistingDataProcessor() {
     @Override
     protected boolean set(EntityLiving entity, Boolean value) {
         entity.persistenceRequired = value;
+        if (!entity.world.isRemote) {
+            ((IMixinWorldServer) entity.world).updateCreatureCount(entity);
+        }
         return true;
     }
 
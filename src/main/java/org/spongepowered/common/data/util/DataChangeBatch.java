@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.common.interfaces.network.datasync.IMixinEntityDataManager;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs several offers to a data holder as a single transaction. If the
+ * holder has an entity data manager, its change events are batched into one
+ * event for all the offers.
+ */
+public final class DataChangeBatch {
+
+    private DataChangeBatch() {
+    }
+
+    /**
+     * Runs the given offers in order, until one of them fails or is
+     * cancelled, and merges their results.
+     *
+     * <p>If the batched change event is cancelled, the values restored by
+     * the data manager are reported as rejected. Changes that aren't backed
+     * by the data manager stay applied and successful, the result is only
+     * {@link DataTransactionResult.Type#CANCELLED} if every change was
+     * restored. If an offer throws, the batch is ended without an event.</p>
+     *
+     * @param dataManager The data manager to batch the change events of, if any
+     * @param offers The offers to run
+     * @return The merged transaction result
+     */
+    public static DataTransactionResult offer(@Nullable IMixinEntityDataManager dataManager,
+            Iterable<? extends Supplier<DataTransactionResult>> offers) {
+        if (dataManager != null) {
+            dataManager.startChangeBatch();
+        }
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        boolean completed = false;
+        Set<Key<?>> restoredKeys = Collections.emptySet();
+        try {
+            for (Supplier<DataTransactionResult> offer : offers) {
+                if (!absorbResult(builder, offer.get())) {
+                    break;
+                }
+            }
+            completed = true;
+        } finally {
+            if (dataManager != null) {
+                if (completed) {
+                    restoredKeys = dataManager.finishChangeBatch();
+                } else {
+                    dataManager.abortChangeBatch();
+                }
+            }
+        }
+        return restoredKeys.isEmpty() ? builder.build() : cancelledResult(builder.build(), restoredKeys);
+    }
+
+    /**
+     * Merges the result of a single offer into the result of the batch.
+     *
+     * @return False if the batch should stop
+     */
+    private static boolean absorbResult(DataTransactionResult.Builder builder, DataTransactionResult result) {
+        if (!result.getRejectedData().isEmpty()) {
+            builder.reject(result.getRejectedData());
+        }
+        if (!result.getReplacedData().isEmpty()) {
+            builder.replace(result.getReplacedData());
+        }
+        if (!result.getSuccessfulData().isEmpty()) {
+            builder.success(result.getSuccessfulData());
+        }
+        final DataTransactionResult.Type type = result.getType();
+        builder.result(type);
+        switch (type) {
+            case UNDEFINED:
+            case ERROR:
+            case CANCELLED:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static DataTransactionResult cancelledResult(DataTransactionResult result, Set<Key<?>> restoredKeys) {
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().reject(result.getRejectedData());
+        boolean allRestored = true;
+        for (ImmutableValue<?> value : result.getSuccessfulData()) {
+            if (restoredKeys.contains(value.getKey())) {
+                builder.reject(value);
+            } else {
+                builder.success(value);
+                allRestored = false;
+            }
+        }
+        for (ImmutableValue<?> value : result.getReplacedData()) {
+            if (!restoredKeys.contains(value.getKey())) {
+                builder.replace(value);
+            }
+        }
+        return builder.result(allRestored ? DataTransactionResult.Type.CANCELLED : result.getType()).build();
+    }
+
+}
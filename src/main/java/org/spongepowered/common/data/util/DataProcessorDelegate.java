@@ -41,11 +41,17 @@
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.util.ServerUtils;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors which may support the data holders of a class, in the
+    // order of priority. A delegate is rebuilt whenever its processors
+    // change, so these never have to be invalidated.
+    private final Map<Class<?>, Tuple<DataProcessor<M, I>, Timing>[]> processorsByClass = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,6 +61,19 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         this.processors = builder.build();
     }
 
+    @SuppressWarnings("unchecked")
+    private Tuple<DataProcessor<M, I>, Timing>[] getProcessors(DataHolder dataHolder) {
+        final Class<?> holderClass = dataHolder.getClass();
+        Tuple<DataProcessor<M, I>, Timing>[] processors = this.processorsByClass.get(holderClass);
+        if (processors == null) {
+            processors = this.processors.stream()
+                    .filter(tuple -> tuple.getFirst().canSupport(holderClass))
+                    .toArray(Tuple[]::new);
+            this.processorsByClass.put(holderClass, processors);
+        }
+        return processors;
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
@@ -64,7 +83,7 @@ public int getPriority() {
     public boolean supports(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -86,11 +105,16 @@ public boolean supports(EntityType entityType) {
         return false;
     }
 
+    @Override
+    public boolean canSupport(Class<?> holderClass) {
+        return this.processors.stream().anyMatch(tuple -> tuple.getFirst().canSupport(holderClass));
+    }
+
     @Override
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -115,7 +139,7 @@ public Optional<M> from(DataHolder dataHolder) {
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -159,7 +183,7 @@ public Optional<M> fill(DataContainer container, M m) {
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -203,7 +227,7 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -228,7 +252,7 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -32,7 +32,9 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
@@ -45,12 +47,29 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    // The processors which may support the containers of a class, in the
+    // order of priority. A delegate is rebuilt whenever its processors
+    // change, so these never have to be invalidated.
+    private final Map<Class<?>, ValueProcessor<E, V>[]> processorsByClass = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    @SuppressWarnings("unchecked")
+    private ValueProcessor<E, V>[] getProcessors(ValueContainer<?> container) {
+        final Class<?> containerClass = container.getClass();
+        ValueProcessor<E, V>[] processors = this.processorsByClass.get(containerClass);
+        if (processors == null) {
+            processors = this.processors.stream()
+                    .filter(processor -> processor.canSupport(containerClass))
+                    .toArray(ValueProcessor[]::new);
+            this.processorsByClass.put(containerClass, processors);
+        }
+        return processors;
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -63,7 +82,7 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -76,7 +95,7 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -89,7 +108,7 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 return true;
             }
@@ -97,9 +116,15 @@ public boolean supports(ValueContainer<?> container) {
         return false;
     }
 
+    @Override
+    public boolean canSupport(Class<?> containerClass) {
+        return this.processors.stream().anyMatch(processor -> processor.canSupport(containerClass));
+    }
+
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        final ValueProcessor<E, V>[] processors = getProcessors(container);
+        for (ValueProcessor<E, V> processor : processors) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
@@ -107,7 +132,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : processors) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -122,7 +147,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
@@ -0,0 +1,287 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A packed table of the owner and notifier of the tracked block positions of
+ * a chunk. The user indices are stored in a palette, every tracked position
+ * maps to a single int holding the palette slots of its owner and notifier,
+ * avoiding boxed keys and an object per tracked block.
+ *
+ * <p>Positions are keyed by {@link #key(BlockPos)}, which packs the chunk
+ * relative x and z coordinates and the y coordinate into an int.</p>
+ */
+public final class PlayerTrackerMap {
+
+    private static final int NUM_XZ_BITS = 4;
+    private static final int NUM_SHORT_Y_BITS = 8;
+    private static final int NUM_INT_Y_BITS = 24;
+    private static final int Y_SHIFT = NUM_XZ_BITS;
+    private static final int Z_SHORT_SHIFT = Y_SHIFT + NUM_SHORT_Y_BITS;
+    private static final int Z_INT_SHIFT = Y_SHIFT + NUM_INT_Y_BITS;
+    private static final int XZ_MASK = 0xF;
+    private static final int Y_SHORT_MASK = 0xFF;
+    private static final int Y_INT_MASK = 0xFFFFFF;
+
+    private static final int SLOT_BITS = 16;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int MAX_PALETTE_SIZE = SLOT_MASK + 1;
+    private static final int ABSENT = -1;
+
+    /**
+     * An empty table that can't be modified, shared by chunks that don't
+     * track block positions.
+     */
+    public static final PlayerTrackerMap EMPTY = new PlayerTrackerMap(true);
+
+    // The user indices referenced by the palette slots, slot 0 is always -1
+    private int[] palette = new int[] {-1, 0, 0, 0};
+    private int paletteSize = 1;
+    private final Int2IntOpenHashMap paletteSlots = new Int2IntOpenHashMap();
+    // The position key to the palette slots of the owner (upper 16 bits) and
+    // notifier (lower 16 bits)
+    private final Int2IntOpenHashMap positions = new Int2IntOpenHashMap();
+    private final boolean immutable;
+
+    public PlayerTrackerMap() {
+        this(false);
+    }
+
+    private PlayerTrackerMap(boolean immutable) {
+        this.immutable = immutable;
+        this.paletteSlots.defaultReturnValue(ABSENT);
+        this.paletteSlots.put(-1, 0);
+        this.positions.defaultReturnValue(ABSENT);
+    }
+
+    public interface Visitor {
+
+        void accept(int key, int ownerIndex, int notifierIndex);
+    }
+
+    /**
+     * Packs the chunk relative position into the key used by this table.
+     *
+     * @param pos The block position
+     * @return The key
+     */
+    public static int key(BlockPos pos) {
+        return (pos.getX() & XZ_MASK) | (pos.getY() & Y_INT_MASK) << Y_SHIFT | (pos.getZ() & XZ_MASK) << Z_INT_SHIFT;
+    }
+
+    /**
+     * Converts a key of the short form, as stored for positions up to a y of
+     * 255, to the key used by this table.
+     *
+     * @param shortKey The short key
+     * @return The key
+     */
+    public static int keyFromShort(short shortKey) {
+        final int x = shortKey & XZ_MASK;
+        final int y = (shortKey >> Y_SHIFT) & Y_SHORT_MASK;
+        final int z = (shortKey >> Z_SHORT_SHIFT) & XZ_MASK;
+        return x | y << Y_SHIFT | z << Z_INT_SHIFT;
+    }
+
+    private static int keyY(int key) {
+        return (key >> Y_SHIFT) & Y_INT_MASK;
+    }
+
+    private static short toShortKey(int key) {
+        final int x = key & XZ_MASK;
+        final int y = keyY(key) & Y_SHORT_MASK;
+        final int z = (key >> Z_INT_SHIFT) & XZ_MASK;
+        return (short) (x | y << Y_SHIFT | z << Z_SHORT_SHIFT);
+    }
+
+    public boolean contains(int key) {
+        return this.positions.containsKey(key);
+    }
+
+    /**
+     * Gets the owner index of the position, or -1 if there is none.
+     *
+     * @param key The position key
+     * @return The owner index
+     */
+    public int getOwner(int key) {
+        final int slots = this.positions.get(key);
+        return slots == ABSENT ? -1 : this.palette[slots >>> SLOT_BITS];
+    }
+
+    /**
+     * Gets the notifier index of the position, or -1 if there is none.
+     *
+     * @param key The position key
+     * @return The notifier index
+     */
+    public int getNotifier(int key) {
+        final int slots = this.positions.get(key);
+        return slots == ABSENT ? -1 : this.palette[slots & SLOT_MASK];
+    }
+
+    public void setOwner(int key, int ownerIndex) {
+        this.put(key, ownerIndex, this.getNotifier(key));
+    }
+
+    public void setNotifier(int key, int notifierIndex) {
+        this.put(key, this.getOwner(key), notifierIndex);
+    }
+
+    public void put(int key, int ownerIndex, int notifierIndex) {
+        this.checkMutable();
+        final int ownerSlot = this.getOrCreateSlot(ownerIndex);
+        final int notifierSlot = this.getOrCreateSlot(notifierIndex);
+        this.positions.put(key, ownerSlot << SLOT_BITS | notifierSlot);
+    }
+
+    public void remove(int key) {
+        this.checkMutable();
+        this.positions.remove(key);
+    }
+
+    public int size() {
+        return this.positions.size();
+    }
+
+    public boolean isEmpty() {
+        return this.positions.isEmpty();
+    }
+
+    public void forEach(Visitor visitor) {
+        for (Int2IntMap.Entry entry : this.positions.int2IntEntrySet()) {
+            final int slots = entry.getIntValue();
+            visitor.accept(entry.getIntKey(), this.palette[slots >>> SLOT_BITS], this.palette[slots & SLOT_MASK]);
+        }
+    }
+
+    private void checkMutable() {
+        if (this.immutable) {
+            throw new UnsupportedOperationException("The empty player tracker map can't be modified");
+        }
+    }
+
+    private int getOrCreateSlot(int userIndex) {
+        int slot = this.paletteSlots.get(userIndex);
+        if (slot != ABSENT) {
+            return slot;
+        }
+        if (this.paletteSize == MAX_PALETTE_SIZE) {
+            this.compactPalette();
+            if (this.paletteSize == MAX_PALETTE_SIZE) {
+                throw new IllegalStateException("Too many distinct users are tracked in a single chunk");
+            }
+        }
+        if (this.paletteSize == this.palette.length) {
+            final int[] palette = new int[Math.min(this.palette.length * 2, MAX_PALETTE_SIZE)];
+            System.arraycopy(this.palette, 0, palette, 0, this.paletteSize);
+            this.palette = palette;
+        }
+        slot = this.paletteSize++;
+        this.palette[slot] = userIndex;
+        this.paletteSlots.put(userIndex, slot);
+        return slot;
+    }
+
+    /**
+     * Rebuilds the palette with only the users still referenced by a position.
+     */
+    private void compactPalette() {
+        final int[] oldPalette = this.palette;
+        final Int2IntOpenHashMap oldPositions = new Int2IntOpenHashMap(this.positions);
+        this.palette = new int[] {-1, 0, 0, 0};
+        this.paletteSize = 1;
+        this.paletteSlots.clear();
+        this.paletteSlots.put(-1, 0);
+        for (Int2IntMap.Entry entry : oldPositions.int2IntEntrySet()) {
+            final int slots = entry.getIntValue();
+            final int ownerSlot = this.getOrCreateSlot(oldPalette[slots >>> SLOT_BITS]);
+            final int notifierSlot = this.getOrCreateSlot(oldPalette[slots & SLOT_MASK]);
+            this.positions.put(entry.getIntKey(), ownerSlot << SLOT_BITS | notifierSlot);
+        }
+    }
+
+    /**
+     * Writes the tracked positions in the chunk format, positions up to a y of
+     * 255 are stored as a short "pos", others as an int "ipos".
+     *
+     * @param positions The list to write the positions to
+     */
+    public void writeTo(NBTTagList positions) {
+        this.forEach((key, ownerIndex, notifierIndex) -> {
+            final NBTTagCompound valueNbt = new NBTTagCompound();
+            valueNbt.setInteger("owner", ownerIndex);
+            valueNbt.setInteger("notifier", notifierIndex);
+            if (keyY(key) <= 255) {
+                valueNbt.setShort("pos", toShortKey(key));
+            } else {
+                valueNbt.setInteger("ipos", key);
+            }
+            positions.appendTag(valueNbt);
+        });
+    }
+
+    /**
+     * Reads the tracked positions written by {@link #writeTo(NBTTagList)}.
+     *
+     * @param positions The list of positions
+     * @return The read table
+     */
+    public static PlayerTrackerMap readFrom(NBTTagList positions) {
+        final PlayerTrackerMap map = new PlayerTrackerMap();
+        for (int i = 0; i < positions.tagCount(); i++) {
+            final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+            int ownerIndex = -1;
+            int notifierIndex = -1;
+            if (valueNbt.hasKey("owner")) {
+                ownerIndex = valueNbt.getInteger("owner");
+            } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                ownerIndex = valueNbt.getInteger("uuid");
+            }
+            if (valueNbt.hasKey("notifier")) {
+                notifierIndex = valueNbt.getInteger("notifier");
+            }
+            if (notifierIndex == -1 && ownerIndex == -1) {
+                continue;
+            }
+            if (valueNbt.hasKey("pos")) {
+                final int key = keyFromShort(valueNbt.getShort("pos"));
+                // Int positions took precedence on lookups, don't overwrite them
+                if (!map.contains(key)) {
+                    map.put(key, ownerIndex, notifierIndex);
+                }
+            } else {
+                map.put(valueNbt.getInteger("ipos"), ownerIndex, notifierIndex);
+            }
+        }
+        return map;
+    }
+}
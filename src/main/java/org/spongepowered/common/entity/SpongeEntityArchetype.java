@@ -40,6 +40,7 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.data.AbstractArchetype;
+import org.spongepowered.common.data.LazyNbtDataContainer;
 import org.spongepowered.common.data.nbt.NbtDataType;
 import org.spongepowered.common.data.nbt.NbtDataTypes;
 import org.spongepowered.common.data.nbt.validation.ValidationType;
@@ -68,7 +69,7 @@ public EntityType getType() {
 
     @Override
     public DataContainer getEntityData() {
-        return NbtTranslator.getInstance().translateFrom(this.data);
+        return new LazyNbtDataContainer(this.data.copy());
     }
 
     @SuppressWarnings("unchecked")
@@ -53,6 +53,7 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.CompactDataContainer;
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.persistence.NbtTranslator;
@@ -178,7 +179,7 @@ public int getContentVersion() {
     @Override
     public DataContainer toContainer() {
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.manipulators);
-        final DataContainer container = DataContainer.createNew()
+        final DataContainer container = new CompactDataContainer()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
                 .set(Queries.WORLD_ID, this.worldUuid.toString())
                 .set(DataQueries.ENTITY_TYPE, this.entityType.getId())
@@ -203,7 +204,8 @@ public DataContainer toContainer() {
             container.set(DataQueries.ENTITY_ID, this.entityUuid.toString());
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            // Translate straight into the container, rather than into a new container that gets copied
+            NbtTranslator.getInstance().addTo(this.compound, container.createView(DataQueries.UNSAFE_NBT));
         }
 
         return container;
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import co.aikar.timings.TimingsManager;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.List;
+
+/**
+ * The base class of the dispatchers generated by the
+ * {@link EventDispatcherFactory}. A generated dispatcher calls every listener
+ * of a baked event type from a call site of its own, keeping each of them
+ * monomorphic so the whole chain can be inlined.
+ */
+public abstract class EventDispatcher {
+
+    protected final RegisteredListener<?>[] registeredListeners;
+    protected final EventListener<?>[] listeners;
+
+    protected EventDispatcher(List<RegisteredListener<?>> registeredListeners) {
+        this.registeredListeners = registeredListeners.toArray(new RegisteredListener<?>[registeredListeners.size()]);
+        this.listeners = new EventListener<?>[this.registeredListeners.length];
+        for (int i = 0; i < this.registeredListeners.length; i++) {
+            this.listeners[i] = this.registeredListeners[i].getListener();
+        }
+    }
+
+    /**
+     * Posts the event to all the listeners of this dispatcher.
+     *
+     * @param event The event
+     * @return True if the event is cancelled
+     */
+    public final boolean post(Event event) {
+        if (!Sponge.getServer().isMainThread()) {
+            // If this event is being posted asynchronously then we don't want
+            // to do any timing or cause stack changes
+            this.dispatchAsync(event);
+        } else {
+            TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+            this.dispatchSync(event);
+        }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Calls every listener on the main thread, in between
+     * {@link #preHandle} and {@link #postHandle}.
+     *
+     * @param event The event
+     */
+    protected abstract void dispatchSync(Event event);
+
+    /**
+     * Calls every listener off the main thread, after
+     * {@link #preHandleAsync}.
+     *
+     * @param event The event
+     */
+    protected abstract void dispatchAsync(Event event);
+
+    protected final CauseStackManager.StackFrame preHandle(Event event, RegisteredListener<?> listener) {
+        Sponge.getCauseStackManager().pushCause(listener.getPlugin());
+        final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
+        listener.getTimingsHandler().startTimingIfSync();
+        listener.startLatencyTiming();
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = listener.getOrder();
+        }
+        return frame;
+    }
+
+    protected final void postHandle(CauseStackManager.StackFrame frame, RegisteredListener<?> listener) {
+        try {
+            frame.close();
+        } finally {
+            listener.stopLatencyTiming();
+            listener.getTimingsHandler().stopTimingIfSync();
+        }
+        Sponge.getCauseStackManager().popCause();
+    }
+
+    protected final void preHandleAsync(Event event, RegisteredListener<?> listener) {
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = listener.getOrder();
+        }
+    }
+
+    protected final void handleError(Event event, RegisteredListener<?> listener, Throwable throwable) {
+        SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), throwable);
+    }
+
+}
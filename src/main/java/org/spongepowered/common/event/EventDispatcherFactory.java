@@ -0,0 +1,218 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates an {@link EventDispatcher} for the baked listeners of an event
+ * type, with the calls to the listeners unrolled.
+ */
+public final class EventDispatcherFactory {
+
+    /**
+     * The maximum amount of listeners which are unrolled into a single
+     * dispatcher, events with more listeners are dispatched by iterating
+     * over them.
+     */
+    public static final int MAX_LISTENERS = 128;
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+    private static final String REGISTERED_LISTENER_DESCRIPTOR = Type.getDescriptor(RegisteredListener.class);
+    private static final String LISTENER_NAME = Type.getInternalName(EventListener.class);
+    private static final String LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String FRAME_DESCRIPTOR = Type.getDescriptor(CauseStackManager.StackFrame.class);
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final ClassLoader parentClassLoader;
+    private final String targetPackage;
+
+    public EventDispatcherFactory(String targetPackage, ClassLoader parentClassLoader) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.parentClassLoader = checkNotNull(parentClassLoader, "parentClassLoader");
+    }
+
+    public EventDispatcher create(Class<? extends Event> eventClass, List<RegisteredListener<?>> listeners) throws Exception {
+        checkArgument(listeners.size() <= MAX_LISTENERS, "Too many listeners to generate a dispatcher: %s", listeners.size());
+        final String name = this.targetPackage + eventClass.getSimpleName() + "Dispatcher_" + this.id.incrementAndGet();
+        // Every dispatcher gets a class loader of its own, allowing it to be
+        // unloaded again once the baked listeners are invalidated.
+        final DefineableClassLoader classLoader = new DefineableClassLoader(this.parentClassLoader);
+        final Class<? extends EventDispatcher> dispatcherClass = classLoader.defineClass(name, generateClass(name, listeners.size()));
+        return dispatcherClass.getConstructor(List.class).newInstance(listeners);
+    }
+
+    private static byte[] generateClass(String name, int listenerCount) {
+        name = name.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_DISPATCHER, null);
+        for (int i = 0; i < listenerCount; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "registered" + i, REGISTERED_LISTENER_DESCRIPTOR, null, null).visitEnd();
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, LISTENER_DESCRIPTOR, null, null).visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/util/List;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_DISPATCHER, "<init>", "(Ljava/util/List;)V", false);
+            for (int i = 0; i < listenerCount; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, BASE_DISPATCHER, "registeredListeners", "[" + REGISTERED_LISTENER_DESCRIPTOR);
+                mv.visitIntInsn(SIPUSH, i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "registered" + i, REGISTERED_LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, BASE_DISPATCHER, "listeners", "[" + LISTENER_DESCRIPTOR);
+                mv.visitIntInsn(SIPUSH, i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PROTECTED, "dispatchSync", '(' + EVENT_DESCRIPTOR + ")V", null, null);
+            mv.visitCode();
+            for (int i = 0; i < listenerCount; i++) {
+                // StackFrame frame = this.preHandle(event, this.registeredN);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                visitGetRegistered(mv, name, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_DISPATCHER, "preHandle", '(' + EVENT_DESCRIPTOR + REGISTERED_LISTENER_DESCRIPTOR + ')'
+                        + FRAME_DESCRIPTOR, false);
+                mv.visitVarInsn(ASTORE, 2);
+                visitHandle(mv, name, i);
+                // this.postHandle(frame, this.registeredN);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 2);
+                visitGetRegistered(mv, name, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_DISPATCHER, "postHandle", '(' + FRAME_DESCRIPTOR + REGISTERED_LISTENER_DESCRIPTOR + ")V",
+                        false);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PROTECTED, "dispatchAsync", '(' + EVENT_DESCRIPTOR + ")V", null, null);
+            mv.visitCode();
+            for (int i = 0; i < listenerCount; i++) {
+                // this.preHandleAsync(event, this.registeredN);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                visitGetRegistered(mv, name, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_DISPATCHER, "preHandleAsync", '(' + EVENT_DESCRIPTOR + REGISTERED_LISTENER_DESCRIPTOR + ")V",
+                        false);
+                visitHandle(mv, name, i);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void visitGetRegistered(MethodVisitor mv, String name, int index) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, name, "registered" + index, REGISTERED_LISTENER_DESCRIPTOR);
+    }
+
+    /**
+     * Visits the call to a listener, each being a separate call site:
+     * <pre>
+     * try {
+     *     this.listenerN.handle(event);
+     * } catch (Throwable t) {
+     *     this.handleError(event, this.registeredN, t);
+     * }
+     * </pre>
+     */
+    private static void visitHandle(MethodVisitor mv, String name, int index) {
+        final Label start = new Label();
+        final Label end = new Label();
+        final Label handler = new Label();
+        final Label after = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+        mv.visitLabel(start);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, name, "listener" + index, LISTENER_DESCRIPTOR);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKEINTERFACE, LISTENER_NAME, "handle", '(' + EVENT_DESCRIPTOR + ")V", true);
+        mv.visitLabel(end);
+        mv.visitJumpInsn(GOTO, after);
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, 3);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        visitGetRegistered(mv, name, index);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKEVIRTUAL, BASE_DISPATCHER, "handleError", '(' + EVENT_DESCRIPTOR + REGISTERED_LISTENER_DESCRIPTOR
+                + "Ljava/lang/Throwable;)V", false);
+        mv.visitLabel(after);
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A latency histogram with logarithmic buckets, in the style of HdrHistogram.
+ *
+ * <p>Every power of two is split into {@value #SUB_BUCKETS} linear
+ * sub-buckets, which bounds the error of a reported value to about 6% while
+ * keeping recording down to a couple of shifts and an array increment.
+ * Values are nanoseconds, anything above {@link #getHighestTrackableValue()}
+ * is counted in the last bucket.</p>
+ *
+ * <p>Histograms are not thread-safe. Listener latencies are only recorded on
+ * the main thread, which is also where they are read by the commands.</p>
+ */
+public final class ListenerLatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // The highest tracked magnitude, 2^40 ns is a bit over 18 minutes
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records a single value.
+     *
+     * @param nanos The value in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        this.counts[bucketOf(nanos)]++;
+        this.count++;
+        this.total += nanos;
+        if (nanos > this.max) {
+            this.max = nanos;
+        }
+    }
+
+    /**
+     * Adds all the values recorded by the other histogram to this one.
+     *
+     * @param other The other histogram
+     */
+    public void add(ListenerLatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.count += other.count;
+        this.total += other.total;
+        this.max = Math.max(this.max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(this.counts, 0L);
+        this.count = 0;
+        this.total = 0;
+        this.max = 0;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public long getTotal(TimeUnit unit) {
+        return unit.convert(this.total, TimeUnit.NANOSECONDS);
+    }
+
+    public long getTotalNanos() {
+        return this.total;
+    }
+
+    public long getMaxNanos() {
+        return this.max;
+    }
+
+    public long getMeanNanos() {
+        return this.count == 0 ? 0 : this.total / this.count;
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values
+     * fall, as the highest value equivalent to the bucket it was found in.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The value in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        final double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        final long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * this.count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    public static long getHighestTrackableValue() {
+        return highestValueOf(BUCKETS - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKETS - 1;
+        }
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
@@ -37,9 +37,16 @@
 
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
+    // Whether the latency of listeners called on the main thread is recorded
+    private static volatile boolean recordLatencies;
+
     private final PluginContainer plugin;
 
     private final EventType<T> eventType;
@@ -50,6 +57,10 @@
     private final boolean beforeModifications;
     private Timing listenerTimer;
 
+    @Nullable private ListenerLatencyHistogram latencies;
+    private int latencyDepth;
+    private long latencyStart;
+
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
@@ -81,6 +92,50 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    public static boolean isRecordingLatencies() {
+        return recordLatencies;
+    }
+
+    public static void setRecordingLatencies(boolean enabled) {
+        recordLatencies = enabled;
+    }
+
+    /**
+     * Gets the latencies recorded for this listener, if any were recorded
+     * since it got registered.
+     *
+     * @return The latency histogram, or null
+     */
+    @Nullable
+    public ListenerLatencyHistogram getLatencies() {
+        return this.latencies;
+    }
+
+    /**
+     * Starts measuring a call of this listener on the main thread. Nested
+     * calls of the same listener are included in the outermost call.
+     */
+    void startLatencyTiming() {
+        if (recordLatencies && this.latencyDepth++ == 0) {
+            this.latencyStart = System.nanoTime();
+        }
+    }
+
+    void stopLatencyTiming() {
+        if (this.latencyDepth == 0 || --this.latencyDepth != 0) {
+            return;
+        }
+        final long elapsed = System.nanoTime() - this.latencyStart;
+        if (this.latencies == null) {
+            this.latencies = new ListenerLatencyHistogram();
+        }
+        this.latencies.record(elapsed);
+    }
+
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -107,8 +162,19 @@ public static final class Cache {
 
         private static final Order[] ORDERS = Order.values();
 
-        Cache(List<RegisteredListener<?>> listeners) {
+        // The amount of posts after which a dispatcher is generated
+        private static final int DISPATCHER_THRESHOLD = 1000;
+
+        // Events may be posted from any thread
+        private final AtomicInteger posts = new AtomicInteger();
+        private final AtomicBoolean dispatcherRequested = new AtomicBoolean();
+        @Nullable private volatile EventDispatcher dispatcher;
+        // The handlers generation of the event manager this cache is known to be up to date with
+        private volatile int generation;
+
+        Cache(List<RegisteredListener<?>> listeners, int generation) {
             this.listeners = listeners;
+            this.generation = generation;
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
@@ -123,10 +189,44 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        int getGeneration() {
+            return this.generation;
+        }
+
+        void setGeneration(int generation) {
+            this.generation = generation;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
 
+        @Nullable
+        public EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
+        void setDispatcher(EventDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        /**
+         * Counts a post of the event and returns whether a dispatcher should
+         * be generated now, which is the case once the event got posted often
+         * enough to be considered hot. Only returns true once.
+         *
+         * @return True if a dispatcher should be generated
+         */
+        boolean shouldGenerateDispatcher() {
+            if (this.dispatcherRequested.get() || this.listeners.isEmpty() || this.listeners.size() > EventDispatcherFactory.MAX_LISTENERS) {
+                return false;
+            }
+            if (this.posts.incrementAndGet() < DISPATCHER_THRESHOLD) {
+                return false;
+            }
+            return this.dispatcherRequested.compareAndSet(false, true);
+        }
+
     }
 
 }
@@ -65,8 +65,12 @@ public class ShouldFire {
 
     public static boolean SET_A_I_TARGET_EVENT = false;
 
+    public static boolean CHANGE_DATA_HOLDER_EVENT_VALUE_CHANGE = false;
+
     public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_PRE = false;
     public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_POST = false;
 
     public static boolean TICK_BLOCK_EVENT = false;
+
+    public static boolean COLLIDE_ENTITY_EVENT = false;
 }
@@ -30,9 +30,8 @@
 import co.aikar.timings.TimingsManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.Logger;
@@ -60,14 +59,18 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -84,15 +87,23 @@ public class SpongeEventManager implements EventManager {
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
+    private final EventDispatcherFactory dispatcherFactory = new EventDispatcherFactory("org.spongepowered.common.event.dispatcher",
+            this.classLoader);
+    // Copy-on-write lists of the listeners per event type, only replaced
+    // while holding the lock so they can be read without it.
+    private final Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent = new ConcurrentHashMap<>();
     private final Set<Object> registeredListeners = Sets.newHashSet();
+    // Incremented while holding the lock whenever the handlers change. A
+    // cache baked from an older generation that wasn't checked by the
+    // invalidation of every newer change may be stale and is baked again.
+    private volatile int handlersGeneration;
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the event types affected by a change of handlers are invalidated
+     * when handlers are added or removed.</p>
      */
     private final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
@@ -127,32 +138,32 @@ public SpongeEventManager(Logger logger, PluginManager pluginManager) {
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
+        // Read before the handlers, which are changed before the generation is incremented
+        final int generation = this.handlersGeneration;
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
 
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.getOrDefault(type, Collections.emptyList());
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    handlers.addAll(listeners);
                 }
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(ImmutableList.copyOf(handlers), generation);
     }
 
     @Nullable
@@ -190,21 +201,63 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        final Set<Class<?>> changedTypes = new HashSet<>();
 
         synchronized (this.lock) {
+            final Map<Class<?>, List<RegisteredListener<?>>> added = new LinkedHashMap<>();
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
-                if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                final List<RegisteredListener<?>> current = this.handlersByEvent.getOrDefault(raw, Collections.emptyList());
+                final List<RegisteredListener<?>> addedForType = added.computeIfAbsent(raw, k -> new ArrayList<>());
+                if (!current.contains(handler) && !addedForType.contains(handler)) {
+                    addedForType.add(handler);
                     this.checker.registerListenerFor(raw);
                 }
             }
+            for (Map.Entry<Class<?>, List<RegisteredListener<?>>> entry : added.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    continue;
+                }
+                final List<RegisteredListener<?>> current = this.handlersByEvent.getOrDefault(entry.getKey(), Collections.emptyList());
+                this.handlersByEvent.put(entry.getKey(), ImmutableList.<RegisteredListener<?>>builder()
+                        .addAll(current)
+                        .addAll(entry.getValue())
+                        .build());
+                changedTypes.add(entry.getKey());
+            }
+            this.invalidateHandlers(changedTypes);
         }
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+    /**
+     * Invalidates the baked handlers of every cached event type which is a
+     * subtype of one of the changed event types, as only those include the
+     * handlers of the changed types. Must be called while holding the lock.
+     *
+     * <p>The caches that are kept are marked as up to date with the new
+     * generation if they were up to date with the previous one. A cache
+     * that was being baked while the handlers changed may be stored after
+     * it was checked here, it keeps its older generation and is baked again
+     * by {@link #getHandlerCache(Event)}.</p>
+     *
+     * @param changedTypes The event types whose handlers changed
+     */
+    private void invalidateHandlers(Set<Class<?>> changedTypes) {
+        if (changedTypes.isEmpty()) {
+            return;
         }
+        final int generation = ++this.handlersGeneration;
+        this.handlersCache.asMap().entrySet().removeIf(entry -> {
+            for (Class<?> changedType : changedTypes) {
+                if (changedType.isAssignableFrom(entry.getKey().getType())) {
+                    return true;
+                }
+            }
+            if (entry.getValue().getGeneration() == generation - 1) {
+                entry.getValue().setGeneration(generation);
+            }
+            return false;
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -326,24 +379,34 @@ public <T extends Event> void registerListener(Object plugin, TypeToken<T> event
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<Class<?>> changedTypes = new HashSet<>();
 
         synchronized (this.lock) {
-            Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    // TODO: This doesn't seem right, even as it was before
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
-                    this.registeredListeners.remove(handler.getHandle());
+            final Map<Class<?>, List<RegisteredListener<?>>> remainingByType = new HashMap<>();
+            for (Map.Entry<Class<?>, List<RegisteredListener<?>>> entry : this.handlersByEvent.entrySet()) {
+                final List<RegisteredListener<?>> remaining = new ArrayList<>();
+                for (RegisteredListener<?> handler : entry.getValue()) {
+                    if (unregister.test(handler)) {
+                        // TODO: This doesn't seem right, even as it was before
+                        this.checker.unregisterListenerFor(handler.getEventType().getType());
+                        this.registeredListeners.remove(handler.getHandle());
+                    } else {
+                        remaining.add(handler);
+                    }
+                }
+                if (remaining.size() != entry.getValue().size()) {
+                    remainingByType.put(entry.getKey(), remaining);
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            for (Map.Entry<Class<?>, List<RegisteredListener<?>>> entry : remainingByType.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    this.handlersByEvent.remove(entry.getKey());
+                } else {
+                    this.handlersByEvent.put(entry.getKey(), ImmutableList.copyOf(entry.getValue()));
+                }
+                changedTypes.add(entry.getKey());
+            }
+            this.invalidateHandlers(changedTypes);
         }
     }
 
@@ -359,6 +422,59 @@ public void unregisterPluginListeners(Object pluginObj) {
         unregister(handler -> plugin.equals(handler.getPlugin()));
     }
 
+    /**
+     * Gets the registered listeners which recorded any latencies, ordered by
+     * the given metric of their latency histogram, highest first.
+     *
+     * @param metric The metric to order by, in nanoseconds
+     * @param limit The maximum amount of listeners to return
+     * @return The slowest listeners
+     */
+    public List<RegisteredListener<?>> getSlowestListeners(ToLongFunction<ListenerLatencyHistogram> metric, int limit) {
+        checkNotNull(metric, "metric");
+        checkArgument(limit >= 0, "limit must not be negative");
+        final Comparator<RegisteredListener<?>> comparator = Comparator.comparingLong(listener -> metric.applyAsLong(listener.getLatencies()));
+        return this.handlersByEvent.values().stream()
+                .flatMap(List::stream)
+                .filter(listener -> listener.getLatencies() != null && listener.getLatencies().getCount() != 0)
+                .sorted(comparator.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the latencies of all the listeners of every plugin combined into a
+     * histogram per plugin.
+     *
+     * @return The latency histograms by plugin
+     */
+    public Map<PluginContainer, ListenerLatencyHistogram> getPluginLatencies() {
+        final Map<PluginContainer, ListenerLatencyHistogram> latencies = new HashMap<>();
+        for (List<RegisteredListener<?>> listeners : this.handlersByEvent.values()) {
+            for (RegisteredListener<?> listener : listeners) {
+                final ListenerLatencyHistogram histogram = listener.getLatencies();
+                if (histogram != null && histogram.getCount() != 0) {
+                    latencies.computeIfAbsent(listener.getPlugin(), plugin -> new ListenerLatencyHistogram()).add(histogram);
+                }
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Clears the latencies recorded by all the registered listeners.
+     */
+    public void resetListenerLatencies() {
+        for (List<RegisteredListener<?>> listeners : this.handlersByEvent.values()) {
+            for (RegisteredListener<?> listener : listeners) {
+                final ListenerLatencyHistogram histogram = listener.getLatencies();
+                if (histogram != null) {
+                    histogram.reset();
+                }
+            }
+        }
+    }
+
     @SuppressWarnings({"ConstantConditions", "unchecked"})
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         checkNotNull(event, "event");
@@ -369,7 +485,13 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        RegisteredListener.Cache cache = this.handlersCache.get(eventType);
+        if (cache.getGeneration() != this.handlersGeneration) {
+            // Possibly baked from the handlers before a change, but stored after it was invalidated
+            this.handlersCache.asMap().remove(eventType, cache);
+            cache = this.handlersCache.get(eventType);
+        }
+        return cache;
     }
 
     @SuppressWarnings("unchecked")
@@ -397,6 +519,7 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
             Sponge.getCauseStackManager().pushCause(handler.getPlugin());
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
                 handler.getTimingsHandler().startTimingIfSync();
+                handler.startLatencyTiming();
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
@@ -404,6 +527,7 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
             } catch (Throwable e) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             } finally {
+                handler.stopLatencyTiming();
                 handler.getTimingsHandler().stopTimingIfSync();
             }
             Sponge.getCauseStackManager().popCause();
@@ -423,6 +547,20 @@ public boolean post(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        final RegisteredListener.Cache cache = getHandlerCache(event);
+        final EventDispatcher dispatcher = cache.getDispatcher();
+        if (dispatcher != null) {
+            return dispatcher.post(event);
+        }
+        if (cache.shouldGenerateDispatcher()) {
+            try {
+                final EventDispatcher generated = this.dispatcherFactory.create(event.getClass(), cache.getListeners());
+                cache.setDispatcher(generated);
+                return generated.post(event);
+            } catch (Exception e) {
+                this.logger.error("Failed to generate the event dispatcher for {}", event.getClass().getName(), e);
+            }
+        }
+        return post(event, cache.getListeners());
     }
 }
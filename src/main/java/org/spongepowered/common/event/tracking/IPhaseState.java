@@ -36,6 +36,7 @@
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.world.World;
@@ -264,6 +265,20 @@ default boolean requiresBlockCapturing() {
         return true;
     }
 
+    /**
+     * Gets whether the block changes captured with the given context are only
+     * ever used to throw {@link ChangeBlockEvent}s, such that they can be applied
+     * directly to the world when nothing is able to observe those events. States
+     * that rely on their captured block changes for any other bookkeeping, such
+     * as tracking notifiers or block specific drops, must return {@code false}.
+     *
+     * @param context The context
+     * @return True if block captures may be skipped while unobserved
+     */
+    default boolean canSkipUnobservedBlockCaptures(C context) {
+        return false;
+    }
+
     default void postProcessSpawns(C unwindingContext, ArrayList<org.spongepowered.api.entity.Entity> entities) {
         final User creator = unwindingContext.getNotifier().orElseGet(() -> unwindingContext.getOwner().orElse(null));
         TrackingUtil.splitAndSpawnEntities(
@@ -29,6 +29,7 @@
 
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.util.math.BlockPos;
+import org.apache.logging.log4j.Level;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.entity.Entity;
@@ -91,7 +92,15 @@
 
     @Nullable private Object source;
 
+    // Only set for contexts handed out by a PhaseContextPool.
+    @Nullable PhaseContextPool<P> pool;
+    @Nullable private PhaseData phaseData;
+    private boolean isReleased;
+    // Only used when leak detection is enabled.
+    @Nullable private StackTraceElement[] releaseTrace;
+
     public P source(Object owner) {
+        this.checkNotReleased();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.source = owner;
         return (P) this;
@@ -103,6 +112,7 @@ public P owner(Supplier<Optional<User>> supplier) {
     }
 
     public P owner(User owner) {
+        this.checkNotReleased();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.owner != null) {
             throw new IllegalStateException("Owner for this phase context is already set!");
@@ -117,6 +127,7 @@ public P notifier(Supplier<Optional<User>> supplier) {
     }
 
     public P notifier(User notifier) {
+        this.checkNotReleased();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.notifier != null) {
             throw new IllegalStateException("Notifier for this phase context is already set!");
@@ -186,6 +197,7 @@ public P addEntityDropCaptures() {
     }
 
     public P buildAndSwitch() {
+        this.checkNotReleased();
         this.isCompleted = true;
         if (SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().generateStackTracePerStateEntry()) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
@@ -389,9 +401,119 @@ public P markEmpty() {
 
     @Override
     public void close() { // Should never throw an exception
+        if (this.isReleased) {
+            // Already completed and recycled, completing again would pop whatever phase is now on top of the stack
+            this.printLeakedContext("Closing an already released PhaseContext");
+            return;
+        }
         PhaseTracker.getInstance().completePhase(this.state);
     }
 
+    /**
+     * Clears everything set on this context while it was being built and
+     * captured with, retaining the capture suppliers and their backing
+     * collections so they can be reused by the next phase.
+     */
+    protected void reset() {
+        this.isCompleted = false;
+        this.stackTrace = null;
+        this.owner = null;
+        this.notifier = null;
+        this.source = null;
+        this.processImmediately = false;
+        if (this.blocksSupplier != null) {
+            this.blocksSupplier.reset();
+        }
+        if (this.blockItemDropsSupplier != null) {
+            this.blockItemDropsSupplier.reset();
+        }
+        if (this.blockItemEntityDropsSupplier != null) {
+            this.blockItemEntityDropsSupplier.reset();
+        }
+        if (this.capturedItemsSupplier != null) {
+            this.capturedItemsSupplier.reset();
+        }
+        if (this.capturedEntitiesSupplier != null) {
+            this.capturedEntitiesSupplier.reset();
+        }
+        if (this.capturedItemStackSupplier != null) {
+            this.capturedItemStackSupplier.reset();
+        }
+        if (this.entityItemDropsSupplier != null) {
+            this.entityItemDropsSupplier.reset();
+        }
+        if (this.entityItemEntityDropsSupplier != null) {
+            this.entityItemEntityDropsSupplier.reset();
+        }
+        if (this.blockEntitySpawnSupplier != null) {
+            this.blockEntitySpawnSupplier.reset();
+        }
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.reset();
+        }
+    }
+
+    /**
+     * Returns this context to the pool it was acquired from, if any. Called
+     * by the {@link PhaseTracker} once the phase has been completely unwound.
+     */
+    void release() {
+        if (this.pool == null || this.isReleased) {
+            return;
+        }
+        this.reset();
+        this.isReleased = true;
+        if (SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().detectPhaseContextLeaks()) {
+            this.releaseTrace = new Exception("Release Trace").getStackTrace();
+        }
+        this.pool.release((P) this);
+    }
+
+    void reacquire() {
+        this.isReleased = false;
+        this.releaseTrace = null;
+    }
+
+    boolean isReleased() {
+        return this.isReleased;
+    }
+
+    PhaseData asPhaseData(IPhaseState<?> state) {
+        if (this.pool == null || state != this.state) {
+            return new PhaseData(this, state);
+        }
+        if (this.phaseData == null) {
+            this.phaseData = new PhaseData(this, state);
+        }
+        return this.phaseData;
+    }
+
+    private void checkNotReleased() {
+        if (this.isReleased) {
+            this.printLeakedContext("Using an already released PhaseContext");
+            throw new IllegalStateException("This PhaseContext has already been completed and released to be recycled!");
+        }
+    }
+
+    private void printLeakedContext(String header) {
+        final PrettyPrinter printer = new PrettyPrinter(60).add(header).centre().hr()
+            .add("A PhaseContext was used after its phase was completed. Please")
+            .add("report this to Sponge, including the traces below.")
+            .add()
+            .add("%s : %s", "State", this.state)
+            .add("%s :", "Used at")
+            .add(new Exception("Leaked Context"));
+        if (this.releaseTrace != null) {
+            printer.add("%s :", "Released at");
+            for (StackTraceElement element : this.releaseTrace) {
+                printer.add("    %s", element);
+            }
+        } else {
+            printer.add("Enable 'detect-phase-context-leaks' in the cause-tracker config to see where it was released.");
+        }
+        printer.trace(System.err, SpongeImpl.getLogger(), Level.ERROR);
+    }
+
 
     public List<BlockSnapshot> getCapturedBlocksOrEmptyList() {
         return this.blocksSupplier != null ? this.blocksSupplier.orEmptyList() : Collections.emptyList();
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A per thread pool of {@link PhaseContext}s for a single {@link IPhaseState}.
+ * Contexts handed out by {@link #acquire()} are returned to the pool by the
+ * {@link PhaseTracker} once their phase has completed, so that hot states
+ * such as entity and block ticks don't allocate a new context, along with
+ * all of its capture lists, every single tick.
+ *
+ * <p>Contexts are only ever recycled on the thread that completed them, and
+ * a context is only returned if it was the context actually on top of the
+ * stack when its phase was completed.</p>
+ *
+ * @param <C> The type of context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    private static final int MAX_POOLED_CONTEXTS = 16;
+
+    private final Supplier<C> factory;
+    private final ThreadLocal<ArrayDeque<C>> freeContexts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public PhaseContextPool(Supplier<C> factory) {
+        this.factory = checkNotNull(factory, "Factory cannot be null!");
+    }
+
+    /**
+     * Gets a context ready to be built, either recycled from a previously
+     * completed phase on this thread, or freshly created.
+     *
+     * @return The context
+     */
+    public C acquire() {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().recyclePhaseContexts()) {
+            return this.factory.get();
+        }
+        final C context = this.freeContexts.get().pollFirst();
+        if (context != null) {
+            context.reacquire();
+            return context;
+        }
+        final C created = this.factory.get();
+        created.pool = this;
+        return created;
+    }
+
+    void release(C context) {
+        final ArrayDeque<C> free = this.freeContexts.get();
+        if (free.size() < MAX_POOLED_CONTEXTS) {
+            free.addFirst(context);
+        }
+    }
+
+}
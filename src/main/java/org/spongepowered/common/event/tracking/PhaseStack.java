@@ -85,7 +85,7 @@ private PhaseStack push(PhaseData tuple) {
     }
 
     PhaseStack push(IPhaseState<?> state, PhaseContext<?> context) {
-        return push(new PhaseData(context, state));
+        return push(context.asPhaseData(state));
     }
 
     public void forEach(Consumer<PhaseData> consumer) {
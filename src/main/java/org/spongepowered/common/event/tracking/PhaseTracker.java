@@ -48,6 +48,7 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.cause.EventContextKeys;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.plugin.PluginContainer;
@@ -58,8 +59,10 @@
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.LoggingCategory;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.phase.general.UnwindingPhaseContext;
 import org.spongepowered.common.event.tracking.phase.TrackingPhase;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
@@ -215,6 +218,11 @@ public void completePhase(IPhaseState<?> prevState) {
         } catch (Exception e) {
             this.printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        if (prevState == state) {
+            // Only the context that was actually completed can be recycled, a mismatched
+            // completion may still have its context referenced further up the call stack
+            context.release();
+        }
     }
 
     private void printRunnawayPhaseCompletion(IPhaseState<?> state) {
@@ -572,7 +580,7 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
             // while a world is being changed unknowingly.
             this.printUnexpectedBlockChange();
         }
-        if (phaseState.requiresBlockCapturing()) {
+        if (this.capturesBlockChanges(phaseData, mixinWorld)) {
             try {
                 // Default, this means we've captured the block. Keeping with the semantics
                 // of the original method where true means it successfully changed.
@@ -614,6 +622,35 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
 
     }
 
+    /**
+     * Gets whether block changes made during the given phase need to be
+     * captured. States that only capture block changes to throw
+     * {@link ChangeBlockEvent}s are not captured while no listener for any
+     * such event is registered and block change logging is disabled, in which
+     * case changes go straight to the world without creating any snapshots.
+     * Since {@link ShouldFire} is updated as listeners are registered and
+     * unregistered, this follows listener registration without any caching.
+     *
+     * @param phaseData The current phase data
+     * @param mixinWorld The world being changed
+     * @return True if block changes are to be captured
+     */
+    @SuppressWarnings("unchecked")
+    public boolean capturesBlockChanges(PhaseData phaseData, IMixinWorldServer mixinWorld) {
+        final IPhaseState<?> state = phaseData.state;
+        if (!state.requiresBlockCapturing()) {
+            return false;
+        }
+        if (ShouldFire.CHANGE_BLOCK_EVENT) {
+            return true;
+        }
+        final LoggingCategory logging = mixinWorld.getActiveConfig().getConfig().getLogging();
+        if (logging.blockBreakLogging() || logging.blockModifyLogging() || logging.blockPlaceLogging()) {
+            return true;
+        }
+        return !((IPhaseState) state).canSkipUnobservedBlockCaptures(phaseData.context);
+    }
+
     /**
      * This is the replacement of {@link WorldServer#spawnEntity(net.minecraft.entity.Entity)}
      * where it captures into phases. The causes and relations are processed by the phases.
@@ -74,6 +74,16 @@ public final void acceptAndClearIfNotEmpty(Consumer<ListMultimap<K, V>> consumer
         }
     }
 
+    /**
+     * Clears all captures while retaining the backing multimap, used
+     * when the owning context is recycled.
+     */
+    public final void reset() {
+        if (this.captured != null) {
+            this.captured.clear();
+        }
+    }
+
     /**
      * If not empty, activates the {@link BiConsumer} with captures.
      * 
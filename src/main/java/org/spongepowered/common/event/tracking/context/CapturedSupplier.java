@@ -70,6 +70,16 @@ public final void acceptAndClearIfNotEmpty(Consumer<List<T>> consumer) {
         }
     }
 
+    /**
+     * Clears all captures while retaining the backing list, used
+     * when the owning context is recycled.
+     */
+    public final void reset() {
+        if (this.captured != null) {
+            this.captured.clear();
+        }
+    }
+
     /**
      * If not empty, returns the captured {@link List}.
      * Otherwise, this will return the passed list.
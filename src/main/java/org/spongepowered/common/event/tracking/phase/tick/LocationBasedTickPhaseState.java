@@ -53,6 +53,12 @@
 
     abstract LocatableBlock getLocatableBlockSourceFromContext(PhaseContext<?> context);
 
+    @Override
+    public boolean canSkipUnobservedBlockCaptures(T context) {
+        // Other than events, captured changes are only used to track the notifier of the changed positions
+        return !context.getNotifier().isPresent() && TrackingUtil.getNotifierOrOwnerFromBlock(this.getLocationSourceFromContext(context)) == null;
+    }
+
     @Override
     public void associateNeighborStateNotifier(T context, @Nullable BlockPos sourcePos, Block block, BlockPos notifyPos,
                                                WorldServer minecraftWorld, PlayerTracker.Type notifier) {
@@ -22,17 +22,18 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.util;
+package org.spongepowered.common.interfaces.entity;
 
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.ChunkPos;
+public interface IMixinEntityLiving {
 
-public class QueuedChunk {
-    public ChunkPos coords;
-    public NBTTagCompound compound;
+    /**
+     * Gets whether this entity is currently counted towards the mob cap of
+     * the world it was added to.
+     *
+     * @return True if counted
+     */
+    boolean isCountedCreature();
+
+    void setCountedCreature(boolean counted);
 
-    public QueuedChunk(ChunkPos coords, NBTTagCompound compound) {
-        this.coords = coords;
-        this.compound = compound;
-    }
 }
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.network.datasync;
+
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.event.data.ChangeDataHolderEvent;
+
+import java.util.Set;
+
+public interface IMixinEntityDataManager {
+
+    /**
+     * Starts batching the changes of this data manager. Until the batch is
+     * finished, changed values are applied without firing a
+     * {@link ChangeDataHolderEvent.ValueChange} for each of them. Batches
+     * may be nested, only the outermost batch fires the event.
+     */
+    void startChangeBatch();
+
+    /**
+     * Finishes the current batch, firing a single
+     * {@link ChangeDataHolderEvent.ValueChange} for all the changes made
+     * during the batch. If the event is cancelled, all the changed values
+     * are restored.
+     *
+     * @return The keys of the values restored because the event was
+     *     cancelled, empty if nothing was restored
+     */
+    Set<Key<?>> finishChangeBatch();
+
+    /**
+     * Finishes the current batch without firing an event, keeping the
+     * changed values. Used when the batch failed with an exception.
+     */
+    void abortChangeBatch();
+
+}
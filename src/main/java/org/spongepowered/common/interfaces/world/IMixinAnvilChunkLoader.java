@@ -24,10 +24,16 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +41,47 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Writes the pending data of the given chunk to its region file, until
+     * no newer data was queued while writing. Called from the chunk save
+     * threads. If a write fails the data stays pending, so it can be
+     * retried.
+     *
+     * @param pos The position of the chunk
+     * @return The amount of uncompressed bytes written, or -1 if the write
+     *     failed
+     */
+    int writePendingChunk(ChunkPos pos);
+
+    /**
+     * Discards the pending data of the given chunk after it repeatedly
+     * failed to be written.
+     *
+     * @param pos The position of the chunk
+     */
+    void discardPendingChunk(ChunkPos pos);
+
+    /**
+     * Reads the data of the given chunk, preferring data that is still
+     * waiting to be written. Safe to call from any thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data, or null if the chunk doesn't exist
+     * @throws IOException If the region file couldn't be read
+     */
+    @Nullable NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Creates the chunk from the data read by {@link #readChunkData(int, int)}.
+     * Must be called from the server thread.
+     *
+     * @param world The world of the chunk
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param data The chunk data
+     * @return The chunk, or null if the data is invalid
+     */
+    @Nullable Chunk readChunk(World world, int x, int z, NBTTagCompound data);
+
 }
@@ -28,12 +28,16 @@
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldEntitySpawner;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.block.ScheduledBlockUpdate;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.World;
@@ -45,7 +49,9 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.common.world.lighting.SpongeLightingEngine;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -101,6 +107,8 @@ default boolean forceSpawnEntity(Entity entity) {
 
     ExecutorService getLightingExecutor();
 
+    SpongeLightingEngine getLightingEngine();
+
     WorldTimingsHandler getTimingsHandler();
 
     int getChunkGCTickInterval();
@@ -113,6 +121,47 @@ default boolean forceSpawnEntity(Entity entity) {
 
     void doChunkGC();
 
+    /**
+     * Gets the pending block updates within the given chunk, in the order
+     * they will be processed.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The scheduled updates
+     */
+    Collection<ScheduledBlockUpdate> getScheduledUpdatesInChunk(int chunkX, int chunkZ);
+
+    /**
+     * Removes all the pending block updates within the given chunk. Called
+     * once an unloaded chunk is saved, the updates are stored with it.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The removed updates
+     */
+    Collection<ScheduledBlockUpdate> removeScheduledUpdatesInChunk(int chunkX, int chunkZ);
+
+    /**
+     * Gets the number of loaded entities counting towards the mob cap of
+     * the given creature type. The count is kept up to date as entities
+     * are added to and removed from the world. Mobs that don't despawn
+     * aren't counted.
+     *
+     * @param type The creature type
+     * @return The entity count
+     */
+    int getCreatureCount(EnumCreatureType type);
+
+    /**
+     * Updates the creature counts after the persistence of the given
+     * entity changed.
+     *
+     * @param entity The entity
+     */
+    void updateCreatureCount(EntityLiving entity);
+
+    WorldEntitySpawner getEntitySpawner();
+
     default WorldServer asMinecraftWorld() {
         return (WorldServer) this;
     }
@@ -29,6 +29,8 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface IMixinChunkProviderServer {
 
     boolean getForceChunkRequests();
@@ -44,4 +46,16 @@ public interface IMixinChunkProviderServer {
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    /**
+     * Loads the chunk at the given position without blocking the server
+     * thread on reading it from disk. The chunk is added to the world during
+     * one of the following ticks, chunks that don't exist are not generated.
+     * Must be called from the server thread, the future is completed on it.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future completed with the chunk, or with null if it doesn't exist
+     */
+    CompletableFuture<Chunk> loadChunkAsync(int x, int z);
 }
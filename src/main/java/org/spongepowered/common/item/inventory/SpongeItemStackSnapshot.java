@@ -47,6 +47,7 @@
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.text.translation.Translation;
+import org.spongepowered.common.data.CompactDataContainer;
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.DataQueries;
@@ -174,7 +175,7 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
-        final DataContainer container = DataContainer.createNew()
+        final DataContainer container = new CompactDataContainer()
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(DataQueries.ITEM_TYPE, this.itemType.getId())
             .set(DataQueries.ITEM_COUNT, this.quantity)
@@ -183,7 +184,8 @@ public DataContainer toContainer() {
             container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedImmutableManipulatorList(this.manipulators));
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            // Translate straight into the container, rather than into a new container that gets copied
+            NbtTranslator.getInstance().addTo(this.compound, container.createView(DataQueries.UNSAFE_NBT));
         }
         return container;
     }
@@ -73,6 +73,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.IMixinSingleBlockCarrier;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.VanillaAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.slots.CraftingOutputAdapter;
@@ -154,7 +155,7 @@ public static net.minecraft.inventory.Container fromMixin(IMixinContainer contai
     public static void performBlockInventoryDrops(WorldServer worldServer, double x, double y, double z, IInventory inventory) {
         final PhaseData currentPhase = PhaseTracker.getInstance().getCurrentPhaseData();
         final IPhaseState currentState = currentPhase.state;
-        if (currentState.tracksBlockSpecificDrops()) {
+        if (currentState.tracksBlockSpecificDrops() && PhaseTracker.getInstance().capturesBlockChanges(currentPhase, (IMixinWorldServer) worldServer)) {
             final PhaseContext<?> context = currentPhase.context;
             if (!currentState.ignoresItemPreMerging() && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().doDropsPreMergeItemDrops()) {
                 // Add itemstack to pre merge list
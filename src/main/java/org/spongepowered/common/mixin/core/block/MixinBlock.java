@@ -333,7 +333,10 @@ private static boolean redirectGameRulesToCaptureItemDrops(GameRules gameRules,
         if (allowTileDrops && worldIn instanceof IMixinWorldServer) {
             final PhaseData currentPhase = PhaseTracker.getInstance().getCurrentPhaseData();
             final IPhaseState<?> currentState = currentPhase.state;
-            if (canCaptureItems && currentState.tracksBlockSpecificDrops()) {
+            // Block specific drops are only released with their captured block change, so when the
+            // block change itself isn't captured, the drop has to go through as a regular spawn
+            if (canCaptureItems && currentState.tracksBlockSpecificDrops()
+                && PhaseTracker.getInstance().capturesBlockChanges(currentPhase, (IMixinWorldServer) worldIn)) {
                 final PhaseContext<?> context = currentPhase.context;
                 final Multimap<BlockPos, ItemDropData> multimap = context.getBlockDropSupplier().get();
                 final Collection<ItemDropData> itemStacks = multimap.get(pos);
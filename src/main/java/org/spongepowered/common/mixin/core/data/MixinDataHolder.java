@@ -48,16 +48,25 @@
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.DataChangeBatch;
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
+import org.spongepowered.common.interfaces.network.datasync.IMixinEntityDataManager;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = {TileEntity.class, Entity.class, ItemStack.class, SpongeUser.class}, priority = 999)
 public abstract class MixinDataHolder implements DataHolder {
 
@@ -199,37 +208,54 @@ public DataTransactionResult offer(DataManipulator<?, ?> valueContainer, MergeFu
 
     @Override
     public DataTransactionResult offer(Iterable<DataManipulator<?, ?>> valueContainers) {
+        return offer(valueContainers, MergeFunction.IGNORE_ALL);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public DataTransactionResult offer(Iterable<DataManipulator<?, ?>> valueContainers, MergeFunction function) {
+        checkNotNull(function);
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataOfferMultiManipulators.startTimingIfSync();
-        DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        // Group the manipulators by processor, every processor is only resolved once. Manipulators
+        // without a processor are grouped under null and offered as custom data.
+        final Map<DataProcessor, List<DataManipulator<?, ?>>> manipulatorsByProcessor = new LinkedHashMap<>();
         for (DataManipulator<?, ?> manipulator : valueContainers) {
-            final DataTransactionResult result = offer(manipulator);
-            if (!result.getRejectedData().isEmpty()) {
-                builder.reject(result.getRejectedData());
-            }
-            if (!result.getReplacedData().isEmpty()) {
-                builder.replace(result.getReplacedData());
-            }
-            if (!result.getSuccessfulData().isEmpty()) {
-                builder.success(result.getSuccessfulData());
-            }
-            final DataTransactionResult.Type type = result.getType();
-            builder.result(type);
-            switch (type) {
-                case UNDEFINED:
-                case ERROR:
-                case CANCELLED:
-                    SpongeTimings.dataOfferMultiManipulators.stopTimingIfSync();
-                    TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
-                    return builder.build();
-                default:
-                    break;
+            final DataProcessor processor = DataUtil.getWildDataProcessor(manipulator.getClass()).orElse(null);
+            manipulatorsByProcessor.computeIfAbsent(processor, p -> new ArrayList<>()).add(manipulator);
+        }
+
+        final List<Supplier<DataTransactionResult>> offers = new ArrayList<>();
+        for (Map.Entry<DataProcessor, List<DataManipulator<?, ?>>> entry : manipulatorsByProcessor.entrySet()) {
+            final DataProcessor processor = entry.getKey();
+            for (DataManipulator<?, ?> manipulator : entry.getValue()) {
+                if (processor != null) {
+                    offers.add(() -> processor.set(this, manipulator, function));
+                } else if (this instanceof IMixinCustomDataHolder) {
+                    offers.add(() -> ((IMixinCustomDataHolder) this).offerCustom(manipulator, function));
+                } else {
+                    offers.add(() -> DataTransactionResult.failResult(manipulator.getValues()));
+                }
             }
         }
-        SpongeTimings.dataOfferMultiManipulators.stopTimingIfSync();
-        TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
-        return builder.build();
+        try {
+            return DataChangeBatch.offer(getChangeBatchDataManager(), offers);
+        } finally {
+            SpongeTimings.dataOfferMultiManipulators.stopTimingIfSync();
+            TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
+        }
+    }
 
+    /**
+     * Gets the data manager of which the change events should be batched
+     * during a bulk offer, if this is an entity.
+     */
+    @Nullable
+    private IMixinEntityDataManager getChangeBatchDataManager() {
+        if ((Object) this instanceof Entity) {
+            return (IMixinEntityDataManager) ((Entity) (Object) this).getDataManager();
+        }
+        return null;
     }
 
     @Override
@@ -984,7 +984,6 @@ public DataContainer toContainer() {
         final NBTTagCompound compound = new NBTTagCompound();
         writeToNBT(compound);
         NbtDataUtil.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
-        final DataContainer unsafeNbt = NbtTranslator.getInstance().translateFrom(compound);
         final DataContainer container = DataContainer.createNew()
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(DataQueries.ENTITY_CLASS, this.getClass().getName())
@@ -1004,8 +1003,9 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Y, transform.getScale().getY())
                 .set(Queries.POSITION_Z, transform.getScale().getZ())
             .getContainer()
-            .set(DataQueries.ENTITY_TYPE, this.entityType.getId())
-            .set(DataQueries.UNSAFE_NBT, unsafeNbt);
+            .set(DataQueries.ENTITY_TYPE, this.entityType.getId());
+        // Translate straight into the container, rather than into a new container that gets copied
+        NbtTranslator.getInstance().addTo(compound, container.createView(DataQueries.UNSAFE_NBT));
         final Collection<DataManipulator<?, ?>> manipulators = ((IMixinCustomDataHolder) this).getCustomManipulators();
         if (!manipulators.isEmpty()) {
             container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedManipulatorList(manipulators));
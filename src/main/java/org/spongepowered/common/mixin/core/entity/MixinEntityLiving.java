@@ -27,6 +27,7 @@
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.ai.EntityAITasks;
+import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.EnumHand;
 import net.minecraft.world.GameRules;
@@ -67,6 +68,7 @@
 import org.spongepowered.common.interfaces.ai.IMixinEntityAIBase;
 import org.spongepowered.common.interfaces.ai.IMixinEntityAITasks;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.entity.IMixinEntityLiving;
 import org.spongepowered.common.interfaces.entity.IMixinGriefer;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
@@ -78,7 +80,7 @@
 import javax.annotation.Nullable;
 
 @Mixin(EntityLiving.class)
-public abstract class MixinEntityLiving extends MixinEntityLivingBase implements Agent {
+public abstract class MixinEntityLiving extends MixinEntityLivingBase implements Agent, IMixinEntityLiving {
 
     private static final String GET_CLOSEST_PLAYER =
             "Lnet/minecraft/world/World;getClosestPlayerToEntity(Lnet/minecraft/entity/Entity;D)Lnet/minecraft/entity/player/EntityPlayer;";
@@ -90,6 +92,8 @@ public abstract class MixinEntityLiving extends MixinEntityLivingBase implements
     @Shadow @Nullable public abstract net.minecraft.entity.Entity getLeashHolder();
     @Shadow protected abstract void initEntityAI();
 
+    private boolean countedCreature;
+
     @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityLiving;initEntityAI()V"))
     public void onInitAi(EntityLiving this$0) {
         this.initSpongeAI();
@@ -165,6 +169,33 @@ public void callUnleashEvent(boolean sendPacket, boolean dropLead, CallbackInfo
         }
     }
 
+    @Inject(method = {"enablePersistence", "readEntityFromNBT"}, at = @At("RETURN"))
+    private void onPersistenceUpdated(CallbackInfo ci) {
+        updateCreatureCount();
+    }
+
+    @Inject(method = "updateEquipmentIfNeeded", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/EntityLiving;persistenceRequired:Z",
+            opcode = Opcodes.PUTFIELD, shift = At.Shift.AFTER))
+    private void onPersistenceRequiredByPickup(EntityItem itemEntity, CallbackInfo ci) {
+        updateCreatureCount();
+    }
+
+    private void updateCreatureCount() {
+        if (!this.world.isRemote) {
+            ((IMixinWorldServer) this.world).updateCreatureCount((EntityLiving) (Object) this);
+        }
+    }
+
+    @Override
+    public boolean isCountedCreature() {
+        return this.countedCreature;
+    }
+
+    @Override
+    public void setCountedCreature(boolean counted) {
+        this.countedCreature = counted;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Agent> Optional<Goal<T>> getGoal(GoalType type) {
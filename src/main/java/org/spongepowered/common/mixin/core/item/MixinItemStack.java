@@ -217,8 +217,7 @@ public DataContainer toContainer() {
             }
             NbtDataUtil.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
             if (!compound.hasNoTags()) {
-                final DataContainer unsafeNbt = NbtTranslator.getInstance().translateFrom(compound);
-                container.set(DataQueries.UNSAFE_NBT, unsafeNbt);
+                NbtTranslator.getInstance().addTo(compound, container.createView(DataQueries.UNSAFE_NBT));
             }
         }
         // We only need to include the custom data, not vanilla manipulators supported by sponge implementation
@@ -28,6 +28,7 @@
 
 import com.google.common.base.Charsets;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
 import net.minecraft.nbt.NBTTagCompound;
@@ -39,6 +40,7 @@
 import org.spongepowered.asm.mixin.Intrinsic;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.data.persistence.NbtStreamTranslator;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.network.SpongeNetworkManager;
 
@@ -46,8 +48,6 @@
 import java.nio.ByteOrder;
 import java.util.UUID;
 
-import javax.annotation.Nullable;
-
 @Mixin(PacketBuffer.class)
 @Implements(@Interface(iface = ChannelBuf.class, prefix = "cbuf$"))
 public abstract class MixinPacketBuffer extends ByteBuf {
@@ -59,7 +59,6 @@ public abstract class MixinPacketBuffer extends ByteBuf {
     @Shadow public abstract PacketBuffer writeByteArray(byte[] array);
     @Shadow public abstract PacketBuffer writeVarInt(int input);
     @Shadow public abstract PacketBuffer writeString(String string);
-    @Shadow public abstract PacketBuffer writeCompoundTag(@Nullable NBTTagCompound nbt);
     @Shadow public abstract PacketBuffer writeUniqueId(UUID uniqueId);
     
     // mojang methods, non-fluent
@@ -493,8 +492,13 @@ public UUID getUniqueId(int index) {
     }
 
     public ChannelBuf cbuf$writeDataView(DataView data) {
-        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(checkNotNull(data, "data"));
-        this.writeCompoundTag(compound);
+        checkNotNull(data, "data");
+        // Write the view as NBT straight into the buffer, the format is the same as writeCompoundTag's
+        try {
+            NbtStreamTranslator.write(data, new ByteBufOutputStream(this));
+        } catch (IOException e) {
+            throw new EncoderException(e);
+        }
         return (ChannelBuf) this;
     }
 
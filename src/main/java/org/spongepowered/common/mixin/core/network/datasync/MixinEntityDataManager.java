@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.core.network.datasync;
 
+import static com.google.common.base.Preconditions.checkState;
+
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.network.datasync.DataParameter;
@@ -32,6 +34,8 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.data.ChangeDataHolderEvent;
 import org.spongepowered.asm.mixin.Final;
@@ -39,15 +43,25 @@
 import org.spongepowered.asm.mixin.Mutable;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.data.datasync.BatchedDataChange;
 import org.spongepowered.common.data.datasync.DataParameterConverter;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.interfaces.network.datasync.IMixinDataParameter;
+import org.spongepowered.common.interfaces.network.datasync.IMixinEntityDataManager;
 import org.spongepowered.common.registry.type.data.KeyRegistryModule;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
 
 @Mixin(EntityDataManager.class)
-public abstract class MixinEntityDataManager {
+public abstract class MixinEntityDataManager implements IMixinEntityDataManager {
 
     // This overrides the setter for the entries of the
     // data manager to use a "faster" map.
@@ -59,6 +73,10 @@ public abstract class MixinEntityDataManager {
 
     @Shadow protected abstract <T> EntityDataManager.DataEntry<T> getEntry(DataParameter<T> key);
 
+    // The changes of the current batch by parameter, null if no batch is running
+    @Nullable private Map<DataParameter<?>, BatchedDataChange<?>> batchedChanges;
+    private int batchDepth;
+
     /**
      * @author gabizou December 27th, 2017
      * @reason Inject ChangeValueEvent for entities by utilizing keys. Keys are registered
@@ -81,10 +99,16 @@ public <T> void set(DataParameter<T> key, T value) {
             // Client side can have an entity, because reasons.......
             // Really silly reasons......
             // I don't know, ask Grum....
-            if (this.entity != null && this.entity.world != null && !this.entity.world.isRemote) { // We only want to spam the server world ;)
+            // Without listeners the changes of the many parameters that change every tick
+            // (air, health, flags...) skip the conversion entirely
+            if (ShouldFire.CHANGE_DATA_HOLDER_EVENT_VALUE_CHANGE
+                && this.entity != null && this.entity.world != null && !this.entity.world.isRemote) { // We only want to spam the server world ;)
                 final Optional<DataParameterConverter<T>> converter = ((IMixinDataParameter) key).getConverter();
                 // At this point it is changing
-                if (converter.isPresent()) {
+                if (converter.isPresent() && this.batchedChanges != null) {
+                    // The event is fired once for the whole batch when it finishes
+                    batchChange(key, converter.get(), currentValue, value);
+                } else if (converter.isPresent()) {
                     // Ok, we have a key ready to use the converter
                     final Optional<DataTransactionResult> optional = converter.get().createTransaction(currentValue, value);
                     if (optional.isPresent()) {
@@ -115,4 +139,82 @@ public <T> void set(DataParameter<T> key, T value) {
             this.dirty = true;
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private <T> void batchChange(DataParameter<T> key, DataParameterConverter<T> converter, T currentValue, T value) {
+        final BatchedDataChange<T> change = (BatchedDataChange<T>) this.batchedChanges.get(key);
+        // The transaction of a batch always goes from the value before the batch to the latest value
+        final T originalValue = change == null ? currentValue : change.getOriginalValue();
+        final Optional<DataTransactionResult> transaction = converter.createTransaction(originalValue, value);
+        if (!transaction.isPresent()) {
+            // Changed back to the original value
+            this.batchedChanges.remove(key);
+        } else if (change == null) {
+            this.batchedChanges.put(key, new BatchedDataChange<>(key, converter, originalValue, transaction.get()));
+        } else {
+            change.setTransaction(transaction.get());
+        }
+    }
+
+    @Override
+    public void startChangeBatch() {
+        if (this.batchDepth++ == 0) {
+            this.batchedChanges = new LinkedHashMap<>();
+        }
+    }
+
+    @Override
+    public Set<Key<?>> finishChangeBatch() {
+        checkState(this.batchDepth > 0, "No change batch was started");
+        if (--this.batchDepth != 0) {
+            return Collections.emptySet();
+        }
+        final Map<DataParameter<?>, BatchedDataChange<?>> changes = this.batchedChanges;
+        this.batchedChanges = null;
+        if (changes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().result(DataTransactionResult.Type.SUCCESS);
+        for (BatchedDataChange<?> change : changes.values()) {
+            builder.absorbResult(change.getTransaction());
+        }
+        final ChangeDataHolderEvent.ValueChange event = SpongeEventFactory.createChangeDataHolderEventValueChange(
+                Sponge.getCauseStackManager().getCurrentCause(), builder.build(), (DataHolder) this.entity);
+        Sponge.getEventManager().post(event);
+        final List<ImmutableValue<?>> successfulData = event.getEndResult().getSuccessfulData();
+        for (BatchedDataChange<?> change : changes.values()) {
+            applyBatchedChange(change, event.isCancelled(), successfulData);
+        }
+        if (!event.isCancelled()) {
+            return Collections.emptySet();
+        }
+        final Set<Key<?>> restoredKeys = new HashSet<>();
+        for (BatchedDataChange<?> change : changes.values()) {
+            for (ImmutableValue<?> value : change.getTransaction().getSuccessfulData()) {
+                restoredKeys.add(value.getKey());
+            }
+        }
+        return restoredKeys;
+    }
+
+    @Override
+    public void abortChangeBatch() {
+        checkState(this.batchDepth > 0, "No change batch was started");
+        if (--this.batchDepth == 0) {
+            this.batchedChanges = null;
+        }
+    }
+
+    private <T> void applyBatchedChange(BatchedDataChange<T> change, boolean cancelled, List<ImmutableValue<?>> successfulData) {
+        final EntityDataManager.DataEntry<T> dataentry = this.getEntry(change.getParameter());
+        final T currentValue = dataentry.getValue();
+        // Restore the original value of a cancelled batch, or apply the end result of the event
+        final T value = cancelled ? change.getOriginalValue() : change.getValueFromEvent(currentValue, successfulData);
+        if (ObjectUtils.notEqual(value, currentValue)) {
+            dataentry.setValue(value);
+            this.entity.notifyDataManagerChange(change.getParameter());
+            dataentry.setDirty(true);
+            this.dirty = true;
+        }
+    }
 }
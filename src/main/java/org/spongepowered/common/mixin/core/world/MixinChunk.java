@@ -67,7 +67,6 @@
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
-import org.spongepowered.api.event.entity.CollideEntityEvent;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.util.AABB;
@@ -95,7 +94,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.entity.PlayerTracker;
-import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.entity.PlayerTrackerMap;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
@@ -104,6 +103,7 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
@@ -509,52 +509,6 @@ public MutableBlockVolumeWorker<Chunk> getBlockWorker() {
         return new SpongeMutableBlockVolumeWorker<>(this);
     }
 
-    @Inject(method = "getEntitiesWithinAABBForEntity", at = @At(value = "RETURN"))
-    public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<Entity> p_177414_4_,
-            CallbackInfo ci) {
-        if (this.world.isRemote || PhaseTracker.getInstance().getCurrentPhaseData().state.ignoresEntityCollisions()) {
-            return;
-        }
-
-        if (listToFill.size() == 0) {
-            return;
-        }
-
-        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, entityIn, listToFill);
-        final PhaseData peek = PhaseTracker.getInstance().getCurrentPhaseData();
-
-        if (event == null || event.isCancelled()) {
-            if (event == null && !peek.state.isTicking()) {
-                return;
-            }
-            listToFill.clear();
-        }
-    }
-
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    @Inject(method = "getEntitiesOfTypeWithinAABB", at = @At(value = "RETURN"))
-    public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, AxisAlignedBB aabb, List listToFill, Predicate<Entity> p_177430_4_,
-            CallbackInfo ci) {
-        if (this.world.isRemote || PhaseTracker.getInstance().getCurrentPhaseData().state.ignoresEntityCollisions()) {
-            return;
-        }
-
-        if (listToFill.size() == 0) {
-            return;
-        }
-
-        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, null, listToFill);
-        final PhaseData peek = PhaseTracker.getInstance().getCurrentPhaseData();
-
-        if (event == null || event.isCancelled()) {
-            if (event == null && !peek.state.isTicking()) {
-                return;
-            }
-            listToFill.clear();
-        }
-    }
-
-
     /**
      * @author blood
      * @reason cause tracking
@@ -694,7 +648,9 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
             // cancelled.
             final PhaseTracker phaseTracker = PhaseTracker.getInstance();
             final PhaseData peek = phaseTracker.getCurrentPhaseData();
-            final boolean requiresCapturing = peek.state.requiresBlockCapturing();
+            final boolean requiresCapturing = this.world instanceof IMixinWorldServer
+                                              ? phaseTracker.capturesBlockChanges(peek, (IMixinWorldServer) this.world)
+                                              : peek.state.requiresBlockCapturing();
             if (!requiresCapturing || SpongeImplHooks.hasBlockTileEntity(newBlock, newState)) {
                 // The new block state is null if called directly from Chunk#setBlockState(BlockPos, IBlockState)
                 // If it is null, then directly call the onBlockAdded logic.
@@ -736,13 +692,8 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public PlayerTrackerMap getTrackedPlayerPositions() {
+        return PlayerTrackerMap.EMPTY;
     }
 
     @Override
@@ -776,11 +727,7 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedPlayerPositions(PlayerTrackerMap trackedPositions) {
     }
 
     // Continuing the rest of the implementation
@@ -66,6 +66,7 @@
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.SpongeExplosionTracer;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -170,52 +171,70 @@ public void doExplosionA() {
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it
         if (this.shouldBreakBlocks) {
             // Sponge End
-            Set<BlockPos> set = Sets.<BlockPos>newHashSet();
-            int i = 16;
-
-            for (int j = 0; j < 16; ++j) {
-                for (int k = 0; k < 16; ++k) {
-                    for (int l = 0; l < 16; ++l) {
-                        if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
-                            double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
-                            double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
-                            double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
-                            double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
-                            d0 = d0 / d3;
-                            d1 = d1 / d3;
-                            d2 = d2 / d3;
-                            float f = this.size * (0.7F + this.world.rand.nextFloat() * 0.6F);
-                            double d4 = this.x;
-                            double d6 = this.y;
-                            double d8 = this.z;
-
-                            for (float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                IBlockState iblockstate = this.world.getBlockState(blockpos);
-
-                                if (iblockstate.getMaterial() != Material.AIR) {
-                                    float f2 = this.exploder != null
-                                               ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
-                                            , this.world, blockpos, iblockstate)
-                                               : iblockstate.getBlock().getExplosionResistance((Entity) null);
-                                    f -= (f2 + 0.3F) * 0.3F;
-                                }
-
-                                if (f > 0.0F && (this.exploder == null || this.exploder
-                                        .canExplosionDestroyBlock((net.minecraft.world.Explosion) (Object) this, this.world, blockpos, iblockstate, f))) {
-                                    set.add(blockpos);
+            // Sponge Start - Time the rays and trace them against a snapshot of the surrounding blocks if enabled
+            if (this.world instanceof IMixinWorldServer) {
+                ((IMixinWorldServer) this.world).getTimingsHandler().explosionRayTrace.startTiming();
+            }
+            final List<BlockPos> traced = this.world instanceof IMixinWorldServer && SpongeExplosionTracer.isEnabled()
+                    ? SpongeExplosionTracer.getInstance().trace((net.minecraft.world.Explosion) (Object) this, this.world, this.exploder,
+                            this.x, this.y, this.z, this.size)
+                    : null;
+            if (traced != null) {
+                this.affectedBlockPositions.addAll(traced);
+            } else {
+                // Sponge End
+                Set<BlockPos> set = Sets.<BlockPos>newHashSet();
+                int i = 16;
+
+                for (int j = 0; j < 16; ++j) {
+                    for (int k = 0; k < 16; ++k) {
+                        for (int l = 0; l < 16; ++l) {
+                            if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
+                                double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
+                                double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
+                                double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
+                                double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                                d0 = d0 / d3;
+                                d1 = d1 / d3;
+                                d2 = d2 / d3;
+                                float f = this.size * (0.7F + this.world.rand.nextFloat() * 0.6F);
+                                double d4 = this.x;
+                                double d6 = this.y;
+                                double d8 = this.z;
+
+                                for (float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
+                                    BlockPos blockpos = new BlockPos(d4, d6, d8);
+                                    IBlockState iblockstate = this.world.getBlockState(blockpos);
+
+                                    if (iblockstate.getMaterial() != Material.AIR) {
+                                        float f2 = this.exploder != null
+                                                   ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
+                                                , this.world, blockpos, iblockstate)
+                                                   : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                        f -= (f2 + 0.3F) * 0.3F;
+                                    }
+
+                                    if (f > 0.0F && (this.exploder == null || this.exploder
+                                            .canExplosionDestroyBlock((net.minecraft.world.Explosion) (Object) this, this.world, blockpos, iblockstate, f))) {
+                                        set.add(blockpos);
+                                    }
+
+                                    d4 += d0 * 0.30000001192092896D;
+                                    d6 += d1 * 0.30000001192092896D;
+                                    d8 += d2 * 0.30000001192092896D;
                                 }
-
-                                d4 += d0 * 0.30000001192092896D;
-                                d6 += d1 * 0.30000001192092896D;
-                                d8 += d2 * 0.30000001192092896D;
                             }
                         }
                     }
                 }
-            }
 
-            this.affectedBlockPositions.addAll(set);
+                this.affectedBlockPositions.addAll(set);
+            } // Sponge
+            // Sponge Start
+            if (this.world instanceof IMixinWorldServer) {
+                ((IMixinWorldServer) this.world).getTimingsHandler().explosionRayTrace.stopTiming();
+            }
+            // Sponge End
         } // Sponge - Finish if statement
         float f3 = this.size * 2.0F;
         int k1 = MathHelper.floor(this.x - (double) f3 - 1.0D);
@@ -348,6 +367,11 @@ public void doExplosionB(boolean spawnParticles) {
         }
 
         if (this.shouldBreakBlocks) { // Sponge - use 'shouldBreakBlocks' instead of 'damagesTerrain'
+            // Sponge Start - Time the removal of the blocks
+            if (this.world instanceof IMixinWorldServer) {
+                ((IMixinWorldServer) this.world).getTimingsHandler().explosionBlocks.startTiming();
+            }
+            // Sponge End
             for (BlockPos blockpos : this.affectedBlockPositions) {
                 IBlockState iblockstate = this.world.getBlockState(blockpos);
                 Block block = iblockstate.getBlock();
@@ -405,6 +429,11 @@ public void doExplosionB(boolean spawnParticles) {
                     // Sponge End
                 }
             }
+            // Sponge Start
+            if (this.world instanceof IMixinWorldServer) {
+                ((IMixinWorldServer) this.world).getTimingsHandler().explosionBlocks.stopTiming();
+            }
+            // Sponge End
         }
 
         if (this.causesFire) {
@@ -90,6 +90,7 @@
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.projectile.EnderPearl;
 import org.spongepowered.api.entity.projectile.source.ProjectileSource;
+import org.spongepowered.api.event.entity.CollideEntityEvent;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.chat.ChatType;
@@ -128,7 +129,11 @@
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.data.type.SpongeTileEntityType;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseData;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.block.BlockPhase;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
@@ -310,6 +315,47 @@ public void onGetCollisionBoxes(net.minecraft.entity.Entity entity, AxisAlignedB
         }
     }
 
+    @Inject(method = "getEntitiesInAABBexcluding", at = @At("RETURN"))
+    private void onGetEntitiesInAABBexcluding(@Nullable net.minecraft.entity.Entity entityIn, AxisAlignedBB boundingBox,
+            @Nullable com.google.common.base.Predicate<? super net.minecraft.entity.Entity> predicate,
+            CallbackInfoReturnable<List<net.minecraft.entity.Entity>> cir) {
+        this.callCollideEntityEvent(entityIn, cir.getReturnValue());
+    }
+
+    @Inject(method = "getEntitiesWithinAABB(Ljava/lang/Class;Lnet/minecraft/util/math/AxisAlignedBB;Lcom/google/common/base/Predicate;)Ljava/util/List;",
+            at = @At("RETURN"))
+    private <T extends net.minecraft.entity.Entity> void onGetEntitiesWithinAABB(Class<? extends T> clazz, AxisAlignedBB aabb,
+            @Nullable com.google.common.base.Predicate<? super T> filter, CallbackInfoReturnable<List<T>> cir) {
+        this.callCollideEntityEvent(null, cir.getReturnValue());
+    }
+
+    /**
+     * Fires a single {@link CollideEntityEvent} for the entities found by an
+     * entity query across all the chunks it touched, instead of one per chunk.
+     *
+     * @param entityIn The entity the query was for, if any
+     * @param entities The found entities, cleared if the event is cancelled
+     */
+    @SuppressWarnings("unchecked")
+    private void callCollideEntityEvent(@Nullable net.minecraft.entity.Entity entityIn, List<? extends net.minecraft.entity.Entity> entities) {
+        if (this.isRemote || entities.isEmpty() || !ShouldFire.COLLIDE_ENTITY_EVENT) {
+            return;
+        }
+        final PhaseData peek = PhaseTracker.getInstance().getCurrentPhaseData();
+        if (peek.state.ignoresEntityCollisions()) {
+            return;
+        }
+
+        final CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent((net.minecraft.world.World) (Object) this, entityIn,
+                (List<net.minecraft.entity.Entity>) entities);
+        if (event == null || event.isCancelled()) {
+            if (event == null && !peek.state.isTicking()) {
+                return;
+            }
+            entities.clear();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Player> getPlayers() {
@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntitySpawnPlacementRegistry;
@@ -61,20 +62,21 @@
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.interfaces.world.IMixinWorldEntitySpawner;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.SpawnerSpawnType;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 @Mixin(WorldEntitySpawner.class)
-public abstract class MixinWorldEntitySpawner {
+public abstract class MixinWorldEntitySpawner implements IMixinWorldEntitySpawner {
 
     private static final String BIOME_CAN_SPAWN_ANIMAL =
         "Lnet/minecraft/world/WorldEntitySpawner;canCreatureTypeSpawnAtLocation(Lnet/minecraft/entity/EntityLiving$SpawnPlacementType;"
@@ -82,12 +84,33 @@ public abstract class MixinWorldEntitySpawner {
 
     private static final String WEIGHTED_RANDOM_GET = "Lnet/minecraft/util/WeightedRandom;getRandomItem(Ljava/util/Random;Ljava/util/List;)"
         + "Lnet/minecraft/util/WeightedRandom$Item;";
+    private static final EnumCreatureType[] CREATURE_TYPES = EnumCreatureType.values();
+    // How often the eligible chunks are rebuilt even if no spawning player changed chunk, to pick
+    // up chunks that were loaded, sent to players or moved across the world border since. Chunks
+    // unloaded in the meantime are skipped by the spawn pass.
+    private static final int ELIGIBLE_CHUNK_REFRESH_INTERVAL = 20;
+
     @Nullable
     private static EntityType spawnerEntityType;
     private List<Chunk> eligibleSpawnChunks = new ArrayList<>();
+    private final LongArrayList spawningPlayerChunks = new LongArrayList();
+    private final LongArrayList lastSpawningPlayerChunks = new LongArrayList();
+    private int lastMobSpawnRange = -1;
+    private long lastEligibleChunkRefresh;
+    private int chunkSpawnCandidates;
+    // Creature types whose spawn pass ran out of time, as a bit mask of
+    // their ordinals, and the chunk index each of them resumes at
+    private int pendingCreatureTypes;
+    private final int[] resumeChunkIndex = new int[CREATURE_TYPES.length];
+    private long lastSpawnPassTime;
+    private long maxSpawnPassTime;
+    private long totalSpawnPassTime;
+    private long spawnPassCount;
 
     /**
      * @author blood - February 18th, 2017
+     * @author Sponge - October 18th, 2026 - Cache eligible chunks, use the tracked mob counts and spread passes across ticks.
+     *
      * @reason Refactor entire method for optimizations and spawn limits.
      *
      * @param worldServerIn The world
@@ -105,206 +128,322 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
         try (PhaseContext<?> context = GenerationPhase.State.WORLD_SPAWNER_SPAWNING.createPhaseContext()
                 .world(worldServerIn)
                 .buildAndSwitch()) {
-            Iterator<Chunk> chunkIterator = this.eligibleSpawnChunks.iterator();
-            while (chunkIterator.hasNext()) {
-                Chunk chunk = chunkIterator.next();
-                ((IMixinChunk) chunk).setIsSpawning(false);
-                chunkIterator.remove();
-            }
-
             IMixinWorldServer spongeWorld = ((IMixinWorldServer) worldServerIn);
             spongeWorld.getTimingsHandler().mobSpawn.startTiming();
+            final long startTime = System.nanoTime();
 
-            int chunkSpawnCandidates = 0;
-            final int mobSpawnRange = Math.min(((IMixinWorldServer) worldServerIn).getActiveConfig().getConfig().getWorld().getMobSpawnRange(),
+            final SpongeConfig<? extends GeneralConfigBase> activeConfig = spongeWorld.getActiveConfig();
+            final long worldTotalTime = worldServerIn.getTotalWorldTime();
+            final int mobSpawnRange = Math.min(activeConfig.getConfig().getWorld().getMobSpawnRange(),
                     ((org.spongepowered.api.world.World) worldServerIn).getViewDistance());
+            if (shouldRefreshEligibleChunks(worldServerIn, mobSpawnRange, worldTotalTime)) {
+                refreshEligibleChunks(worldServerIn, mobSpawnRange, worldTotalTime);
+            }
+
+            // If there are no eligible chunks, return early
+            if (this.eligibleSpawnChunks.size() == 0) {
+                this.pendingCreatureTypes = 0;
+                spongeWorld.getTimingsHandler().mobSpawn.stopTiming();
+                return 0;
+            }
+
             // Vanilla uses a div count of 289 (17x17) which assumes the view distance is 8.
             // Since we allow for custom ranges, we need to adjust the div count based on the
             // mob spawn range set by server.
             final int MOB_SPAWN_COUNT_DIV = (2 * mobSpawnRange + 1) * (2 * mobSpawnRange + 1);
-
-            for (EntityPlayer entityplayer : worldServerIn.playerEntities) {
-                // We treat players who do not affect spawning as "spectators"
-                if (!((IMixinEntityPlayer) entityplayer).affectsSpawning() || entityplayer.isSpectator()) {
+            final int maxSpawnTime = activeConfig.getConfig().getSpawner().getMaxSpawnTime();
+            final long deadline = maxSpawnTime <= 0 ? 0 : startTime + TimeUnit.MILLISECONDS.toNanos(maxSpawnTime);
+
+            int dueCreatureTypes = 0;
+            for (EnumCreatureType enumCreatureType : CREATURE_TYPES) {
+                final int limit = getSpawnLimit(activeConfig, enumCreatureType);
+                final int tickRate = getTickRate(activeConfig, enumCreatureType);
+                final int bit = 1 << enumCreatureType.ordinal();
+                if (limit == 0 || tickRate == 0
+                        || (enumCreatureType.getPeacefulCreature() && !spawnPeacefulMobs)
+                        || (!enumCreatureType.getPeacefulCreature() && !spawnHostileMobs)) {
+                    this.pendingCreatureTypes &= ~bit;
                     continue;
                 }
+                if ((worldTotalTime % tickRate) == 0L && (this.pendingCreatureTypes & bit) == 0) {
+                    this.resumeChunkIndex[enumCreatureType.ordinal()] = 0;
+                    dueCreatureTypes |= bit;
+                }
+            }
 
-                int playerPosX = MathHelper.floor(entityplayer.posX / 16.0D);
-                int playerPosZ = MathHelper.floor(entityplayer.posZ / 16.0D);
-
-                for (int i = -mobSpawnRange; i <= mobSpawnRange; ++i) {
-                    for (int j = -mobSpawnRange; j <= mobSpawnRange; ++j) {
-                        boolean flag = i == -mobSpawnRange || i == mobSpawnRange || j == -mobSpawnRange || j == mobSpawnRange;
-                        final Chunk
-                            chunk =
-                            ((IMixinChunkProviderServer) worldServerIn.getChunkProvider())
-                                .getLoadedChunkWithoutMarkingActive(i + playerPosX, j + playerPosZ);
-                        if (chunk == null || (chunk.unloadQueued && !((IMixinChunk) chunk).isPersistedChunk())) {
-                            // Don't attempt to spawn in an unloaded chunk
-                            continue;
-                        }
+            // Creature types left over from the last tick go first so that
+            // types due every tick can't starve them of the time budget
+            int totalSpawned = 0;
+            boolean spawnedAnyType = false;
+            for (int typeMask : new int[] {this.pendingCreatureTypes, dueCreatureTypes}) {
+                for (EnumCreatureType enumCreatureType : CREATURE_TYPES) {
+                    final int bit = 1 << enumCreatureType.ordinal();
+                    if ((typeMask & bit) == 0) {
+                        continue;
+                    }
+                    this.pendingCreatureTypes |= bit;
+                    if (deadline != 0 && spawnedAnyType && System.nanoTime() >= deadline) {
+                        continue;
+                    }
 
-                        final IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                        ++chunkSpawnCandidates;
-                        final ChunkPos chunkPos = chunk.getPos();
-                        if (!flag && worldServerIn.getWorldBorder().contains(chunkPos)) {
-                            PlayerChunkMapEntry playerchunkmapentry = worldServerIn.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
+                    final int entityCount = SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
+                    final int maxCount = getSpawnLimit(activeConfig, enumCreatureType) * this.chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
+                    if (entityCount > maxCount) {
+                        this.pendingCreatureTypes &= ~bit;
+                        continue;
+                    }
 
-                            if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.isSpawning()) {
-                                this.eligibleSpawnChunks.add(chunk);
-                                spongeChunk.setIsSpawning(true);
-                            }
+                    totalSpawned += spawnCreatureType(worldServerIn, enumCreatureType, maxCount - entityCount + 1, deadline);
+                    spawnedAnyType = true;
+                }
+            }
+
+            final long time = System.nanoTime() - startTime;
+            this.lastSpawnPassTime = time;
+            this.totalSpawnPassTime += time;
+            this.spawnPassCount++;
+            if (time > this.maxSpawnPassTime) {
+                this.maxSpawnPassTime = time;
+            }
+            spongeWorld.getTimingsHandler().mobSpawn.stopTiming();
+
+            return totalSpawned;
+        }
+    }
+
+    private boolean shouldRefreshEligibleChunks(WorldServer worldServerIn, int mobSpawnRange, long worldTotalTime) {
+        this.spawningPlayerChunks.clear();
+        for (EntityPlayer entityplayer : worldServerIn.playerEntities) {
+            // We treat players who do not affect spawning as "spectators"
+            if (!((IMixinEntityPlayer) entityplayer).affectsSpawning() || entityplayer.isSpectator()) {
+                continue;
+            }
+            this.spawningPlayerChunks.add(ChunkPos.asLong(MathHelper.floor(entityplayer.posX / 16.0D), MathHelper.floor(entityplayer.posZ / 16.0D)));
+        }
+
+        return mobSpawnRange != this.lastMobSpawnRange
+                || worldTotalTime - this.lastEligibleChunkRefresh >= ELIGIBLE_CHUNK_REFRESH_INTERVAL
+                || !this.spawningPlayerChunks.equals(this.lastSpawningPlayerChunks);
+    }
+
+    private void refreshEligibleChunks(WorldServer worldServerIn, int mobSpawnRange, long worldTotalTime) {
+        for (Chunk chunk : this.eligibleSpawnChunks) {
+            ((IMixinChunk) chunk).setIsSpawning(false);
+        }
+        this.eligibleSpawnChunks.clear();
+        this.lastSpawningPlayerChunks.clear();
+        this.lastSpawningPlayerChunks.addAll(this.spawningPlayerChunks);
+        this.lastMobSpawnRange = mobSpawnRange;
+        this.lastEligibleChunkRefresh = worldTotalTime;
+
+        int chunkSpawnCandidates = 0;
+        for (int index = 0; index < this.spawningPlayerChunks.size(); index++) {
+            final long playerChunk = this.spawningPlayerChunks.getLong(index);
+            final int playerPosX = (int) playerChunk;
+            final int playerPosZ = (int) (playerChunk >> 32);
+
+            for (int i = -mobSpawnRange; i <= mobSpawnRange; ++i) {
+                for (int j = -mobSpawnRange; j <= mobSpawnRange; ++j) {
+                    boolean flag = i == -mobSpawnRange || i == mobSpawnRange || j == -mobSpawnRange || j == mobSpawnRange;
+                    final Chunk
+                        chunk =
+                        ((IMixinChunkProviderServer) worldServerIn.getChunkProvider())
+                            .getLoadedChunkWithoutMarkingActive(i + playerPosX, j + playerPosZ);
+                    if (chunk == null || (chunk.unloadQueued && !((IMixinChunk) chunk).isPersistedChunk())) {
+                        // Don't attempt to spawn in an unloaded chunk
+                        continue;
+                    }
+
+                    final IMixinChunk spongeChunk = (IMixinChunk) chunk;
+                    ++chunkSpawnCandidates;
+                    final ChunkPos chunkPos = chunk.getPos();
+                    if (!flag && worldServerIn.getWorldBorder().contains(chunkPos)) {
+                        PlayerChunkMapEntry playerchunkmapentry = worldServerIn.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
+
+                        if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.isSpawning()) {
+                            this.eligibleSpawnChunks.add(chunk);
+                            spongeChunk.setIsSpawning(true);
                         }
                     }
                 }
             }
+        }
+        this.chunkSpawnCandidates = chunkSpawnCandidates;
+    }
 
-            // If there are no eligible chunks, return early
-            if (this.eligibleSpawnChunks.size() == 0) {
-                spongeWorld.getTimingsHandler().mobSpawn.stopTiming();
+    private static int getSpawnLimit(SpongeConfig<? extends GeneralConfigBase> activeConfig, EnumCreatureType enumCreatureType) {
+        switch (enumCreatureType) {
+            case MONSTER:
+                return activeConfig.getConfig().getSpawner().getMonsterSpawnLimit();
+            case CREATURE:
+                return activeConfig.getConfig().getSpawner().getAnimalSpawnLimit();
+            case WATER_CREATURE:
+                return activeConfig.getConfig().getSpawner().getAquaticSpawnLimit();
+            case AMBIENT:
+                return activeConfig.getConfig().getSpawner().getAmbientSpawnLimit();
+            default:
                 return 0;
+        }
+    }
+
+    private static int getTickRate(SpongeConfig<? extends GeneralConfigBase> activeConfig, EnumCreatureType enumCreatureType) {
+        switch (enumCreatureType) {
+            case MONSTER:
+                return activeConfig.getConfig().getSpawner().getMonsterTickRate();
+            case CREATURE:
+                return activeConfig.getConfig().getSpawner().getAnimalTickRate();
+            case WATER_CREATURE:
+                return activeConfig.getConfig().getSpawner().getAquaticTickRate();
+            case AMBIENT:
+                return activeConfig.getConfig().getSpawner().getAmbientTickRate();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Spawns the given creature type in the eligible chunks, starting at
+     * the chunk its last pass stopped at. Clears the type from the pending
+     * creature types once all chunks were visited or the mob limit was
+     * reached, otherwise records where to resume on the next tick.
+     */
+    private int spawnCreatureType(WorldServer worldServerIn, EnumCreatureType enumCreatureType, int mobLimit, long deadline) {
+        final int ordinal = enumCreatureType.ordinal();
+        final int startIndex = Math.min(this.resumeChunkIndex[ordinal], this.eligibleSpawnChunks.size());
+        final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+        int totalSpawned = 0;
+        int chunkIndex = startIndex;
+
+        labelChunkStart:
+        for (; chunkIndex < this.eligibleSpawnChunks.size() && mobLimit > 0; chunkIndex++) {
+            // Always make progress, even if the budget ran out before this type started
+            if (deadline != 0 && chunkIndex > startIndex && System.nanoTime() >= deadline) {
+                this.resumeChunkIndex[ordinal] = chunkIndex;
+                return totalSpawned;
+            }
+            final Chunk chunk = this.eligibleSpawnChunks.get(chunkIndex);
+            if (!((org.spongepowered.api.world.Chunk) chunk).isLoaded() || (chunk.unloadQueued && !((IMixinChunk) chunk).isPersistedChunk())) {
+                continue;
             }
+            final BlockPos blockpos = getRandomChunkPosition(worldServerIn, chunk);
+            int k1 = blockpos.getX();
+            int l1 = blockpos.getY();
+            int i2 = blockpos.getZ();
+            IBlockState iblockstate = worldServerIn.getBlockState(blockpos);
+
+            if (!iblockstate.isNormalCube()) {
+                int spawnCount = 0;
+                for (int spawnLimit = 0; spawnLimit < 3; ++spawnLimit) {
+                    int l2 = k1;
+                    int i3 = l1;
+                    int j3 = i2;
+                    Biome.SpawnListEntry spawnListEntry = null;
+                    IEntityLivingData ientitylivingdata = null;
+                    int l3 = MathHelper.ceil(Math.random() * 4.0D);
+
+                    for (int i4 = 0; i4 < l3; ++i4) {
+                        l2 += worldServerIn.rand.nextInt(6) - worldServerIn.rand.nextInt(6);
+                        i3 += worldServerIn.rand.nextInt(1) - worldServerIn.rand.nextInt(1);
+                        j3 += worldServerIn.rand.nextInt(6) - worldServerIn.rand.nextInt(6);
+                        mutableBlockPos.setPos(l2, i3, j3);
+                        final double spawnX = l2 + 0.5F;
+                        final double spawnY = i3;
+                        final double spawnZ = j3 + 0.5F;
+
+                        if (!worldServerIn.isAnyPlayerWithinRangeAt(spawnX, spawnY, spawnZ, 24.0D)
+                            && worldServerIn.getSpawnPoint().distanceSq(spawnX, spawnY, spawnZ) >= 576.0D) {
+                            if (spawnListEntry == null) {
+                                spawnListEntry = worldServerIn.getSpawnListEntryForTypeAt(enumCreatureType, mutableBlockPos);
+
+                                if (spawnListEntry == null) {
+                                    break;
+                                }
+                            }
 
-            int totalSpawned = 0;
-            final long worldTotalTime = worldServerIn.getTotalWorldTime();
-            final SpongeConfig<? extends GeneralConfigBase> activeConfig = ((IMixinWorldServer) worldServerIn).getActiveConfig();
-
-            labelOuterLoop:
-            for (EnumCreatureType enumCreatureType : EnumCreatureType.values()) {
-                int limit = 0;
-                int tickRate = 0;
-                if (enumCreatureType == EnumCreatureType.MONSTER) {
-                    limit = activeConfig.getConfig().getSpawner().getMonsterSpawnLimit();
-                    tickRate = activeConfig.getConfig().getSpawner().getMonsterTickRate();
-                } else if (enumCreatureType == EnumCreatureType.CREATURE) {
-                    limit = activeConfig.getConfig().getSpawner().getAnimalSpawnLimit();
-                    tickRate = activeConfig.getConfig().getSpawner().getAnimalTickRate();
-                } else if (enumCreatureType == EnumCreatureType.WATER_CREATURE) {
-                    limit = activeConfig.getConfig().getSpawner().getAquaticSpawnLimit();
-                    tickRate = activeConfig.getConfig().getSpawner().getAquaticTickRate();
-                } else if (enumCreatureType == EnumCreatureType.AMBIENT) {
-                    limit = activeConfig.getConfig().getSpawner().getAmbientSpawnLimit();
-                    tickRate = activeConfig.getConfig().getSpawner().getAmbientTickRate();
-                }
+                            final EntityType entityType = EntityTypeRegistryModule.getInstance().getForClass(spawnListEntry.entityClass);
+                            if (entityType != null) {
+                                Vector3d vector3d = new Vector3d(spawnX, spawnY, spawnZ);
+                                Transform<org.spongepowered.api.world.World>
+                                    transform =
+                                    new Transform<>((org.spongepowered.api.world.World) worldServerIn, vector3d);
+                                ConstructEntityEvent.Pre
+                                    event =
+                                    SpongeEventFactory
+                                        .createConstructEntityEventPre(Sponge.getCauseStackManager().getCurrentCause(), entityType,
+                                            transform);
+                                if (SpongeImpl.postEvent(event)) {
+                                    continue;
+                                }
+                            }
 
-                if (limit == 0 || tickRate == 0 || (worldTotalTime % tickRate) != 0L) {
-                    continue;
-                }
+                            if (worldServerIn.canCreatureTypeSpawnHere(enumCreatureType, spawnListEntry, mutableBlockPos)
+                                && WorldEntitySpawner.canCreatureTypeSpawnAtLocation(
+                                EntitySpawnPlacementRegistry.getPlacementForEntity(spawnListEntry.entityClass), worldServerIn,
+                                mutableBlockPos)) {
+                                EntityLiving entityliving;
+
+                                try {
+                                    entityliving =
+                                        spawnListEntry.entityClass.getConstructor(new Class<?>[]{World.class}).newInstance(worldServerIn);
+                                } catch (Exception exception) {
+                                    exception.printStackTrace();
+                                    this.pendingCreatureTypes &= ~(1 << ordinal);
+                                    return totalSpawned;
+                                }
 
-                if ((!enumCreatureType.getPeacefulCreature() || spawnPeacefulMobs) && (enumCreatureType.getPeacefulCreature() || spawnHostileMobs)) {
-                    int entityCount = SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
-                    int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
-                    if (entityCount > maxCount) {
-                        continue labelOuterLoop;
-                    }
+                                entityliving.setLocationAndAngles(spawnX, spawnY, spawnZ, worldServerIn.rand.nextFloat() * 360.0F, 0.0F);
+                                final boolean entityNotColliding = entityliving.isNotColliding();
 
-                    chunkIterator = this.eligibleSpawnChunks.iterator();
-                    int mobLimit = maxCount - entityCount + 1;
-                    labelChunkStart:
-                    while (chunkIterator.hasNext() && mobLimit > 0) {
-                        final Chunk chunk = chunkIterator.next();
-                        final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
-                        final BlockPos blockpos = getRandomChunkPosition(worldServerIn, chunk);
-                        int k1 = blockpos.getX();
-                        int l1 = blockpos.getY();
-                        int i2 = blockpos.getZ();
-                        IBlockState iblockstate = worldServerIn.getBlockState(blockpos);
-
-                        if (!iblockstate.isNormalCube()) {
-                            int spawnCount = 0;
-                            for (int spawnLimit = 0; spawnLimit < 3; ++spawnLimit) {
-                                int l2 = k1;
-                                int i3 = l1;
-                                int j3 = i2;
-                                Biome.SpawnListEntry spawnListEntry = null;
-                                IEntityLivingData ientitylivingdata = null;
-                                int l3 = MathHelper.ceil(Math.random() * 4.0D);
-
-                                for (int i4 = 0; i4 < l3; ++i4) {
-                                    l2 += worldServerIn.rand.nextInt(6) - worldServerIn.rand.nextInt(6);
-                                    i3 += worldServerIn.rand.nextInt(1) - worldServerIn.rand.nextInt(1);
-                                    j3 += worldServerIn.rand.nextInt(6) - worldServerIn.rand.nextInt(6);
-                                    mutableBlockPos.setPos(l2, i3, j3);
-                                    final double spawnX = l2 + 0.5F;
-                                    final double spawnY = i3;
-                                    final double spawnZ = j3 + 0.5F;
-
-                                    if (!worldServerIn.isAnyPlayerWithinRangeAt(spawnX, spawnY, spawnZ, 24.0D)
-                                        && worldServerIn.getSpawnPoint().distanceSq(spawnX, spawnY, spawnZ) >= 576.0D) {
-                                        if (spawnListEntry == null) {
-                                            spawnListEntry = worldServerIn.getSpawnListEntryForTypeAt(enumCreatureType, mutableBlockPos);
-
-                                            if (spawnListEntry == null) {
-                                                break;
-                                            }
-                                        }
-
-                                        final EntityType entityType = EntityTypeRegistryModule.getInstance().getForClass(spawnListEntry.entityClass);
-                                        if (entityType != null) {
-                                            Vector3d vector3d = new Vector3d(spawnX, spawnY, spawnZ);
-                                            Transform<org.spongepowered.api.world.World>
-                                                transform =
-                                                new Transform<>((org.spongepowered.api.world.World) worldServerIn, vector3d);
-                                            ConstructEntityEvent.Pre
-                                                event =
-                                                SpongeEventFactory
-                                                    .createConstructEntityEventPre(Sponge.getCauseStackManager().getCurrentCause(), entityType,
-                                                        transform);
-                                            if (SpongeImpl.postEvent(event)) {
-                                                continue;
-                                            }
-                                        }
-
-                                        if (worldServerIn.canCreatureTypeSpawnHere(enumCreatureType, spawnListEntry, mutableBlockPos)
-                                            && WorldEntitySpawner.canCreatureTypeSpawnAtLocation(
-                                            EntitySpawnPlacementRegistry.getPlacementForEntity(spawnListEntry.entityClass), worldServerIn,
-                                            mutableBlockPos)) {
-                                            EntityLiving entityliving;
-
-                                            try {
-                                                entityliving =
-                                                    spawnListEntry.entityClass.getConstructor(new Class<?>[]{World.class}).newInstance(worldServerIn);
-                                            } catch (Exception exception) {
-                                                exception.printStackTrace();
-                                                continue labelOuterLoop;
-                                            }
-
-                                            entityliving.setLocationAndAngles(spawnX, spawnY, spawnZ, worldServerIn.rand.nextFloat() * 360.0F, 0.0F);
-                                            final boolean entityNotColliding = entityliving.isNotColliding();
-
-                                            final SpawnerSpawnType type = SpongeImplHooks.canEntitySpawnHere(entityliving, entityNotColliding);
-                                            if (type != SpawnerSpawnType.NONE) {
-                                                if (type == SpawnerSpawnType.NORMAL) {
-                                                    ientitylivingdata = entityliving.onInitialSpawn(worldServerIn.getDifficultyForLocation(new BlockPos(entityliving)), ientitylivingdata);
-                                                }
-
-                                                if (entityNotColliding) {
-                                                    ++spawnCount;
-                                                    worldServerIn.spawnEntity(entityliving);
-                                                } else {
-                                                    entityliving.setDead();
-                                                }
-
-                                                mobLimit--;
-                                                if (mobLimit <= 0 || spawnCount >= SpongeImplHooks.getMaxSpawnPackSize(entityliving)) {
-                                                    continue labelChunkStart;
-                                                }
-                                            }
-
-                                            totalSpawned += spawnCount;
-                                        }
+                                final SpawnerSpawnType type = SpongeImplHooks.canEntitySpawnHere(entityliving, entityNotColliding);
+                                if (type != SpawnerSpawnType.NONE) {
+                                    if (type == SpawnerSpawnType.NORMAL) {
+                                        ientitylivingdata = entityliving.onInitialSpawn(worldServerIn.getDifficultyForLocation(new BlockPos(entityliving)), ientitylivingdata);
+                                    }
+
+                                    if (entityNotColliding) {
+                                        ++spawnCount;
+                                        worldServerIn.spawnEntity(entityliving);
+                                    } else {
+                                        entityliving.setDead();
+                                    }
+
+                                    mobLimit--;
+                                    if (mobLimit <= 0 || spawnCount >= SpongeImplHooks.getMaxSpawnPackSize(entityliving)) {
+                                        continue labelChunkStart;
                                     }
                                 }
+
+                                totalSpawned += spawnCount;
                             }
                         }
                     }
                 }
             }
+        }
 
-            spongeWorld.getTimingsHandler().mobSpawn.stopTiming();
+        this.pendingCreatureTypes &= ~(1 << ordinal);
+        return totalSpawned;
+    }
 
-            return totalSpawned;
-        }
+    @Override
+    public int getEligibleChunkCount() {
+        return this.eligibleSpawnChunks.size();
+    }
+
+    @Override
+    public long getLastSpawnPassTime(TimeUnit unit) {
+        return unit.convert(this.lastSpawnPassTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long getMaxSpawnPassTime(TimeUnit unit) {
+        return unit.convert(this.maxSpawnPassTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long getAverageSpawnPassTime(TimeUnit unit) {
+        final long count = this.spawnPassCount;
+        return count == 0 ? 0 : unit.convert(this.totalSpawnPassTime / count, TimeUnit.NANOSECONDS);
     }
 
     private static BlockPos getRandomChunkPosition(World worldIn, Chunk chunk)
@@ -34,12 +34,19 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.BlockPistonBase;
 import net.minecraft.block.ITileEntityProvider;
+import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.effect.EntityLightningBolt;
 import net.minecraft.entity.passive.EntitySkeletonHorse;
 import net.minecraft.entity.player.EntityPlayer;
@@ -71,6 +78,7 @@
 import net.minecraft.world.Teleporter;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldEntitySpawner;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.WorldSettings;
 import net.minecraft.world.WorldType;
@@ -81,6 +89,7 @@
 import net.minecraft.world.gen.ChunkGeneratorEnd;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.gen.IChunkGenerator;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.MapStorage;
 import net.minecraft.world.storage.WorldInfo;
@@ -179,6 +188,7 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.entity.IMixinEntityLiving;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinServerWorldEventHandler;
@@ -191,9 +201,11 @@
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
 import org.spongepowered.common.util.NonNullArrayList;
+import org.spongepowered.common.util.ScheduledUpdateTreeSet;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.SpongeExplosionTracer;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
@@ -246,11 +258,21 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private boolean weatherIceAndSnowEnabled = true;
     private int dimensionId;
     private IMixinChunkProviderServer mixinChunkProviderServer;
+    private ScheduledUpdateTreeSet scheduledUpdates = new ScheduledUpdateTreeSet();
+    // The neighbor notifications deferred while explosions remove their blocks, by changed position
+    private final Long2ObjectLinkedOpenHashMap<Block> deferredNeighborNotifications = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongSet deferredObserverNotifications = new LongOpenHashSet();
+    private int neighborNotificationDeferrals;
+    private static final EnumCreatureType[] CREATURE_TYPES = EnumCreatureType.values();
+    private final int[] creatureCounts = new int[CREATURE_TYPES.length];
 
     @Shadow @Final private MinecraftServer mcServer;
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
-    @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow @Final @Mutable private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow @Final private List<NextTickListEntry> pendingTickListEntriesThisTick;
     @Shadow @Final private PlayerChunkMap playerChunkMap;
+    @Shadow @Final private WorldEntitySpawner entitySpawner;
+    @Shadow @Final private Map<UUID, net.minecraft.entity.Entity> entitiesByUuid;
     @Shadow @Final @Mutable private Teleporter worldTeleporter;
     @Shadow @Final private WorldServer.ServerBlockEventList[] blockEventQueue;
     @Shadow private int blockEventCacheIndex;
@@ -315,6 +337,8 @@ private void onConstruct(MinecraftServer server, ISaveHandler saveHandlerIn, Wor
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
         this.updateEntityTick = 0;
         this.mixinChunkProviderServer = ((IMixinChunkProviderServer) this.getChunkProvider());
+        // Replaces the empty set, indexing the pending updates by position
+        this.pendingTickListEntriesTreeSet = this.scheduledUpdates;
         this.setMemoryViewDistance(this.chooseViewDistanceValue(this.getActiveConfig().getConfig().getWorld().getViewDistance()));
     }
 
@@ -986,16 +1010,69 @@ private int onGetDimensionIdForBlockEvents(DimensionType dimensionType) {
         return this.getDimensionId();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
-        BlockPos position = new BlockPos(x, y, z);
-        ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
-                builder.add((ScheduledBlockUpdate) sbu);
+        return (Collection) ImmutableList.copyOf(this.scheduledUpdates.getEntries(new BlockPos(x, y, z)));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Collection<ScheduledBlockUpdate> getScheduledUpdatesInChunk(int chunkX, int chunkZ) {
+        return (Collection) ImmutableList.copyOf(this.scheduledUpdates.getEntries(chunkX, chunkZ));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public Collection<ScheduledBlockUpdate> removeScheduledUpdatesInChunk(int chunkX, int chunkZ) {
+        final List<NextTickListEntry> removed = this.scheduledUpdates.removeEntries(chunkX, chunkZ);
+        // Removed one by one, Set#removeAll iterates the whole set if it isn't larger than the list
+        for (NextTickListEntry entry : removed) {
+            this.pendingTickListEntriesHashSet.remove(entry);
+        }
+        return (Collection) ImmutableList.copyOf(removed);
+    }
+
+    /**
+     * @author Sponge - October 18th, 2026
+     * @reason Looks up the pending updates through the position index instead
+     * of scanning all of them, this is called for every chunk that is saved.
+     *
+     * @param structureBB The area to get the pending updates of
+     * @param remove Whether to remove the pending updates
+     * @return The pending updates, or null if there are none
+     */
+    @Nullable
+    @Overwrite
+    public List<NextTickListEntry> getPendingBlockUpdates(StructureBoundingBox structureBB, boolean remove) {
+        List<NextTickListEntry> list = null;
+        final List<NextTickListEntry> pending = this.scheduledUpdates.getEntries(structureBB.minX, structureBB.minZ, structureBB.maxX,
+                structureBB.maxZ);
+        if (!pending.isEmpty()) {
+            if (remove) {
+                for (NextTickListEntry entry : pending) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    this.scheduledUpdates.remove(entry);
+                }
+            }
+            list = Lists.newArrayList(pending);
+        }
+
+        final Iterator<NextTickListEntry> iterator = this.pendingTickListEntriesThisTick.iterator();
+        while (iterator.hasNext()) {
+            final NextTickListEntry entry = iterator.next();
+            final BlockPos pos = entry.position;
+            if (pos.getX() >= structureBB.minX && pos.getX() < structureBB.maxX && pos.getZ() >= structureBB.minZ && pos.getZ() < structureBB.maxZ) {
+                if (remove) {
+                    iterator.remove();
+                }
+                if (list == null) {
+                    list = Lists.newArrayList();
+                }
+                list.add(entry);
             }
         }
-        return builder.build();
+        return list;
     }
 
     @Nullable
@@ -1195,6 +1272,10 @@ public void triggerExplosion(org.spongepowered.api.world.explosion.Explosion exp
         Location<org.spongepowered.api.world.World> origin = explosion.getLocation();
         checkNotNull(origin, "location");
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+        final boolean deferNeighborNotifications = SpongeExplosionTracer.isEnabled();
+        if (deferNeighborNotifications) {
+            this.deferNeighborNotifications();
+        }
 
         try (final PhaseContext<?> phaseContext = PluginPhase.State.CUSTOM_EXPLOSION.createPhaseContext()
                 .explosion(explosion)
@@ -1244,6 +1325,10 @@ public void triggerExplosion(org.spongepowered.api.world.explosion.Explosion exp
 
             // Sponge Start - end processing
             this.processingExplosion = false;
+        } finally {
+            if (deferNeighborNotifications) {
+                this.flushNeighborNotifications();
+            }
         }
         // Sponge End
     }
@@ -1385,6 +1470,16 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType, boolean
         if (!isValid(pos)) {
             return;
         }
+        if (this.neighborNotificationDeferrals > 0) {
+            final long key = pos.toLong();
+            if (!this.deferredNeighborNotifications.containsKey(key)) {
+                this.deferredNeighborNotifications.put(key, blockType);
+            }
+            if (updateObserverBlocks) {
+                this.deferredObserverNotifications.add(key);
+            }
+            return;
+        }
 
         final NotifyNeighborBlockEvent event = SpongeCommonEventFactory.callNotifyNeighborEvent(this, pos, NOTIFY_DIRECTIONS);
         if (event == null || !event.isCancelled()) {
@@ -1407,6 +1502,57 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType, boolean
         }
     }
 
+    private void deferNeighborNotifications() {
+        this.neighborNotificationDeferrals++;
+    }
+
+    /**
+     * Sends the neighbor notifications deferred since the matching
+     * {@link #deferNeighborNotifications()}, notifying each neighbor only once.
+     * Changed positions that are air now, like blocks destroyed by the same
+     * explosion, are not notified at all.
+     */
+    private void flushNeighborNotifications() {
+        if (--this.neighborNotificationDeferrals > 0 || this.deferredNeighborNotifications.isEmpty()) {
+            return;
+        }
+        // Notifications caused by the ones below are sent right away
+        final Long2ObjectMap<Block> sources = new Long2ObjectLinkedOpenHashMap<>(this.deferredNeighborNotifications);
+        final LongSet observerSources = new LongOpenHashSet(this.deferredObserverNotifications);
+        this.deferredNeighborNotifications.clear();
+        this.deferredObserverNotifications.clear();
+
+        final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+        final LongSet notified = new LongOpenHashSet();
+        for (Long2ObjectMap.Entry<Block> entry : sources.long2ObjectEntrySet()) {
+            final BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+            final Block blockType = entry.getValue();
+            final NotifyNeighborBlockEvent event = SpongeCommonEventFactory.callNotifyNeighborEvent(this, pos, NOTIFY_DIRECTIONS);
+            if (event == null || !event.isCancelled()) {
+                for (EnumFacing facing : EnumFacing.values()) {
+                    if (event != null) {
+                        final Direction direction = DirectionFacingProvider.getInstance().getKey(facing).get();
+                        if (!event.getNeighbors().keySet().contains(direction)) {
+                            continue;
+                        }
+                    }
+
+                    final BlockPos neighbor = pos.offset(facing);
+                    final long neighborKey = neighbor.toLong();
+                    if (sources.containsKey(neighborKey) && this.getBlockState(neighbor).getMaterial() == Material.AIR) {
+                        continue;
+                    }
+                    if (notified.add(neighborKey)) {
+                        phaseTracker.notifyBlockOfStateChange(this, neighbor, blockType, pos);
+                    }
+                }
+            }
+            if (observerSources.contains(entry.getLongKey())) {
+                this.updateObservingBlocksAt(pos, blockType);
+            }
+        }
+    }
+
     @SuppressWarnings("Duplicates")
     @Override
     public void onUpdateWeatherEffect(net.minecraft.entity.Entity entityIn) {
@@ -1516,6 +1662,61 @@ public void onSpongeEntityRemoved(net.minecraft.entity.Entity entity) {
         this.onEntityRemoved(entity);
     }
 
+    @Inject(method = "onEntityAdded", at = @At("RETURN"))
+    private void onEntityAddedCountCreature(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        // Like World#countEntities, mobs that don't despawn don't count towards the mob cap
+        if (entity instanceof EntityLiving) {
+            if (((EntityLiving) entity).isNoDespawnRequired()) {
+                return;
+            }
+            ((IMixinEntityLiving) entity).setCountedCreature(true);
+        }
+        updateCreatureCounts(entity, 1);
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("RETURN"))
+    private void onEntityRemovedCountCreature(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        if (entity instanceof EntityLiving) {
+            if (!((IMixinEntityLiving) entity).isCountedCreature()) {
+                return;
+            }
+            ((IMixinEntityLiving) entity).setCountedCreature(false);
+        }
+        updateCreatureCounts(entity, -1);
+    }
+
+    @Override
+    public void updateCreatureCount(EntityLiving entity) {
+        // Only entities loaded in this world are counted
+        if (this.entitiesByUuid.get(entity.getUniqueID()) != entity) {
+            return;
+        }
+        final IMixinEntityLiving mixinEntity = (IMixinEntityLiving) entity;
+        final boolean counted = !entity.isNoDespawnRequired();
+        if (mixinEntity.isCountedCreature() != counted) {
+            mixinEntity.setCountedCreature(counted);
+            updateCreatureCounts(entity, counted ? 1 : -1);
+        }
+    }
+
+    private void updateCreatureCounts(net.minecraft.entity.Entity entity, int delta) {
+        for (EnumCreatureType type : CREATURE_TYPES) {
+            if (type.getCreatureClass().isInstance(entity)) {
+                this.creatureCounts[type.ordinal()] = Math.max(0, this.creatureCounts[type.ordinal()] + delta);
+            }
+        }
+    }
+
+    @Override
+    public int getCreatureCount(EnumCreatureType type) {
+        return this.creatureCounts[type.ordinal()];
+    }
+
+    @Override
+    public WorldEntitySpawner getEntitySpawner() {
+        return this.entitySpawner;
+    }
+
     @Override
     public boolean spawnEntity(Entity entity) {
         checkNotNull(entity, "The entity cannot be null!");
@@ -1621,6 +1822,13 @@ public Explosion newExplosion(@Nullable net.minecraft.entity.Entity entityIn, do
             boolean isSmoking) {
         Explosion explosion = new Explosion((WorldServer) (Object) this, entityIn, x, y, z, strength, isFlaming, isSmoking);
 
+        // Sponge Start - Notify the neighbors of the destroyed blocks once all of them are removed
+        final boolean deferNeighborNotifications = SpongeExplosionTracer.isEnabled();
+        if (deferNeighborNotifications) {
+            this.deferNeighborNotifications();
+        }
+        // Sponge End
+
         // Sponge Start - Cause tracking
         try (final ExplosionContext context = GeneralPhase.State.EXPLOSION.createPhaseContext()
                 .potentialExplosionSource((WorldServer) (Object) this, entityIn)
@@ -1659,7 +1867,11 @@ public Explosion newExplosion(@Nullable net.minecraft.entity.Entity entityIn, do
             this.processingExplosion = false;
             // Sponge End
             return explosion;
-        } // Sponge - brackets
+        } finally { // Sponge - brackets
+            if (deferNeighborNotifications) {
+                this.flushNeighborNotifications();
+            }
+        }
     }
 
     /**
@@ -25,19 +25,21 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Maps;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
-import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.EntityType;
@@ -63,24 +65,26 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerMap;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
-import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.SpongeChunkSaveExecutor;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
-    private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
-    private final Object lock = new Object();
-
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
 
@@ -88,42 +92,22 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
+    @Shadow @Final private DataFixer fixer;
 
-    @Shadow
-    public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
         // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        final PlayerTrackerMap trackedPositions = chunk.getTrackedPlayerPositions();
+        if (!trackedPositions.isEmpty()) {
             NBTTagCompound trackedNbt = new NBTTagCompound();
             NBTTagList positions = new NBTTagList();
             trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
+            trackedPositions.writeTo(positions);
         }
     }
 
@@ -131,33 +115,8 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
             int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
             NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
-            IMixinChunk chunk = (IMixinChunk) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
-                }
-
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
-                }
-            }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            ((IMixinChunk) chunkIn).setTrackedPlayerPositions(PlayerTrackerMap.readFrom(positions));
         }
     }
 
@@ -232,76 +191,96 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
      */
     @Overwrite
     protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
-        synchronized (this.lock) {
-            this.chunksToSave.put(pos, compound);
+        // Sponge - Only schedule a write if none is pending yet, the pending write picks up the newest data
+        if (this.chunksToSave.put(pos, compound) == null) {
+            SpongeChunkSaveExecutor.getInstance().schedule(this, pos);
         }
-        this.queue.add(new QueuedChunk(pos, compound));
-
-        ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
 
     /**
      * @author aikar - February 19th, 2017
      * @reason Refactor entire method for chunk queue improvements.
-     * @return Whether write was successful
+     *
+     * <p>Chunks are written by the {@link SpongeChunkSaveExecutor}, the file
+     * IO thread is never queued with this loader anymore.</p>
+     *
+     * @return Always false, there is nothing left to write
      */
     @Overwrite
     public boolean writeNextIO() {
-        QueuedChunk chunk = this.queue.poll();
-        if (chunk == null) {
-            if (this.flushing) {
-                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
-            }
+        return false;
+    }
 
-            return false;
-        } else {
-            ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
+    /**
+     * @author Sponge - October 18th, 2026
+     * @reason Wait for the chunk save threads instead of draining the queue
+     * on the calling thread.
+     */
+    @Overwrite
+    public void flush() {
+        try {
+            this.flushing = true;
+            SpongeChunkSaveExecutor.getInstance().flush();
+            LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", this.chunkSaveLocation.getName());
+        } finally {
+            this.flushing = false;
+        }
+    }
 
+    @Override
+    public int writePendingChunk(ChunkPos pos) {
+        int bytes = 0;
+        NBTTagCompound compound;
+        while ((compound = this.chunksToSave.get(pos)) != null) {
+            // The region file isn't closed by region file cache clears while it is written to
+            final RegionFile regionFile = WorldStorageUtil.acquireWritingRegionFile(this.chunkSaveLocation, pos.x, pos.z);
             try {
-                // this.field_193415_c.add(chunkpos);
-                NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
-                }
-
-                synchronized (this.lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
-                    }
-                }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
+                // The data is compressed into memory, the region file is only written when the stream is closed
+                final DataOutputStream out = regionFile.getChunkDataOutputStream(pos.x & 31, pos.z & 31);
+                CompressedStreamTools.write(compound, out);
+                out.close();
+                bytes += out.size();
+            } catch (Exception e) {
+                // Keep the pending data, the write is retried by the chunk save executor
+                LOGGER.error("Failed to save chunk [{}, {}]", pos.x, pos.z, e);
+                return -1;
             } finally {
-                // this.field_193415_c.remove(chunkpos);
+                WorldStorageUtil.releaseWritingRegionFile(regionFile);
+            }
+            // This will not match if a newer version was queued while writing, which is written next
+            if (this.chunksToSave.remove(pos, compound)) {
+                break;
             }
+        }
+        return bytes;
+    }
 
-            return lvt_3_1_;
+    @Override
+    public void discardPendingChunk(ChunkPos pos) {
+        this.chunksToSave.remove(pos);
+    }
+
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        final NBTTagCompound pending = this.chunksToSave.get(new ChunkPos(x, z));
+        if (pending != null) {
+            return pending;
+        }
+        try (DataInputStream in = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z)) {
+            if (in == null) {
+                return null;
+            }
+            return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(in));
         }
     }
 
+    @Nullable
+    @Override
+    public Chunk readChunk(World world, int x, int z, NBTTagCompound data) {
+        return this.checkedReadChunkFromNBT(world, x, z, data);
+    }
+
     @Override
     public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
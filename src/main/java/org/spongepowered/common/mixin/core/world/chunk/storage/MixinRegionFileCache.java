@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+@Mixin(RegionFileCache.class)
+public abstract class MixinRegionFileCache {
+
+    @Shadow @Final private static Map<File, RegionFile> REGIONS_BY_FILE;
+
+    /**
+     * @author Sponge - October 18th, 2026
+     * @reason Keep the region files chunks are being written to by the
+     * chunk save threads open. The cache is also cleared when it is full
+     * while loading a region file, which may happen on any thread.
+     */
+    @Overwrite
+    public static synchronized void clearRegionFileReferences() {
+        final Iterator<RegionFile> it = REGIONS_BY_FILE.values().iterator();
+        while (it.hasNext()) {
+            final RegionFile regionFile = it.next();
+            // Stays cached, so no second instance of the file gets opened while it is written
+            if (regionFile != null && WorldStorageUtil.isWritingRegionFile(regionFile)) {
+                continue;
+            }
+            try {
+                if (regionFile != null) {
+                    regionFile.close();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            it.remove();
+        }
+    }
+
+}
@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -65,12 +66,19 @@
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.PendingChunkLoad;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
+import org.spongepowered.common.world.storage.SpongeChunkLoadExecutor;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
@@ -80,6 +88,10 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private long maxChunkLoadTime;
+    // Only accessed from the server thread
+    private final Long2ObjectMap<PendingChunkLoad> pendingChunkLoads = new Long2ObjectOpenHashMap<>();
+    private final Queue<PendingChunkLoad> readChunkLoads = new ConcurrentLinkedQueue<>();
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -102,6 +114,8 @@ private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, ICh
         this.denyChunkRequests = spongeConfig.getConfig().getWorld().getDenyChunkRequests();
         this.chunkUnloadDelay = spongeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
         this.maxChunkUnloads = spongeConfig.getConfig().getWorld().getMaxChunkUnloads();
+        this.maxChunkLoadTime = TimeUnit.MILLISECONDS.toNanos(
+                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncChunkLoadingCategory().getMaxLoadTime());
     }
 
     @Override
@@ -127,6 +141,74 @@ public CompletableFuture<Optional<DataContainer>> getChunkData(Vector3i chunkCoo
         return WorldStorageUtil.getChunkData(this.world, this.chunkLoader, chunkCoords);
     }
 
+    @Override
+    public CompletableFuture<Chunk> loadChunkAsync(int x, int z) {
+        final Chunk loaded = this.getLoadedChunk(x, z);
+        if (loaded != null) {
+            return CompletableFuture.completedFuture(loaded);
+        }
+        final long key = ChunkPos.asLong(x, z);
+        final PendingChunkLoad pending = this.pendingChunkLoads.get(key);
+        if (pending != null) {
+            return pending.getFuture();
+        }
+        if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return CompletableFuture.completedFuture(this.loadChunk(x, z));
+        }
+        final PendingChunkLoad load = new PendingChunkLoad(x, z);
+        this.pendingChunkLoads.put(key, load);
+        SpongeChunkLoadExecutor.getInstance().read((IMixinAnvilChunkLoader) this.chunkLoader, load, this.readChunkLoads);
+        return load.getFuture();
+    }
+
+    // Adds the chunks read asynchronously to the world, within the time budget of a tick
+    private void finishChunkLoads() {
+        final long deadline = System.nanoTime() + this.maxChunkLoadTime;
+        PendingChunkLoad load;
+        while ((load = this.readChunkLoads.poll()) != null) {
+            this.pendingChunkLoads.remove(ChunkPos.asLong(load.getX(), load.getZ()));
+            load.getFuture().complete(this.finishChunkLoad(load));
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    private Chunk finishChunkLoad(PendingChunkLoad load) {
+        final int x = load.getX();
+        final int z = load.getZ();
+        // The chunk may have been loaded synchronously in the meantime
+        Chunk chunk = this.id2ChunkMap.get(ChunkPos.asLong(x, z));
+        if (chunk != null) {
+            return chunk;
+        }
+        if (load.isStale()) {
+            // The chunk was loaded synchronously and saved or unloaded again while it was read, the read data
+            // may predate that save. Load it again, preferring the data that is still waiting to be written
+            return this.loadChunk(x, z);
+        }
+        if (load.getData() == null) {
+            return null;
+        }
+        // Based on loadChunkFromFile
+        try {
+            chunk = ((IMixinAnvilChunkLoader) this.chunkLoader).readChunk(this.world, x, z, load.getData());
+            if (chunk == null) {
+                return null;
+            }
+            chunk.setLastSaveTime(this.world.getTotalWorldTime());
+            this.chunkGenerator.recreateStructures(chunk, x, z);
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Couldn't load chunk", e);
+            return null;
+        }
+        this.id2ChunkMap.put(ChunkPos.asLong(x, z), chunk);
+        chunk.onLoad();
+        chunk.populate((ChunkProviderServer) (Object) this, this.chunkGenerator);
+        return chunk;
+    }
+
     @Override
     public WorldProperties getWorldProperties() {
         return (WorldProperties) this.world.getWorldInfo();
@@ -272,6 +354,11 @@ public long getChunkUnloadDelay() {
     @Overwrite
     public boolean tick()
     {
+        // Sponge - add the chunks that were read asynchronously
+        if (!this.readChunkLoads.isEmpty()) {
+            this.finishChunkLoads();
+        }
+
         if (!this.world.disableLevelSaving)
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
@@ -289,8 +376,11 @@ public boolean tick()
                         spongeChunk.setScheduledForUnload(-1);
                     }
                     chunk.onUnload();
+                    this.markChunkLoadStale(chunk.x, chunk.z);
                     this.saveChunkData(chunk);
                     this.saveChunkExtraData(chunk);
+                    // Sponge - the pending block updates were saved with the chunk
+                    ((IMixinWorldServer) this.world).removeScheduledUpdatesInChunk(chunk.x, chunk.z);
                     iterator.remove();
                     chunksUnloaded++;
                 }
@@ -318,8 +408,17 @@ public void onCanSave(CallbackInfoReturnable<Boolean> cir) {
         }
     }
 
+    // Marks an asynchronous read of the chunk that is in flight as outdated
+    private void markChunkLoadStale(int x, int z) {
+        final PendingChunkLoad load = this.pendingChunkLoads.get(ChunkPos.asLong(x, z));
+        if (load != null) {
+            load.markStale();
+        }
+    }
+
     @Inject(method = "saveChunkData", at = @At("HEAD"), cancellable = true)
     public void onSaveChunkData(Chunk chunkIn, CallbackInfo ci) {
+        this.markChunkLoadStale(chunkIn.x, chunkIn.z);
         if (((WorldProperties)this.world.getWorldInfo()).getSerializationBehavior() == SerializationBehaviors.NONE) {
             ci.cancel();
         }
@@ -30,8 +30,11 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.storage.SpongeChunkSaveExecutor;
 
 import java.util.List;
 
@@ -54,4 +57,11 @@ public void onProcessQueueThreadSleep(long millis) {
             e.printStackTrace();
         }
     }
+
+    // Chunks are written by the chunk save executor instead of this thread. Save handler flushes
+    // wait for this thread before clearing the region file cache, so they have to wait for it too
+    @Inject(method = "waitForFinish", at = @At("HEAD"))
+    private void onWaitForFinish(CallbackInfo ci) {
+        SpongeChunkSaveExecutor.flushIfStarted();
+    }
 }
@@ -26,22 +26,15 @@
 
 import com.google.common.base.Predicate;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.item.EntityItem;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.World;
-import org.spongepowered.api.block.BlockType;
-import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.event.tracking.PhaseContext;
-import org.spongepowered.common.interfaces.world.IMixinWorldServer;
-import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionLimits;
 
 import java.util.List;
 
@@ -54,12 +47,8 @@ public class MixinChunk_Collisions {
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
     public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
             CallbackInfo ci) {
-        // ignore players and entities with parts (ex. EnderDragon)
-        if (this.world.isRemote || entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
-            return;
-        }
-
-        if (!allowEntityCollision(listToFill)) {
+        final int maxCollisions = EntityCollisionLimits.getMaxCollisionsForEntity(this.world, entityIn);
+        if (maxCollisions >= 0 && listToFill.size() >= maxCollisions) {
             ci.cancel();
         }
     }
@@ -68,49 +57,9 @@ public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entit
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
     public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
             Predicate<? super T> p_177430_4_, CallbackInfo ci) {
-        // ignore player checks
-        // ignore item check (ex. Hoppers)
-        if (this.world.isRemote || EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
-            return;
-        }
-
-        if (!allowEntityCollision(listToFill)) {
+        final int maxCollisions = EntityCollisionLimits.getMaxCollisionsForType(this.world, entityClass);
+        if (maxCollisions >= 0 && listToFill.size() >= maxCollisions) {
             ci.cancel();
         }
     }
-
-    private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
-        if (this.world instanceof IMixinWorldServer) {
-            IMixinWorldServer spongeWorld = (IMixinWorldServer) this.world;
-            if (spongeWorld.isProcessingExplosion()) {
-                // allow explosions
-                return true;
-            }
-
-            final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getCurrentContext();
-            LocatableBlock locatable = phaseContext.getSource(LocatableBlock.class).orElse(null);
-            if (locatable != null) {
-                BlockType blockType =locatable.getLocation().getBlockType();
-                IModData_Collisions spongeBlock = (IModData_Collisions) blockType;
-                if (spongeBlock.requiresCollisionsCacheRefresh()) {
-                    spongeBlock.initializeCollisionState(this.world);
-                    spongeBlock.requiresCollisionsCacheRefresh(false);
-                }
-
-                return !((spongeBlock.getMaxCollisions() >= 0) && (listToFill.size() >= spongeBlock.getMaxCollisions()));
-            }
-            IModData_Collisions spongeEntity = phaseContext.getSource(IModData_Collisions.class).orElse(null);
-            if (spongeEntity != null) {
-                if (spongeEntity.requiresCollisionsCacheRefresh()) {
-                    spongeEntity.initializeCollisionState(this.world);
-                    spongeEntity.requiresCollisionsCacheRefresh(false);
-                }
-
-                return !((spongeEntity.getMaxCollisions() >= 0) && (listToFill.size() >= spongeEntity.getMaxCollisions()));
-            }
-            return true;
-        }
-
-        return true;
-    }
 }
@@ -24,8 +24,13 @@
  */
 package org.spongepowered.common.mixin.optimization.block;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongListIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockObserver;
 import net.minecraft.block.BlockPistonBase;
@@ -50,8 +55,9 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.util.PackedBlockPos;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -64,19 +70,41 @@ protected MixinBlockRedstoneWire(Material materialIn) {
         super(materialIn);
     }
 
+    // All the positions below are packed with PackedBlockPos. The buffers are reused between updates, the wire
+    // is a single instance but all worlds are ticked on the server thread.
+
     /** Positions that need to be turned off **/
-    private List<BlockPos> turnOff = Lists.<BlockPos>newArrayList();
+    private final LongArrayFIFOQueue turnOff = new LongArrayFIFOQueue();
+    private final LongSet turnOffSet = new LongOpenHashSet();
     /** Positions that need to be checked to be turned on **/
-    private List<BlockPos> turnOn = Lists.<BlockPos>newArrayList();
+    private final LongArrayFIFOQueue turnOn = new LongArrayFIFOQueue();
+    private final LongSet turnOnSet = new LongOpenHashSet();
     /** Positions of wire that was updated already (Ordering determines update order and is therefore required!) **/
-    private final Set<BlockPos> updatedRedstoneWire = Sets.<BlockPos>newLinkedHashSet();
-     
+    private final LongLinkedOpenHashSet updatedRedstoneWire = new LongLinkedOpenHashSet();
+    /** Sets collecting the blocks needing an update, one per nested update as notifying neighbors may update other wires **/
+    private final List<LongLinkedOpenHashSet> blocksNeedingUpdateBuffers = new ArrayList<>();
+    private int updateDepth;
+    /** Positions used to read the world, each only used within one method **/
+    private final BlockPos.MutableBlockPos wirePos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos listPos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos powerPos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos updatePos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos offsetPos = new BlockPos.MutableBlockPos();
+
+
     /** Ordered arrays of the facings; Needed for the update order.
      *  I went with a vertical-first order here, but vertical last would work to.
      *  However it should be avoided to update the vertical axis between the horizontal ones as this would cause unneeded directional behavior. **/
     private static final EnumFacing[] facingsHorizontal = {EnumFacing.WEST, EnumFacing.EAST, EnumFacing.NORTH, EnumFacing.SOUTH};
     private static final EnumFacing[] facingsVertical = {EnumFacing.DOWN, EnumFacing.UP};
     private static final EnumFacing[] facings = ArrayUtils.addAll(facingsVertical, facingsHorizontal);
+    private static final EnumFacing[] facingsHorizontalPlane = EnumFacing.Plane.HORIZONTAL.facings();
+
+    /** Bit masks of the sides returned by getSidesToPower **/
+    private static final int SIDES_NORTH_SOUTH = (1 << EnumFacing.NORTH.ordinal()) | (1 << EnumFacing.SOUTH.ordinal());
+    private static final int SIDES_EAST_WEST = (1 << EnumFacing.EAST.ordinal()) | (1 << EnumFacing.WEST.ordinal());
+    private static final int SIDES_HORIZONTAL = SIDES_NORTH_SOUTH | SIDES_EAST_WEST;
 
     /** Offsets for all surrounding blocks that need to receive updates **/
     private static final Vec3i[] surroundingBlocksOffset;
@@ -130,31 +158,52 @@ private void updateSurroundingRedstone(World worldIn, BlockPos pos) {
         this.calculateCurrentChanges(worldIn, pos);
 
         // Set to collect all the updates, to only execute them once. Ordering required.
-        Set<BlockPos> blocksNeedingUpdate = Sets.newLinkedHashSet();
+        final LongLinkedOpenHashSet blocksNeedingUpdate = this.retainBlocksNeedingUpdate();
+        try {
+            // Add the needed updates
+            final LongIterator updated = this.updatedRedstoneWire.iterator();
+            while (updated.hasNext()) {
+                this.addBlocksNeedingUpdate(worldIn, updated.nextLong(), blocksNeedingUpdate);
+            }
+            // Add all other updates to keep known behaviors
+            // They are added in a backwards order because it preserves a commonly used behavior with the update order
+            if (!this.updatedRedstoneWire.isEmpty()) {
+                final LongListIterator it = this.updatedRedstoneWire.iterator(this.updatedRedstoneWire.lastLong());
+                while (it.hasPrevious()) {
+                    this.addAllSurroundingBlocks(it.previousLong(), blocksNeedingUpdate);
+                }
+            }
+            // Remove updates on the wires as they just were updated
+            final LongIterator wires = this.updatedRedstoneWire.iterator();
+            while (wires.hasNext()) {
+                blocksNeedingUpdate.remove(wires.nextLong());
+            }
+            /*
+             * Avoid unnecessary updates on the just updated wires A huge scale test
+             * showed about 40% more ticks per second It's probably less in normal
+             * usage but likely still worth it
+             */
+            this.updatedRedstoneWire.clear();
 
-        // Add the needed updates
-        for (BlockPos posi : this.updatedRedstoneWire) {
-            this.addBlocksNeedingUpdate(worldIn, posi, blocksNeedingUpdate);
-        }
-        // Add all other updates to keep known behaviors
-        // They are added in a backwards order because it preserves a commonly used behavior with the update order
-        Iterator<BlockPos> it = Lists.<BlockPos>newLinkedList(this.updatedRedstoneWire).descendingIterator();
-        while (it.hasNext()) {
-            this.addAllSurroundingBlocks(it.next(), blocksNeedingUpdate);
+            // Execute updates
+            final LongIterator updates = blocksNeedingUpdate.iterator();
+            while (updates.hasNext()) {
+                worldIn.notifyNeighborsOfStateChange(BlockPos.fromLong(updates.nextLong()), (BlockRedstoneWire) (Object) this, false);
+            }
+        } finally {
+            this.releaseBlocksNeedingUpdate();
         }
-        // Remove updates on the wires as they just were updated
-        blocksNeedingUpdate.removeAll(this.updatedRedstoneWire);
-        /*
-         * Avoid unnecessary updates on the just updated wires A huge scale test
-         * showed about 40% more ticks per second It's probably less in normal
-         * usage but likely still worth it
-         */
-        this.updatedRedstoneWire.clear();
-
-        // Execute updates
-        for (BlockPos posi : blocksNeedingUpdate) {
-            worldIn.notifyNeighborsOfStateChange(posi, (BlockRedstoneWire) (Object) this, false);
+    }
+
+    private LongLinkedOpenHashSet retainBlocksNeedingUpdate() {
+        if (this.updateDepth == this.blocksNeedingUpdateBuffers.size()) {
+            this.blocksNeedingUpdateBuffers.add(new LongLinkedOpenHashSet());
         }
+        return this.blocksNeedingUpdateBuffers.get(this.updateDepth++);
+    }
+
+    private void releaseBlocksNeedingUpdate() {
+        this.blocksNeedingUpdateBuffers.get(--this.updateDepth).clear();
     }
 
     /**
@@ -165,15 +214,19 @@ private void updateSurroundingRedstone(World worldIn, BlockPos pos) {
      */
     private void calculateCurrentChanges(World worldIn, BlockPos position) {
         // Turn off all connected wires first if needed
+        final long positionKey = position.toLong();
         if (worldIn.getBlockState(position).getBlock() == (BlockRedstoneWire) (Object) this) {
-            turnOff.add(position);
+            this.turnOff.enqueue(positionKey);
+            this.turnOffSet.add(positionKey);
         } else {
             // In case this wire was removed, check the surrounding wires
-            this.checkSurroundingWires(worldIn, position);
+            this.checkSurroundingWires(worldIn, positionKey);
         }
 
-        while (!turnOff.isEmpty()) {
-            BlockPos pos = turnOff.remove(0);
+        while (!this.turnOff.isEmpty()) {
+            final long key = this.turnOff.dequeueLong();
+            this.turnOffSet.remove(key);
+            final BlockPos pos = PackedBlockPos.setPos(this.wirePos, key);
             IBlockState state = worldIn.getBlockState(pos);
             int oldPower = ((Integer) state.getValue(BlockRedstoneWire.POWER)).intValue();
             this.canProvidePower = false;
@@ -187,22 +240,24 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
             // Power lowered?
             if (newPower < oldPower) {
                 // If it's still powered by a direct source (but weaker) mark for turn on
-                if (blockPower > 0 && !this.turnOn.contains(pos)) {
-                    this.turnOn.add(pos);
+                if (blockPower > 0 && this.turnOnSet.add(key)) {
+                    this.turnOn.enqueue(key);
                 }
                 // Set all the way to off for now, because wires that were powered by this need to update first
-                setWireState(worldIn, pos, state, 0);
+                this.setWireState(worldIn, key, state, 0);
             // Power rose?
             } else if (newPower > oldPower) {
                 // Set new Power
-                this.setWireState(worldIn, pos, state, newPower);
+                this.setWireState(worldIn, key, state, newPower);
             }
             // Check if surrounding wires need to change based on the current/new state and add them to the lists
-            this.checkSurroundingWires(worldIn, pos);
+            this.checkSurroundingWires(worldIn, key);
         }
         // Now all needed wires are turned off. Time to turn them on again if there is a power source.
         while (!this.turnOn.isEmpty()) {
-            BlockPos pos = this.turnOn.remove(0);
+            final long key = this.turnOn.dequeueLong();
+            this.turnOnSet.remove(key);
+            final BlockPos pos = PackedBlockPos.setPos(this.wirePos, key);
             IBlockState state = worldIn.getBlockState(pos);
             int oldPower = ((Integer) state.getValue(BlockRedstoneWire.POWER)).intValue();
             this.canProvidePower = false;
@@ -214,15 +269,17 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
             int newPower = Math.max(blockPower, wirePower);
 
             if (newPower > oldPower) {
-                setWireState(worldIn, pos, state, newPower);
+                this.setWireState(worldIn, key, state, newPower);
             } else if (newPower < oldPower) {
                 // Add warning
             }
             // Check if surrounding wires need to change based on the current/new state and add them to the lists
-            this.checkSurroundingWires(worldIn, pos);
+            this.checkSurroundingWires(worldIn, key);
         }
         this.turnOff.clear();
+        this.turnOffSet.clear();
         this.turnOn.clear();
+        this.turnOnSet.clear();
     }
 
     /**
@@ -231,22 +288,22 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
      * @author panda
      * 
      * @param worldIn World
-     * @param pos Position of the wire that might need to change
+     * @param pos Packed position of the wire that might need to change
      * @param otherPower Power of the wire next to it
      */
-    private void addWireToList(World worldIn, BlockPos pos, int otherPower) {
-        IBlockState state = worldIn.getBlockState(pos);
+    private void addWireToList(World worldIn, long pos, int otherPower) {
+        IBlockState state = worldIn.getBlockState(PackedBlockPos.setPos(this.listPos, pos));
         if (state.getBlock() == (BlockRedstoneWire) (Object) this) {
             int power = ((Integer) state.getValue(BlockRedstoneWire.POWER)).intValue();
             // Could get powered stronger by the neighbor?
-            if (power < (otherPower - 1) && !this.turnOn.contains(pos)) {
+            if (power < (otherPower - 1) && this.turnOnSet.add(pos)) {
                 // Mark for turn on check.
-                this.turnOn.add(pos);
+                this.turnOn.enqueue(pos);
             }
             // Should have powered the neighbor? Probably was powered by it and is in turn off phase.
-            if (power > otherPower && !this.turnOff.contains(pos)) {
+            if (power > otherPower && this.turnOffSet.add(pos)) {
                 // Mark for turn off check.
-                this.turnOff.add(pos);
+                this.turnOff.enqueue(pos);
             }
         }
     }
@@ -259,29 +316,28 @@ private void addWireToList(World worldIn, BlockPos pos, int otherPower) {
      * @author panda
      * 
      * @param worldIn World
-     * @param pos Position of the wire
+     * @param pos Packed position of the wire
      */
-    private void checkSurroundingWires(World worldIn, BlockPos pos) {
-        IBlockState state = worldIn.getBlockState(pos);
+    private void checkSurroundingWires(World worldIn, long pos) {
+        IBlockState state = worldIn.getBlockState(PackedBlockPos.setPos(this.checkPos, pos));
         int ownPower = 0;
         if (state.getBlock() == (BlockRedstoneWire) (Object) this) {
             ownPower = ((Integer) state.getValue(BlockRedstoneWire.POWER)).intValue();
         }
         // Check wires on the same layer first as they appear closer to the wire
         for (EnumFacing facing : facingsHorizontal) {
-            BlockPos offsetPos = pos.offset(facing);
-            if (facing.getAxis().isHorizontal()) {
-                this.addWireToList(worldIn, offsetPos, ownPower);
-            }
+            this.addWireToList(worldIn, PackedBlockPos.offset(pos, facing), ownPower);
         }
         for (EnumFacing facingVertical : facingsVertical) {
-            BlockPos offsetPos = pos.offset(facingVertical);
-            boolean solidBlock = worldIn.getBlockState(offsetPos).isBlockNormalCube();
+            long offsetPos = PackedBlockPos.offset(pos, facingVertical);
+            boolean solidBlock = worldIn.getBlockState(PackedBlockPos.setPos(this.checkPos, offsetPos)).isBlockNormalCube();
             for (EnumFacing facingHorizontal : facingsHorizontal) {
+                long diagonalPos = PackedBlockPos.offset(offsetPos, facingHorizontal);
                 // wire can travel upwards if the block on top doesn't cut the wire (is non-solid)
                 // it can travel down if the block below is solid and the block "diagonal" doesn't cut off the wire (is non-solid) 
-                if ((facingVertical == EnumFacing.UP && !solidBlock) || (facingVertical == EnumFacing.DOWN && solidBlock && !worldIn.getBlockState(offsetPos.offset(facingHorizontal)).isBlockNormalCube())) {
-                    this.addWireToList(worldIn, offsetPos.offset(facingHorizontal), ownPower);
+                if ((facingVertical == EnumFacing.UP && !solidBlock) || (facingVertical == EnumFacing.DOWN && solidBlock
+                        && !worldIn.getBlockState(PackedBlockPos.setPos(this.checkPos, diagonalPos)).isBlockNormalCube())) {
+                    this.addWireToList(worldIn, diagonalPos, ownPower);
                 }
             }
         }
@@ -298,17 +354,21 @@ private void checkSurroundingWires(World worldIn, BlockPos pos) {
      */
     private int getSurroundingWirePower(World worldIn, BlockPos pos) {
         int wirePower = 0;
-        for (EnumFacing enumfacing : EnumFacing.Plane.HORIZONTAL) {
-            BlockPos offsetPos = pos.offset(enumfacing);
+        final boolean cutAbove = worldIn.getBlockState(this.powerPos.setPos(pos.getX(), pos.getY() + 1, pos.getZ())).isNormalCube();
+        for (EnumFacing enumfacing : facingsHorizontalPlane) {
+            final int x = pos.getX() + enumfacing.getFrontOffsetX();
+            final int z = pos.getZ() + enumfacing.getFrontOffsetZ();
+            this.powerPos.setPos(x, pos.getY(), z);
             // Wires on the same layer
-            wirePower = this.getMaxCurrentStrength(worldIn, offsetPos, wirePower);
-            
+            wirePower = this.getMaxCurrentStrength(worldIn, this.powerPos, wirePower);
+
+            final boolean normalCube = worldIn.getBlockState(this.powerPos).isNormalCube();
             // Block below the wire need to be solid (Upwards diode of slabs/stairs/glowstone) and no block should cut the wire
-            if(worldIn.getBlockState(offsetPos).isNormalCube() && !worldIn.getBlockState(pos.up()).isNormalCube()) {
-                wirePower = this.getMaxCurrentStrength(worldIn, offsetPos.up(), wirePower);
+            if (normalCube && !cutAbove) {
+                wirePower = this.getMaxCurrentStrength(worldIn, this.powerPos.setPos(x, pos.getY() + 1, z), wirePower);
                 // Only get from power below if no block is cutting the wire
-            } else if (!worldIn.getBlockState(offsetPos).isNormalCube()) {
-                wirePower = this.getMaxCurrentStrength(worldIn, offsetPos.down(), wirePower);
+            } else if (!normalCube) {
+                wirePower = this.getMaxCurrentStrength(worldIn, this.powerPos.setPos(x, pos.getY() - 1, z), wirePower);
             }
         }
         return wirePower;
@@ -321,30 +381,33 @@ private int getSurroundingWirePower(World worldIn, BlockPos pos) {
      * @author panda
      * 
      * @param worldIn World
-     * @param pos Position of the wire
-     * @param set Set to add the update positions too
+     * @param packedPos Packed position of the wire
+     * @param set Set to add the packed update positions too
      */
-    private void addBlocksNeedingUpdate(World worldIn, BlockPos pos, Set<BlockPos> set) {
-        List<EnumFacing> connectedSides = this.getSidesToPower(worldIn, pos);
+    private void addBlocksNeedingUpdate(World worldIn, long packedPos, LongSet set) {
+        final BlockPos pos = PackedBlockPos.setPos(this.updatePos, packedPos);
+        final int connectedSides = this.getSidesToPower(worldIn, pos);
         // Add the blocks next to the wire first (closest first order)
         for (EnumFacing facing : facings) {
-            BlockPos offsetPos = pos.offset(facing);
+            long offsetPos = PackedBlockPos.offset(packedPos, facing);
+            IBlockState offsetState = worldIn.getBlockState(PackedBlockPos.setPos(this.offsetPos, offsetPos));
             // canConnectTo() is not the nicest solution here as it returns true for e.g. the front of a repeater
             // canBlockBePowereFromSide catches these cases
-            if (connectedSides.contains(facing.getOpposite()) || facing == EnumFacing.DOWN
-                    || (facing.getAxis().isHorizontal() && canConnectToBlock(worldIn.getBlockState(offsetPos), facing, worldIn, pos))) {
-                if (this.canBlockBePoweredFromSide(worldIn.getBlockState(offsetPos), facing, true))
+            if (isSide(connectedSides, facing.getOpposite()) || facing == EnumFacing.DOWN
+                    || (facing.getAxis().isHorizontal() && canConnectToBlock(offsetState, facing, worldIn, pos))) {
+                if (this.canBlockBePoweredFromSide(offsetState, facing, true))
                     set.add(offsetPos);
             }
         }
         // Later add blocks around the surrounding blocks that get powered
         for (EnumFacing facing : facings) {
-            BlockPos offsetPos = pos.offset(facing);
-            if (connectedSides.contains(facing.getOpposite()) || facing == EnumFacing.DOWN) {
-                if (worldIn.getBlockState(offsetPos).isNormalCube()) {
+            if (isSide(connectedSides, facing.getOpposite()) || facing == EnumFacing.DOWN) {
+                long offsetPos = PackedBlockPos.offset(packedPos, facing);
+                if (worldIn.getBlockState(PackedBlockPos.setPos(this.offsetPos, offsetPos)).isNormalCube()) {
                     for (EnumFacing facing1 : facings) {
-                        if (this.canBlockBePoweredFromSide(worldIn.getBlockState(offsetPos.offset(facing1)), facing1, false))
-                            set.add(offsetPos.offset(facing1));
+                        long neighborPos = PackedBlockPos.offset(offsetPos, facing1);
+                        if (this.canBlockBePoweredFromSide(worldIn.getBlockState(PackedBlockPos.setPos(this.offsetPos, neighborPos)), facing1, false))
+                            set.add(neighborPos);
                     }
                 }
             }
@@ -392,44 +455,46 @@ private boolean canBlockBePoweredFromSide(IBlockState state, EnumFacing side, bo
     }
 
     /**
-     * Creates a list of all horizontal sides that can get powered by a wire.
-     * The list is ordered the same as the facingsHorizontal.
+     * Creates a bit mask of all horizontal sides that can get powered by a wire,
+     * with the bit of each side at the ordinal of its facing.
      * 
      * @param worldIn World
      * @param pos Position of the wire
-     * @return List of all facings that can get powered by this wire
+     * @return Bit mask of all facings that can get powered by this wire
      */
-    private List<EnumFacing> getSidesToPower(World worldIn, BlockPos pos) {
-        List<EnumFacing> retval = Lists.<EnumFacing>newArrayList();
+    private int getSidesToPower(World worldIn, BlockPos pos) {
+        int sides = 0;
         for (EnumFacing facing : facingsHorizontal) {
             if (isPowerSourceAt(worldIn, pos, facing))
-                retval.add(facing);
+                sides |= 1 << facing.ordinal();
         }
-        if (retval.isEmpty())
-            return Lists.<EnumFacing>newArrayList(facingsHorizontal);
-        boolean northsouth = retval.contains(EnumFacing.NORTH) || retval.contains(EnumFacing.SOUTH);
-        boolean eastwest = retval.contains(EnumFacing.EAST) || retval.contains(EnumFacing.WEST);
+        if (sides == 0)
+            return SIDES_HORIZONTAL;
+        boolean northsouth = (sides & SIDES_NORTH_SOUTH) != 0;
+        boolean eastwest = (sides & SIDES_EAST_WEST) != 0;
         if (northsouth) {
-            retval.remove(EnumFacing.EAST);
-            retval.remove(EnumFacing.WEST);
+            sides &= ~SIDES_EAST_WEST;
         }
         if (eastwest) {
-            retval.remove(EnumFacing.NORTH);
-            retval.remove(EnumFacing.SOUTH);
+            sides &= ~SIDES_NORTH_SOUTH;
         }
-        return retval;
+        return sides;
+    }
+
+    private static boolean isSide(int sides, EnumFacing facing) {
+        return (sides & (1 << facing.ordinal())) != 0;
     }
 
     /**
      * Adds all surrounding positions to a set.
      * This is the neighbor blocks, as well as their neighbors 
      * 
-     * @param pos
-     * @param set
+     * @param pos Packed position
+     * @param set Set of packed positions
      */
-    private void addAllSurroundingBlocks(BlockPos pos, Set<BlockPos> set) {
+    private void addAllSurroundingBlocks(long pos, LongSet set) {
         for (Vec3i vect : surroundingBlocksOffset) {
-            set.add(pos.add(vect));
+            set.add(PackedBlockPos.offset(pos, vect.getX(), vect.getY(), vect.getZ()));
         }
     }
 
@@ -439,14 +504,14 @@ private void addAllSurroundingBlocks(BlockPos pos, Set<BlockPos> set) {
      * @author panda
      * 
      * @param worldIn World
-     * @param pos Position at which the state needs to be set
+     * @param pos Packed position at which the state needs to be set
      * @param state Old state
      * @param power Power it should get set to
      */
-    private void setWireState(World worldIn, BlockPos pos, IBlockState state, int power) {
+    private void setWireState(World worldIn, long pos, IBlockState state, int power) {
         state = state.withProperty(BlockRedstoneWire.POWER, Integer.valueOf(power));
-        worldIn.setBlockState(pos, state, 2);
-        updatedRedstoneWire.add(pos);
+        worldIn.setBlockState(BlockPos.fromLong(pos), state, 2);
+        this.updatedRedstoneWire.add(pos);
     }
 
     /**
@@ -503,7 +568,7 @@ public int getWeakPower(IBlockState blockState, IBlockAccess blockAccess, BlockP
         if (!this.canProvidePower) {
             return 0;
         } else {
-            if (side == EnumFacing.UP || this.getSidesToPower((World) blockAccess, pos).contains(side)) {
+            if (side == EnumFacing.UP || isSide(this.getSidesToPower((World) blockAccess, pos), side)) {
                 return ((Integer) blockState.getValue(BlockRedstoneWire.POWER)).intValue();
             } else {
                 return 0;
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.entity.IMixinIndexedEntity;
+import org.spongepowered.common.world.EntitySpatialIndex;
+
+import javax.annotation.Nullable;
+
+@Mixin(Entity.class)
+public abstract class MixinEntity_Spatial_Index implements IMixinIndexedEntity {
+
+    @Nullable private EntitySpatialIndex spatialIndex;
+    private int spatialIndexCell = -1;
+
+    @Inject(method = "setEntityBoundingBox", at = @At("RETURN"))
+    private void onSetEntityBoundingBox(AxisAlignedBB bb, CallbackInfo ci) {
+        if (this.spatialIndex != null) {
+            this.spatialIndex.update((Entity) (Object) this);
+        }
+    }
+
+    @Nullable
+    @Override
+    public EntitySpatialIndex getSpatialIndex() {
+        return this.spatialIndex;
+    }
+
+    @Override
+    public int getSpatialIndexCell() {
+        return this.spatialIndexCell;
+    }
+
+    @Override
+    public void setSpatialIndex(@Nullable EntitySpatialIndex index, int cell) {
+        this.spatialIndex = index;
+        this.spatialIndexCell = cell;
+    }
+}
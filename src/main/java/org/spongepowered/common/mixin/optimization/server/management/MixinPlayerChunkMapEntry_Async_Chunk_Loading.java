@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.server.management;
+
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+@Mixin(PlayerChunkMapEntry.class)
+public abstract class MixinPlayerChunkMapEntry_Async_Chunk_Loading {
+
+    private static final String CHUNK_PROVIDER_LOAD_CHUNK =
+            "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;";
+    private static final String CHUNK_PROVIDER_PROVIDE_CHUNK =
+            "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;";
+
+    @Nullable private CompletableFuture<Chunk> pendingChunkLoad;
+
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = CHUNK_PROVIDER_LOAD_CHUNK), require = 0, expect = 0)
+    private Chunk onConstructLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return this.requestChunk(chunkProvider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = CHUNK_PROVIDER_LOAD_CHUNK), require = 0, expect = 0)
+    private Chunk onProvidePlayerChunkLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return this.requestChunk(chunkProvider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = CHUNK_PROVIDER_PROVIDE_CHUNK), require = 0, expect = 0)
+    private Chunk onProvidePlayerChunkProvideChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return this.requestChunk(chunkProvider, x, z, true);
+    }
+
+    /**
+     * Requests the chunk to be loaded asynchronously instead of reading it
+     * on the server thread. While the load is pending the entry stays without
+     * a chunk, the player chunk map keeps providing the chunk every tick until
+     * the load finished.
+     */
+    @Nullable
+    private Chunk requestChunk(ChunkProviderServer chunkProvider, int x, int z, boolean generate) {
+        final Chunk loaded = chunkProvider.getLoadedChunk(x, z);
+        if (loaded != null) {
+            this.pendingChunkLoad = null;
+            return loaded;
+        }
+        if (this.pendingChunkLoad == null) {
+            this.pendingChunkLoad = ((IMixinChunkProviderServer) chunkProvider).loadChunkAsync(x, z);
+        }
+        if (!this.pendingChunkLoad.isDone()) {
+            return null;
+        }
+        this.pendingChunkLoad = null;
+        // The chunk doesn't exist on disk, so it's either generated or left alone
+        return generate ? chunkProvider.provideChunk(x, z) : null;
+    }
+}
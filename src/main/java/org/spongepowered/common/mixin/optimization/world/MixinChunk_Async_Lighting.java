@@ -44,25 +44,22 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.lighting.LightUpdateQueue;
+import org.spongepowered.common.world.lighting.SpongeLightingEngine;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Mixin(value = Chunk.class, priority = 1002)
 public abstract class MixinChunk_Async_Lighting implements IMixinChunk {
 
-    // Keeps track of block positions in this chunk currently queued for sky light update
-    private CopyOnWriteArrayList<Short> queuedSkyLightingUpdates = new CopyOnWriteArrayList<>();
-    // Keeps track of block positions in this chunk currently queued for block light update
-    private CopyOnWriteArrayList<Short> queuedBlockLightingUpdates = new CopyOnWriteArrayList<>();
+    // Keeps track of block positions and relights in this chunk currently queued for a light update
+    private final LightUpdateQueue lightUpdateQueue = new LightUpdateQueue();
     private AtomicInteger pendingLightUpdates = new AtomicInteger();
     private long lightUpdateTime;
-    private ExecutorService lightExecutorService;
+    private SpongeLightingEngine lightingEngine;
     private static final List<Chunk> EMPTY_LIST = new ArrayList<>();
     private static final BlockPos DUMMY_POS = new BlockPos(0, 0, 0);
 
@@ -96,7 +93,7 @@ public abstract class MixinChunk_Async_Lighting implements IMixinChunk {
     @Inject(method = "<init>", at = @At("RETURN"))
     public void onConstruct(World worldIn, int x, int z, CallbackInfo ci) {
         if (!worldIn.isRemote) {
-            this.lightExecutorService = ((IMixinWorldServer) worldIn).getLightingExecutor();
+            this.lightingEngine = ((IMixinWorldServer) worldIn).getLightingEngine();
         }
     }
 
@@ -122,7 +119,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
             final List<Chunk> neighbors = this.getSurroundingChunks();
             if (this.isGapLightingUpdated && this.world.provider.hasSkyLight() && !skipRecheckGaps && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightingEngine.queueChunkTask((Chunk) (Object) this, () -> {
                     this.recheckGapsAsync(neighbors);
                 });
                 this.isGapLightingUpdated = false;
@@ -132,7 +129,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
     
             if (!this.isLightPopulated && this.isTerrainPopulated && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightingEngine.queueChunkTask((Chunk) (Object) this, () -> {
                     this.checkLightAsync(neighbors);
                 });
                 // set to true to avoid requeuing the same task when not finished
@@ -255,7 +252,7 @@ private boolean onCheckLightWorld(World world, BlockPos pos) {
     @Inject(method = "checkLight", at = @At("HEAD"), cancellable = true)
     private void checkLightHead(CallbackInfo ci) {
         if (!this.world.isRemote) {
-            if (this.world.getMinecraftServer().isServerStopped() || this.lightExecutorService.isShutdown()) {
+            if (this.world.getMinecraftServer().isServerStopped() || this.lightingEngine.isShutdown()) {
                 return;
             }
 
@@ -269,17 +266,9 @@ private void checkLightHead(CallbackInfo ci) {
             }
 
             if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-                try {
-                    this.lightExecutorService.execute(() -> {
-                        this.checkLightAsync(neighborChunks);
-                    });
-                } catch (RejectedExecutionException e) {
-                    // This could happen if ServerHangWatchdog kills the server
-                    // between the start of the method and the execute() call.
-                    if (!this.world.getMinecraftServer().isServerStopped() && !this.lightExecutorService.isShutdown()) {
-                        throw e;
-                    }
-                }
+                this.lightingEngine.queueChunkTask((Chunk) (Object) this, () -> {
+                    this.checkLightAsync(neighborChunks);
+                });
             } else {
                 this.checkLightAsync(neighborChunks);
             }
@@ -491,9 +480,13 @@ private List<Chunk> getSurroundingChunks() {
     @Inject(method = "relightBlock", at = @At("HEAD"), cancellable = true)
     private void onRelightBlock(int x, int y, int z, CallbackInfo ci) {
         if (!this.world.isRemote) {
-            this.lightExecutorService.execute(() -> {
+            if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+                this.lightingEngine.queueChunkTask((Chunk) (Object) this, () -> {
+                    this.relightBlockAsync(x, y, z);
+                });
+            } else {
                 this.relightBlockAsync(x, y, z);
-            });
+            }
             ci.cancel();
         }
     }
@@ -691,16 +684,12 @@ private boolean checkWorldLight(BlockPos pos, List<Chunk> neighbors) {
     }
 
     /**
-     * Gets the list of block positions currently queued for lighting updates.
+     * Gets the block positions and relights currently queued for lighting updates.
      * 
-     * @param type The light type
-     * @return The list of queued block positions, empty if none
+     * @return The queued lighting updates
      */
     @Override
-    public CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type) {
-        if (type == EnumSkyBlock.SKY) {
-            return this.queuedSkyLightingUpdates;
-        }
-        return this.queuedBlockLightingUpdates;
+    public LightUpdateQueue getLightUpdateQueue() {
+        return this.lightUpdateQueue;
     }
 }
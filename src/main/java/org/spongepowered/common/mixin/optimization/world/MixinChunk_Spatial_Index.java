@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionLimits;
+import org.spongepowered.common.world.EntitySpatialIndex;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(Chunk.class)
+public abstract class MixinChunk_Spatial_Index {
+
+    @Shadow @Final private World world;
+    @Shadow @Final public int x;
+    @Shadow @Final public int z;
+
+    @Nullable private EntitySpatialIndex entityIndex;
+
+    private EntitySpatialIndex getEntityIndex() {
+        if (this.entityIndex == null) {
+            this.entityIndex = new EntitySpatialIndex(this.x, this.z);
+        }
+        return this.entityIndex;
+    }
+
+    @Inject(method = "addEntity", at = @At("RETURN"))
+    private void onAddEntityIndex(Entity entityIn, CallbackInfo ci) {
+        if (!this.world.isRemote) {
+            this.getEntityIndex().add(entityIn);
+        }
+    }
+
+    @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
+    private void onRemoveEntityIndex(Entity entityIn, int index, CallbackInfo ci) {
+        if (this.entityIndex != null) {
+            this.entityIndex.remove(entityIn);
+        }
+    }
+
+    @Inject(method = "getEntitiesWithinAABBForEntity", at = @At("HEAD"), cancellable = true)
+    private void onGetEntitiesWithinAABBForEntity(@Nullable Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill,
+            @Nullable Predicate<? super Entity> filter, CallbackInfo ci) {
+        if (this.world.isRemote) {
+            return;
+        }
+        if (this.entityIndex != null) {
+            this.entityIndex.getEntitiesWithinAABBForEntity(entityIn, aabb, listToFill, filter,
+                    EntityCollisionLimits.getMaxCollisionsForEntity(this.world, entityIn));
+        }
+        ci.cancel();
+    }
+
+    @Inject(method = "getEntitiesOfTypeWithinAABB", at = @At("HEAD"), cancellable = true)
+    private <T extends Entity> void onGetEntitiesOfTypeWithinAABB(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+            @Nullable Predicate<? super T> filter, CallbackInfo ci) {
+        if (this.world.isRemote) {
+            return;
+        }
+        if (this.entityIndex != null) {
+            this.entityIndex.getEntitiesOfTypeWithinAABB(entityClass, aabb, listToFill, filter,
+                    EntityCollisionLimits.getMaxCollisionsForType(this.world, entityClass));
+        }
+        ci.cancel();
+    }
+}
@@ -93,10 +93,16 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     (module) -> true)
             .put("org.spongepowered.common.mixin.optimization.block.MixinBlockRedstoneWire",
                     OptimizationCategory::usePandaRedstone)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntity_Spatial_Index",
+                    OptimizationCategory::useEntitySpatialIndex)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.server.management.MixinPlayerChunkMapEntry_Async_Chunk_Loading",
+                    OptimizationCategory::useAsyncChunkLoading)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
+            .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Spatial_Index",
+                    OptimizationCategory::useEntitySpatialIndex)
             .put("org.spongepowered.common.mixin.optimization.world.MixinWorldServer_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Async_Lighting",
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entitycollisions;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.LocatableBlock;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
+
+import javax.annotation.Nullable;
+
+/**
+ * Resolves the maximum amount of entities the current block or entity source
+ * may collide with, as configured in the entity collision settings.
+ */
+public final class EntityCollisionLimits {
+
+    private static final int UNLIMITED = -1;
+
+    private static final boolean ENABLED = SpongeImpl.getGlobalConfig().getConfig().getModules().usePluginEntityCollisions();
+
+    /**
+     * Gets the maximum amount of collisions for a query around the given
+     * entity.
+     *
+     * @param world The world
+     * @param entityIn The entity the query is for, if any
+     * @return The maximum amount of collisions, or a negative value if unlimited
+     */
+    public static int getMaxCollisionsForEntity(World world, @Nullable Entity entityIn) {
+        // ignore players and entities with parts (ex. EnderDragon)
+        if (!ENABLED || world.isRemote || entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
+            return UNLIMITED;
+        }
+        return getMaxCollisions(world);
+    }
+
+    /**
+     * Gets the maximum amount of collisions for a query of the given type of
+     * entities.
+     *
+     * @param world The world
+     * @param entityClass The type of entities queried
+     * @return The maximum amount of collisions, or a negative value if unlimited
+     */
+    public static int getMaxCollisionsForType(World world, Class<?> entityClass) {
+        // ignore player checks
+        // ignore item check (ex. Hoppers)
+        if (!ENABLED || world.isRemote || EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
+            return UNLIMITED;
+        }
+        return getMaxCollisions(world);
+    }
+
+    private static int getMaxCollisions(World world) {
+        if (!(world instanceof IMixinWorldServer) || ((IMixinWorldServer) world).isProcessingExplosion()) {
+            // allow explosions
+            return UNLIMITED;
+        }
+
+        final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getCurrentContext();
+        final LocatableBlock locatable = phaseContext.getSource(LocatableBlock.class).orElse(null);
+        if (locatable != null) {
+            final BlockType blockType = locatable.getLocation().getBlockType();
+            final IModData_Collisions spongeBlock = (IModData_Collisions) blockType;
+            if (spongeBlock.requiresCollisionsCacheRefresh()) {
+                spongeBlock.initializeCollisionState(world);
+                spongeBlock.requiresCollisionsCacheRefresh(false);
+            }
+            return spongeBlock.getMaxCollisions();
+        }
+        final IModData_Collisions spongeEntity = phaseContext.getSource(IModData_Collisions.class).orElse(null);
+        if (spongeEntity != null) {
+            if (spongeEntity.requiresCollisionsCacheRefresh()) {
+                spongeEntity.initializeCollisionState(world);
+                spongeEntity.requiresCollisionsCacheRefresh(false);
+            }
+            return spongeEntity.getMaxCollisions();
+        }
+        return UNLIMITED;
+    }
+
+    private EntityCollisionLimits() {
+    }
+}
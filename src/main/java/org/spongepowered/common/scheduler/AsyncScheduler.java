@@ -24,12 +24,9 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -39,12 +36,11 @@ public class AsyncScheduler extends SchedulerBase {
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The bounded executor of asynchronous tasks.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor(SpongeImpl.getGlobalConfig().getConfig().getScheduler());
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -55,12 +51,11 @@ public class AsyncScheduler extends SchedulerBase {
         thread.start();
     }
 
-    ExecutorService getExecutor() {
+    AsyncTaskExecutor getExecutor() {
         return this.executor;
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
             recalibrateMinimumTimeout();
             this.runTick();
@@ -70,35 +65,14 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
+            // Wait until the first queued task becomes due, tasks submitted in
+            // the meantime will wake the scheduler up.
+            final ScheduledTask task = this.peekNextRealTimeTask();
+            if (task == null) {
+                this.minimumTimeout = Long.MAX_VALUE;
+            } else {
+                final long timeout = task.deadline - System.nanoTime();
+                this.minimumTimeout = timeout < 0 ? 0 : timeout;
             }
         } finally {
             this.lock.unlock();
@@ -109,7 +83,10 @@ private void recalibrateMinimumTimeout() {
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            // Tasks may have been submitted since the timeout was calculated
+            if (!this.hasPendingTasks()) {
+                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
@@ -118,11 +95,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -130,7 +102,13 @@ protected void finallyPostTick() {
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        try {
+            this.executor.execute(task, runnable);
+        } catch (RejectedExecutionException e) {
+            SpongeImpl.getLogger().error("The Scheduler could not run the task {} owned by {}: {}", task.getName(), task.getOwner(),
+                    e.getMessage());
+            this.onTaskRejected(task);
+        }
     }
 
     @Override
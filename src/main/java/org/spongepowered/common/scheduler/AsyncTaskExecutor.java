@@ -0,0 +1,269 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * The executor of asynchronous tasks. Tasks run on a bounded work-stealing
+ * pool, or on virtual threads when enabled and supported by the runtime.
+ * The tasks of every plugin go through a queue of their own, limiting the
+ * amount of tasks a single plugin may run concurrently or have waiting.
+ */
+class AsyncTaskExecutor extends AbstractExecutorService {
+
+    private final ExecutorService pool;
+    @Nullable private final ForkJoinPool forkJoinPool;
+    private final int pluginConcurrency;
+    private final int pluginQueueLimit;
+    private final Map<String, PluginTaskQueue> pluginQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    AsyncTaskExecutor(SchedulerCategory config) {
+        final int maxThreads = config.getMaxAsyncThreads();
+        this.pluginConcurrency = config.getPluginConcurrency() <= 0 ? Integer.MAX_VALUE : config.getPluginConcurrency();
+        this.pluginQueueLimit = config.getPluginQueueLimit() <= 0 ? Integer.MAX_VALUE : config.getPluginQueueLimit();
+        final ExecutorService virtualThreads = config.useVirtualThreads() ? createVirtualThreadExecutor() : null;
+        if (virtualThreads != null) {
+            this.pool = virtualThreads;
+            this.forkJoinPool = null;
+        } else {
+            this.forkJoinPool = new ForkJoinPool(maxThreads, workerPool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(workerPool);
+                thread.setName("Sponge Async Task Thread - " + thread.getPoolIndex());
+                return thread;
+            }, (thread, throwable) -> SpongeImpl.getLogger().error("An asynchronous task threw an uncaught exception", throwable), true);
+            this.pool = this.forkJoinPool;
+        }
+    }
+
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            // Only available on newer runtimes, so it's looked up reflectively
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            SpongeImpl.getLogger().warn("Virtual threads are not supported by this Java runtime, falling back to the bounded task pool.");
+            return null;
+        }
+    }
+
+    /**
+     * Executes the runnable of a task, subject to the limits of the plugin
+     * owning the task.
+     *
+     * @param task The task
+     * @param runnable The runnable to execute
+     * @throws RejectedExecutionException If the queue of the plugin is full
+     */
+    void execute(ScheduledTask task, Runnable runnable) {
+        final PluginContainer owner = task.getOwner();
+        this.pluginQueues.computeIfAbsent(owner.getId(), id -> new PluginTaskQueue(owner)).submit(runnable);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // Internal work isn't owned by any plugin
+        this.pool.execute(() -> {
+            this.activeTasks.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                this.activeTasks.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Gets the amount of tasks waiting to be run, both in the queues of the
+     * plugins and in the pool itself.
+     *
+     * @return The queue depth
+     */
+    int getQueuedTaskCount() {
+        long queued = 0;
+        for (PluginTaskQueue queue : this.pluginQueues.values()) {
+            queued += queue.queued.get();
+        }
+        if (this.forkJoinPool != null) {
+            queued += this.forkJoinPool.getQueuedSubmissionCount() + this.forkJoinPool.getQueuedTaskCount();
+        }
+        return (int) Math.min(queued, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the amount of threads currently running a task.
+     *
+     * @return The active thread count
+     */
+    int getActiveThreadCount() {
+        return this.activeTasks.get();
+    }
+
+    List<PluginTaskMetrics> getPluginMetrics() {
+        final ImmutableList.Builder<PluginTaskMetrics> metrics = ImmutableList.builder();
+        for (PluginTaskQueue queue : this.pluginQueues.values()) {
+            metrics.add(queue.createMetrics());
+        }
+        return metrics.build();
+    }
+
+    @Override
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return this.pool.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.pool.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.pool.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.pool.awaitTermination(timeout, unit);
+    }
+
+    private final class PluginTaskQueue {
+
+        private final PluginContainer plugin;
+        private final Queue<QueuedRunnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalWaitTime = new LongAdder();
+        private final LongAdder totalRunTime = new LongAdder();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        PluginTaskQueue(PluginContainer plugin) {
+            this.plugin = plugin;
+        }
+
+        void submit(Runnable runnable) {
+            if (this.queued.incrementAndGet() > AsyncTaskExecutor.this.pluginQueueLimit) {
+                this.queued.decrementAndGet();
+                this.rejected.increment();
+                throw new RejectedExecutionException("The asynchronous task queue of " + this.plugin.getId() + " is full");
+            }
+            this.pending.add(new QueuedRunnable(runnable, System.nanoTime()));
+            this.dispatch();
+        }
+
+        /**
+         * Hands pending runnables to the pool for as long as the plugin is
+         * below its concurrency limit.
+         */
+        private void dispatch() {
+            while (!this.pending.isEmpty()) {
+                final int running = this.running.get();
+                if (running >= AsyncTaskExecutor.this.pluginConcurrency) {
+                    return;
+                }
+                if (!this.running.compareAndSet(running, running + 1)) {
+                    continue;
+                }
+                final QueuedRunnable runnable = this.pending.poll();
+                if (runnable == null) {
+                    // Another thread took it, give the slot back and check again
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                this.queued.decrementAndGet();
+                try {
+                    AsyncTaskExecutor.this.pool.execute(() -> this.run(runnable));
+                } catch (RejectedExecutionException e) {
+                    // The pool is shutting down
+                    this.running.decrementAndGet();
+                    return;
+                }
+            }
+        }
+
+        private void run(QueuedRunnable runnable) {
+            final long start = System.nanoTime();
+            AsyncTaskExecutor.this.activeTasks.incrementAndGet();
+            try {
+                runnable.runnable.run();
+            } finally {
+                AsyncTaskExecutor.this.activeTasks.decrementAndGet();
+                final long end = System.nanoTime();
+                this.completed.increment();
+                this.totalWaitTime.add(start - runnable.submitted);
+                this.totalRunTime.add(end - start);
+                final long latency = end - runnable.submitted;
+                this.maxLatency.accumulateAndGet(latency, Math::max);
+                this.running.decrementAndGet();
+                this.dispatch();
+            }
+        }
+
+        PluginTaskMetrics createMetrics() {
+            return new PluginTaskMetrics(this.plugin, this.running.get(), this.queued.get(), this.completed.sum(), this.rejected.sum(),
+                    this.totalWaitTime.sum(), this.totalRunTime.sum(), this.maxLatency.get());
+        }
+    }
+
+    private static final class QueuedRunnable {
+
+        final Runnable runnable;
+        final long submitted;
+
+        QueuedRunnable(Runnable runnable, long submitted) {
+            this.runnable = runnable;
+            this.submitted = submitted;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.base.MoreObjects;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the asynchronous task statistics of a single plugin.
+ */
+public final class PluginTaskMetrics {
+
+    private final PluginContainer plugin;
+    private final int runningTasks;
+    private final int queuedTasks;
+    private final long completedTasks;
+    private final long rejectedTasks;
+    private final long totalWaitTime;
+    private final long totalRunTime;
+    private final long maxLatency;
+
+    PluginTaskMetrics(PluginContainer plugin, int runningTasks, int queuedTasks, long completedTasks, long rejectedTasks, long totalWaitTime,
+            long totalRunTime, long maxLatency) {
+        this.plugin = plugin;
+        this.runningTasks = runningTasks;
+        this.queuedTasks = queuedTasks;
+        this.completedTasks = completedTasks;
+        this.rejectedTasks = rejectedTasks;
+        this.totalWaitTime = totalWaitTime;
+        this.totalRunTime = totalRunTime;
+        this.maxLatency = maxLatency;
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    public int getRunningTasks() {
+        return this.runningTasks;
+    }
+
+    public int getQueuedTasks() {
+        return this.queuedTasks;
+    }
+
+    public long getCompletedTasks() {
+        return this.completedTasks;
+    }
+
+    public long getRejectedTasks() {
+        return this.rejectedTasks;
+    }
+
+    /**
+     * Gets the average time the tasks of the plugin waited in the queue
+     * before they started running.
+     *
+     * @param unit The time unit
+     * @return The average wait time
+     */
+    public long getAverageWaitTime(TimeUnit unit) {
+        return this.completedTasks == 0 ? 0 : unit.convert(this.totalWaitTime / this.completedTasks, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the average time the tasks of the plugin spent running.
+     *
+     * @param unit The time unit
+     * @return The average run time
+     */
+    public long getAverageRunTime(TimeUnit unit) {
+        return this.completedTasks == 0 ? 0 : unit.convert(this.totalRunTime / this.completedTasks, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the highest latency between the submission and the completion of
+     * a task of the plugin.
+     *
+     * @param unit The time unit
+     * @return The maximum latency
+     */
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(this.maxLatency, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("running", this.runningTasks)
+                .add("queued", this.queuedTasks)
+                .add("completed", this.completedTasks)
+                .add("rejected", this.rejectedTasks)
+                .add("averageWaitMs", this.getAverageWaitTime(TimeUnit.MILLISECONDS))
+                .add("averageRunMs", this.getAverageRunTime(TimeUnit.MILLISECONDS))
+                .add("maxLatencyMs", this.getMaxLatency(TimeUnit.MILLISECONDS))
+                .toString();
+    }
+}
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -47,6 +49,7 @@ public class ScheduledTask implements Task {
     final boolean intervalIsTicks;
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
+    long deadline; // the execution timestamp the task is queued for
     private long timestamp;
     private ScheduledTaskState state;
     private final UUID id;
@@ -54,6 +57,7 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    @Nullable private volatile SchedulerBase scheduler;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -133,6 +137,10 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        final SchedulerBase scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -178,6 +186,10 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
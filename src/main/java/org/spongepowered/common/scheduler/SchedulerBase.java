@@ -33,15 +33,39 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 abstract class SchedulerBase {
 
+    // Orders queued tasks by their deadline, the comparison is done on the
+    // difference to remain correct should System.nanoTime() overflow.
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = (a, b) -> Long.signum(a.deadline - b.deadline);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks submitted since the last tick, drained by the ticking thread
+    private final Queue<ScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Deadline ordered heaps of the queued tasks, one per clock. Only ever
+    // accessed by the thread calling runTick().
+    private final PriorityQueue<ScheduledTask> realTimeQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    // The number of cancelled tasks still sitting in the heaps (or waiting
+    // to be drained into them)
+    private final AtomicInteger cancelledTasks = new AtomicInteger();
+    // Reused buffer of the tasks that are due in the current tick
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -68,6 +92,28 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamp of the task in its current state is measured
+     * in ticks rather than in real time. Tasks of both kinds are kept in
+     * separate queues, as their deadlines cannot be compared with each other.
+     *
+     * @param task The task
+     * @return True if the timestamp of the task is tick based
+     */
+    protected boolean isTickBased(ScheduledTask task) {
+        return false;
+    }
+
+    /**
+     * Gets the current tick count of this scheduler, only used for tasks
+     * that are {@link #isTickBased(ScheduledTask) tick based}.
+     *
+     * @return The current tick
+     */
+    protected long getCurrentTick() {
+        return 0L;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -76,7 +122,9 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
+        this.pendingTasks.add(task);
     }
 
     /**
@@ -88,6 +136,19 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task owned by this scheduler got cancelled. The task is
+     * removed from the task map right away, the queues are lazily cleaned up.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        // Tasks that already left the task map aren't queued anymore
+        if (this.taskMap.remove(task.getUniqueId()) != null) {
+            this.cancelledTasks.incrementAndGet();
+        }
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -98,21 +159,90 @@ protected Set<Task> getScheduledTasks() {
         }
     }
 
+    protected boolean hasPendingTasks() {
+        return !this.pendingTasks.isEmpty();
+    }
+
+    /**
+     * Gets the task that will be due first in real time, draining any
+     * newly submitted tasks. May only be called from the ticking thread.
+     *
+     * @return The first task due, or null if there are no real time tasks
+     */
+    @Nullable
+    protected ScheduledTask peekNextRealTimeTask() {
+        this.drainPendingTasks();
+        ScheduledTask task;
+        while ((task = this.realTimeQueue.peek()) != null && task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.realTimeQueue.poll();
+            this.cancelledTasks.decrementAndGet();
+        }
+        return task;
+    }
+
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.drainPendingTasks();
+            this.purgeCancelledTasks();
+            // Collect the due tasks first, repeating tasks are queued again
+            // while they are processed.
+            pollDueTasks(this.realTimeQueue, System.nanoTime(), this.dueTasks);
+            pollDueTasks(this.tickQueue, this.getCurrentTick(), this.dueTasks);
+            for (ScheduledTask task : this.dueTasks) {
+                this.processTask(task);
+            }
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private static void pollDueTasks(PriorityQueue<ScheduledTask> queue, long now, List<ScheduledTask> dueTasks) {
+        ScheduledTask task;
+        while ((task = queue.peek()) != null && now - task.deadline >= 0) {
+            dueTasks.add(queue.poll());
+        }
+    }
+
+    private void drainPendingTasks() {
+        ScheduledTask task;
+        while ((task = this.pendingTasks.poll()) != null) {
+            this.enqueue(task);
+        }
+    }
+
+    private void enqueue(ScheduledTask task) {
+        task.deadline = task.nextExecutionTimestamp();
+        this.queueFor(task).add(task);
+    }
+
+    private PriorityQueue<ScheduledTask> queueFor(ScheduledTask task) {
+        return this.isTickBased(task) ? this.tickQueue : this.realTimeQueue;
+    }
+
+    /**
+     * Rebuilds the queues once more than half of the queued tasks are
+     * cancelled ones, so tasks with a long delay that get cancelled don't
+     * linger in the queues until their deadline passes.
+     */
+    private void purgeCancelledTasks() {
+        final int cancelled = this.cancelledTasks.get();
+        if (cancelled == 0 || cancelled * 2 < this.realTimeQueue.size() + this.tickQueue.size()) {
+            return;
+        }
+        final int queued = this.realTimeQueue.size() + this.tickQueue.size();
+        this.realTimeQueue.removeIf(task -> task.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+        this.tickQueue.removeIf(task -> task.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+        this.cancelledTasks.addAndGet(this.realTimeQueue.size() + this.tickQueue.size() - queued);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -133,40 +263,39 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that became due.
      *
      * @param task The task to process
      */
     protected void processTask(ScheduledTask task) {
-        // If the task is now slated to be cancelled, we just remove it as if it
+        // If the task is now slated to be cancelled, we just drop it as if it
         // no longer exists.
         if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
-            this.removeTask(task);
+            this.cancelledTasks.decrementAndGet();
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
+        // An asynchronous task whose previous execution didn't start yet is
+        // not started again, it is checked again a period later instead.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
+            task.deadline = this.getTimestamp(task) + task.period;
+            this.queueFor(task).add(task);
+            return;
         }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        // The deadline of the task passed, start it. Repeating tasks get a
+        // reset-timestamp each time they are set RUNNING and are queued again.
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            // Cancelled while it was running, it already left the queues
+            this.cancelledTasks.decrementAndGet();
+        } else if (task.period == 0L) {
+            this.removeTask(task);
+        } else {
+            this.enqueue(task);
         }
     }
 
@@ -195,6 +324,21 @@ protected void startTask(final ScheduledTask task) {
         });
     }
 
+    /**
+     * Called when the runnable of a task was rejected by the executor. A
+     * repeating task leaves the switching state, so it is started again a
+     * period later. A one-shot task would never run, so it is cancelled.
+     *
+     * @param task The rejected task
+     */
+    protected void onTaskRejected(ScheduledTask task) {
+        if (task.period == 0L) {
+            task.cancel();
+        } else {
+            task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+        }
+    }
+
     /**
      * Actually run the runnable that will begin the task
      *
@@ -39,6 +39,7 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -185,6 +186,34 @@ public void tickSyncScheduler() {
         this.syncScheduler.tick();
     }
 
+    /**
+     * Gets the amount of asynchronous tasks waiting to be run.
+     *
+     * @return The asynchronous queue depth
+     */
+    public int getAsyncQueueDepth() {
+        return this.asyncScheduler.getExecutor().getQueuedTaskCount();
+    }
+
+    /**
+     * Gets the amount of threads currently running asynchronous tasks.
+     *
+     * @return The active asynchronous thread count
+     */
+    public int getAsyncActiveThreads() {
+        return this.asyncScheduler.getExecutor().getActiveThreadCount();
+    }
+
+    /**
+     * Gets the asynchronous task statistics of every plugin that submitted
+     * asynchronous tasks so far.
+     *
+     * @return The statistics per plugin
+     */
+    public List<PluginTaskMetrics> getAsyncPluginMetrics() {
+        return this.asyncScheduler.getExecutor().getPluginMetrics();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
@@ -62,6 +62,19 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected boolean isTickBased(ScheduledTask task) {
+        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
+            return task.delayIsTicks;
+        }
+        return task.intervalIsTicks;
+    }
+
+    @Override
+    protected long getCurrentTick() {
+        return this.counter;
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         try (BasicPluginContext context = PluginPhase.State.SCHEDULED_TASK.createPhaseContext()
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Block positions packed into a long, using the same layout as
+ * {@link BlockPos#toLong()}. Allows queues and sets of positions to be kept
+ * in primitive collections without allocating a position per entry.
+ */
+public final class PackedBlockPos {
+
+    private static final int NUM_XZ_BITS = 26;
+    private static final int NUM_Y_BITS = 12;
+    private static final int Y_SHIFT = NUM_XZ_BITS;
+    private static final int X_SHIFT = Y_SHIFT + NUM_Y_BITS;
+    private static final long XZ_MASK = (1L << NUM_XZ_BITS) - 1L;
+    private static final long Y_MASK = (1L << NUM_Y_BITS) - 1L;
+
+    private PackedBlockPos() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) x & XZ_MASK) << X_SHIFT | ((long) y & Y_MASK) << Y_SHIFT | ((long) z & XZ_MASK);
+    }
+
+    public static int getX(long packed) {
+        return (int) (packed >> X_SHIFT);
+    }
+
+    public static int getY(long packed) {
+        return (int) (packed << (64 - X_SHIFT) >> (64 - NUM_Y_BITS));
+    }
+
+    public static int getZ(long packed) {
+        return (int) (packed << (64 - NUM_XZ_BITS) >> (64 - NUM_XZ_BITS));
+    }
+
+    public static long offset(long packed, int x, int y, int z) {
+        return pack(getX(packed) + x, getY(packed) + y, getZ(packed) + z);
+    }
+
+    public static long offset(long packed, EnumFacing facing) {
+        return offset(packed, facing.getFrontOffsetX(), facing.getFrontOffsetY(), facing.getFrontOffsetZ());
+    }
+
+    /**
+     * Moves the mutable position to the packed position.
+     *
+     * @param pos The mutable position to reuse
+     * @param packed The packed position
+     * @return The mutable position, for chaining
+     */
+    public static BlockPos.MutableBlockPos setPos(BlockPos.MutableBlockPos pos, long packed) {
+        return pos.setPos(getX(packed), getY(packed), getZ(packed));
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.NextTickListEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+/**
+ * The pending block updates of a world, additionally indexed by chunk and
+ * position so the updates of a single position or chunk can be looked up
+ * without scanning all the pending updates.
+ *
+ * <p>The index is kept up to date through the mutating methods of the set
+ * and its iterators, modifying the set through its sub set views is not
+ * supported.</p>
+ */
+public class ScheduledUpdateTreeSet extends TreeSet<NextTickListEntry> {
+
+    private static final long serialVersionUID = -3370839624786235981L;
+
+    // Chunk key -> position key -> the pending updates at the position
+    private final Long2ObjectMap<Long2ObjectMap<List<NextTickListEntry>>> index = new Long2ObjectOpenHashMap<>();
+
+    private static long getChunkKey(BlockPos pos) {
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    @Override
+    public boolean add(NextTickListEntry entry) {
+        if (!super.add(entry)) {
+            return false;
+        }
+        final long chunkKey = getChunkKey(entry.position);
+        Long2ObjectMap<List<NextTickListEntry>> chunkEntries = this.index.get(chunkKey);
+        if (chunkEntries == null) {
+            chunkEntries = new Long2ObjectOpenHashMap<>();
+            this.index.put(chunkKey, chunkEntries);
+        }
+        final long posKey = entry.position.toLong();
+        List<NextTickListEntry> entries = chunkEntries.get(posKey);
+        if (entries == null) {
+            entries = new ArrayList<>(1);
+            chunkEntries.put(posKey, entries);
+        }
+        entries.add(entry);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends NextTickListEntry> entries) {
+        // TreeSet bypasses add for sorted collections
+        boolean changed = false;
+        for (NextTickListEntry entry : entries) {
+            changed |= this.add(entry);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!super.remove(o)) {
+            return false;
+        }
+        this.removeFromIndex((NextTickListEntry) o);
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public NextTickListEntry pollFirst() {
+        final NextTickListEntry entry = super.pollFirst();
+        if (entry != null) {
+            this.removeFromIndex(entry);
+        }
+        return entry;
+    }
+
+    @Nullable
+    @Override
+    public NextTickListEntry pollLast() {
+        final NextTickListEntry entry = super.pollLast();
+        if (entry != null) {
+            this.removeFromIndex(entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.index.clear();
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> iterator() {
+        return new IndexedIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> descendingIterator() {
+        return new IndexedIterator(super.descendingIterator());
+    }
+
+    private void removeFromIndex(NextTickListEntry entry) {
+        final long chunkKey = getChunkKey(entry.position);
+        final Long2ObjectMap<List<NextTickListEntry>> chunkEntries = this.index.get(chunkKey);
+        if (chunkEntries == null) {
+            return;
+        }
+        final long posKey = entry.position.toLong();
+        final List<NextTickListEntry> entries = chunkEntries.get(posKey);
+        if (entries == null) {
+            return;
+        }
+        // Match the way the set identifies entries, equals only compares the position and block
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).compareTo(entry) == 0) {
+                entries.remove(i);
+                break;
+            }
+        }
+        if (entries.isEmpty()) {
+            chunkEntries.remove(posKey);
+            if (chunkEntries.isEmpty()) {
+                this.index.remove(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Gets the pending updates at the given position, in the order they
+     * will be processed.
+     *
+     * @param pos The position
+     * @return The pending updates
+     */
+    public List<NextTickListEntry> getEntries(BlockPos pos) {
+        final Long2ObjectMap<List<NextTickListEntry>> chunkEntries = this.index.get(getChunkKey(pos));
+        final List<NextTickListEntry> entries = chunkEntries == null ? null : chunkEntries.get(pos.toLong());
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        final List<NextTickListEntry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Gets the pending updates within the given chunk, in the order they
+     * will be processed.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The pending updates
+     */
+    public List<NextTickListEntry> getEntries(int chunkX, int chunkZ) {
+        final Long2ObjectMap<List<NextTickListEntry>> chunkEntries = this.index.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (chunkEntries == null) {
+            return Collections.emptyList();
+        }
+        final List<NextTickListEntry> sorted = new ArrayList<>();
+        for (List<NextTickListEntry> entries : chunkEntries.values()) {
+            sorted.addAll(entries);
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Gets the pending updates within the given block area, in the order
+     * they will be processed.
+     *
+     * @param minX The minimum block x coordinate, inclusive
+     * @param minZ The minimum block z coordinate, inclusive
+     * @param maxX The maximum block x coordinate, exclusive
+     * @param maxZ The maximum block z coordinate, exclusive
+     * @return The pending updates
+     */
+    public List<NextTickListEntry> getEntries(int minX, int minZ, int maxX, int maxZ) {
+        final List<NextTickListEntry> sorted = new ArrayList<>();
+        for (int chunkX = minX >> 4; chunkX <= (maxX - 1) >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= (maxZ - 1) >> 4; chunkZ++) {
+                final Long2ObjectMap<List<NextTickListEntry>> chunkEntries = this.index.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (chunkEntries == null) {
+                    continue;
+                }
+                for (List<NextTickListEntry> entries : chunkEntries.values()) {
+                    final BlockPos pos = entries.get(0).position;
+                    if (pos.getX() >= minX && pos.getX() < maxX && pos.getZ() >= minZ && pos.getZ() < maxZ) {
+                        sorted.addAll(entries);
+                    }
+                }
+            }
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Removes all the pending updates within the given chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The removed updates
+     */
+    public List<NextTickListEntry> removeEntries(int chunkX, int chunkZ) {
+        final Long2ObjectMap<List<NextTickListEntry>> chunkEntries = this.index.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (chunkEntries == null) {
+            return Collections.emptyList();
+        }
+        final List<NextTickListEntry> removed = new ArrayList<>();
+        for (List<NextTickListEntry> entries : chunkEntries.values()) {
+            for (NextTickListEntry entry : entries) {
+                super.remove(entry);
+                removed.add(entry);
+            }
+        }
+        return removed;
+    }
+
+    private final class IndexedIterator implements Iterator<NextTickListEntry> {
+
+        private final Iterator<NextTickListEntry> iterator;
+        @Nullable private NextTickListEntry last;
+
+        IndexedIterator(Iterator<NextTickListEntry> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public NextTickListEntry next() {
+            return this.last = this.iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            this.iterator.remove();
+            if (this.last != null) {
+                ScheduledUpdateTreeSet.this.removeFromIndex(this.last);
+                this.last = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.common.interfaces.entity.IMixinIndexedEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A uniform grid over the entities of a chunk, answering the bounding box
+ * queries of the chunk by only visiting the cells around the box instead of
+ * all the entities of the sub chunks it touches.
+ *
+ * <p>Entities are placed in the cell containing the center of their bounding
+ * box, and move between cells whenever their bounding box is set. Queries are
+ * grown by the largest half extent of the indexed entities so entities
+ * reaching into the box from a neighbor cell are still found.</p>
+ */
+public final class EntitySpatialIndex {
+
+    private static final int CELL_SHIFT = 2;
+    private static final int CELLS_XZ = 16 >> CELL_SHIFT;
+    private static final int CELLS_Y = 256 >> CELL_SHIFT;
+    private static final int CELL_COUNT = CELLS_XZ * CELLS_XZ * CELLS_Y;
+
+    private final int blockX;
+    private final int blockZ;
+    @Nullable private List<Entity>[] cells;
+    private int size;
+    private double maxHalfExtent;
+
+    public EntitySpatialIndex(int chunkX, int chunkZ) {
+        this.blockX = chunkX << 4;
+        this.blockZ = chunkZ << 4;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void add(Entity entity) {
+        final IMixinIndexedEntity indexed = (IMixinIndexedEntity) entity;
+        final EntitySpatialIndex previous = indexed.getSpatialIndex();
+        if (previous == this) {
+            return;
+        }
+        if (previous != null) {
+            previous.remove(entity);
+        }
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        this.maxHalfExtent = Math.max(this.maxHalfExtent, getHalfExtent(bb));
+        final int cell = this.getCell(bb);
+        this.getOrCreateCell(cell).add(entity);
+        indexed.setSpatialIndex(this, cell);
+        this.size++;
+    }
+
+    public void remove(Entity entity) {
+        final IMixinIndexedEntity indexed = (IMixinIndexedEntity) entity;
+        if (indexed.getSpatialIndex() != this) {
+            return;
+        }
+        removeFromCell(this.cells[indexed.getSpatialIndexCell()], entity);
+        indexed.setSpatialIndex(null, -1);
+        if (--this.size == 0) {
+            this.maxHalfExtent = 0;
+        }
+    }
+
+    /**
+     * Moves the entity to the cell of its current bounding box.
+     *
+     * @param entity The entity that moved
+     */
+    public void update(Entity entity) {
+        final IMixinIndexedEntity indexed = (IMixinIndexedEntity) entity;
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        final double halfExtent = getHalfExtent(bb);
+        if (halfExtent > this.maxHalfExtent) {
+            this.maxHalfExtent = halfExtent;
+        }
+        final int oldCell = indexed.getSpatialIndexCell();
+        final int newCell = this.getCell(bb);
+        if (oldCell != newCell) {
+            removeFromCell(this.cells[oldCell], entity);
+            this.getOrCreateCell(newCell).add(entity);
+            indexed.setSpatialIndex(this, newCell);
+        }
+    }
+
+    /**
+     * Same as {@link net.minecraft.world.chunk.Chunk#getEntitiesWithinAABBForEntity}
+     * but stops adding entities once the list holds the given amount of entities.
+     *
+     * @param entityIn The entity to exclude
+     * @param aabb The box to search
+     * @param listToFill The list to add the found entities to
+     * @param filter The filter, if any
+     * @param limit The size the list may reach, or a negative value to not limit it
+     */
+    public void getEntitiesWithinAABBForEntity(@Nullable Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill,
+            @Nullable Predicate<? super Entity> filter, int limit) {
+        if (this.cells == null) {
+            return;
+        }
+        final int minX = this.getCellX(aabb.minX - this.maxHalfExtent);
+        final int maxX = this.getCellX(aabb.maxX + this.maxHalfExtent);
+        final int minY = getCellY(aabb.minY - this.maxHalfExtent);
+        final int maxY = getCellY(aabb.maxY + this.maxHalfExtent);
+        final int minZ = this.getCellZ(aabb.minZ - this.maxHalfExtent);
+        final int maxZ = this.getCellZ(aabb.maxZ + this.maxHalfExtent);
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    final List<Entity> cell = this.cells[getCell(x, y, z)];
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size(); i++) {
+                        final Entity entity = cell.get(i);
+                        if (!entity.getEntityBoundingBox().intersects(aabb) || entity == entityIn) {
+                            continue;
+                        }
+                        if (filter == null || filter.apply(entity)) {
+                            if (isFull(listToFill, limit)) {
+                                return;
+                            }
+                            listToFill.add(entity);
+                        }
+                        final Entity[] parts = entity.getParts();
+                        if (parts != null) {
+                            for (Entity part : parts) {
+                                if (part != entityIn && part.getEntityBoundingBox().intersects(aabb) && (filter == null || filter.apply(part))) {
+                                    if (isFull(listToFill, limit)) {
+                                        return;
+                                    }
+                                    listToFill.add(part);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link net.minecraft.world.chunk.Chunk#getEntitiesOfTypeWithinAABB}
+     * but stops adding entities once the list holds the given amount of entities.
+     *
+     * @param entityClass The type of the entities to find
+     * @param aabb The box to search
+     * @param listToFill The list to add the found entities to
+     * @param filter The filter, if any
+     * @param limit The size the list may reach, or a negative value to not limit it
+     * @param <T> The type of the entities
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> void getEntitiesOfTypeWithinAABB(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+            @Nullable Predicate<? super T> filter, int limit) {
+        if (this.cells == null) {
+            return;
+        }
+        final int minX = this.getCellX(aabb.minX - this.maxHalfExtent);
+        final int maxX = this.getCellX(aabb.maxX + this.maxHalfExtent);
+        final int minY = getCellY(aabb.minY - this.maxHalfExtent);
+        final int maxY = getCellY(aabb.maxY + this.maxHalfExtent);
+        final int minZ = this.getCellZ(aabb.minZ - this.maxHalfExtent);
+        final int maxZ = this.getCellZ(aabb.maxZ + this.maxHalfExtent);
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    final List<Entity> cell = this.cells[getCell(x, y, z)];
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size(); i++) {
+                        final Entity entity = cell.get(i);
+                        if (!entityClass.isInstance(entity) || !entity.getEntityBoundingBox().intersects(aabb)) {
+                            continue;
+                        }
+                        final T t = (T) entity;
+                        if (filter == null || filter.apply(t)) {
+                            if (isFull(listToFill, limit)) {
+                                return;
+                            }
+                            listToFill.add(t);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isFull(List<?> list, int limit) {
+        return limit >= 0 && list.size() >= limit;
+    }
+
+    private static double getHalfExtent(AxisAlignedBB bb) {
+        return Math.max(bb.maxX - bb.minX, Math.max(bb.maxY - bb.minY, bb.maxZ - bb.minZ)) / 2;
+    }
+
+    private static void removeFromCell(List<Entity> cell, Entity entity) {
+        for (int i = cell.size() - 1; i >= 0; i--) {
+            if (cell.get(i) == entity) {
+                cell.remove(i);
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entity> getOrCreateCell(int cell) {
+        if (this.cells == null) {
+            this.cells = new List[CELL_COUNT];
+        }
+        List<Entity> entities = this.cells[cell];
+        if (entities == null) {
+            entities = new ArrayList<>(4);
+            this.cells[cell] = entities;
+        }
+        return entities;
+    }
+
+    private int getCell(AxisAlignedBB bb) {
+        return getCell(this.getCellX((bb.minX + bb.maxX) / 2), getCellY((bb.minY + bb.maxY) / 2), this.getCellZ((bb.minZ + bb.maxZ) / 2));
+    }
+
+    private static int getCell(int x, int y, int z) {
+        return (y * CELLS_XZ + x) * CELLS_XZ + z;
+    }
+
+    // Positions outside of the chunk are clamped to its border cells, entities
+    // that moved out of the chunk are still found until they change chunks
+
+    private int getCellX(double x) {
+        return MathHelper.clamp((MathHelper.floor(x) - this.blockX) >> CELL_SHIFT, 0, CELLS_XZ - 1);
+    }
+
+    private static int getCellY(double y) {
+        return MathHelper.clamp(MathHelper.floor(y) >> CELL_SHIFT, 0, CELLS_Y - 1);
+    }
+
+    private int getCellZ(double z) {
+        return MathHelper.clamp((MathHelper.floor(z) - this.blockZ) >> CELL_SHIFT, 0, CELLS_XZ - 1);
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.objects.Reference2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityEnderCrystal;
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.entity.monster.EntityCreeper;
+import net.minecraft.entity.projectile.EntityLargeFireball;
+import net.minecraft.init.Blocks;
+import net.minecraft.launchwrapper.Launch;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ParallelExplosionsCategory;
+import org.spongepowered.common.config.type.GlobalConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Traces the rays of explosions against a snapshot of the blocks around them,
+ * splitting the rays of large explosions over a fork join pool.
+ *
+ * <p>The snapshot and the resistance of each block are taken on the server
+ * thread, the rays themselves only read the snapshot. The random ray powers
+ * are drawn from the world random in the same order as vanilla does.</p>
+ */
+public final class SpongeExplosionTracer {
+
+    private static final int RAYS_PER_AXIS = 16;
+    private static final float AIR = Float.NaN;
+
+    // The exploders that don't override how blocks resist them depending on their position,
+    // only on SpongeVanilla, Forge lets every block resist depending on its position
+    private static final Set<Class<? extends Entity>> POSITION_INDEPENDENT_EXPLODERS = ImmutableSet.of(
+            EntityTNTPrimed.class, EntityCreeper.class, EntityEnderCrystal.class, EntityLargeFireball.class);
+
+    private static final double[] RAY_DIRECTIONS = createRayDirections();
+
+    @Nullable private static SpongeExplosionTracer instance;
+
+    public static synchronized SpongeExplosionTracer getInstance() {
+        if (instance == null) {
+            instance = new SpongeExplosionTracer(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelExplosionsCategory());
+        }
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        final GlobalConfig config = SpongeImpl.getGlobalConfig().getConfig();
+        return config.getModules().useOptimizations() && config.getOptimizations().useParallelExplosions();
+    }
+
+    private static double[] createRayDirections() {
+        final List<double[]> directions = new ArrayList<>();
+        for (int j = 0; j < RAYS_PER_AXIS; ++j) {
+            for (int k = 0; k < RAYS_PER_AXIS; ++k) {
+                for (int l = 0; l < RAYS_PER_AXIS; ++l) {
+                    if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
+                        double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
+                        double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
+                        double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
+                        double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                        directions.add(new double[] {d0 / d3, d1 / d3, d2 / d3});
+                    }
+                }
+            }
+        }
+        final double[] flat = new double[directions.size() * 3];
+        for (int i = 0; i < directions.size(); i++) {
+            System.arraycopy(directions.get(i), 0, flat, i * 3, 3);
+        }
+        return flat;
+    }
+
+    private static boolean isPositionIndependentResistance() {
+        try {
+            return Launch.classLoader.getClassBytes("net.minecraftforge.common.ForgeVersion") == null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final float minParallelRadius;
+    private final boolean positionIndependentResistance = isPositionIndependentResistance();
+
+    // Only updated from the server thread
+    private volatile long tracedExplosions;
+    private volatile long parallelExplosions;
+    private volatile long lastTraceTime;
+    private volatile long maxTraceTime;
+    private volatile long totalTraceTime;
+
+    private SpongeExplosionTracer(ParallelExplosionsCategory category) {
+        this.pool = new ForkJoinPool(Math.max(1, category.getNumThreads()), workerPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(workerPool);
+            thread.setName("Sponge - Explosion Thread #" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, (thread, throwable) -> SpongeImpl.getLogger().error("Couldn't trace explosion rays", throwable), false);
+        this.minParallelRadius = category.getMinParallelRadius();
+    }
+
+    /**
+     * Traces the rays of the explosion and collects the positions they reach,
+     * grouped by chunk section.
+     *
+     * @param explosion The explosion
+     * @param world The world of the explosion
+     * @param exploder The exploding entity, if any
+     * @param x The x position of the explosion
+     * @param y The y position of the explosion
+     * @param z The z position of the explosion
+     * @param size The size of the explosion
+     * @return The affected positions, or null if snapshotting the area of the
+     *     explosion costs more than tracing the rays against the world
+     */
+    @Nullable
+    public List<BlockPos> trace(Explosion explosion, World world, @Nullable Entity exploder, double x, double y, double z, float size) {
+        final long start = System.nanoTime();
+
+        // Every step takes at least 0.225 power and travels 0.3 blocks
+        final int maxSteps = MathHelper.ceil(size * 1.3F / 0.22500001F);
+        final int reach = MathHelper.ceil(maxSteps * 0.30000001192092896D) + 1;
+        final int side = reach * 2 + 1;
+        final int rays = RAY_DIRECTIONS.length / 3;
+        // The snapshot reads every block of the cube, vanilla only the blocks along the rays. An average
+        // ray has the power of the explosion size, so the snapshot is only cheaper if the cube is
+        // smaller than the steps of all rays through air, which is the case up to a size of about 10.
+        if ((long) side * side * side > (long) rays * MathHelper.ceil(size / 0.22500001F)) {
+            return null;
+        }
+        final Snapshot snapshot = new Snapshot(MathHelper.floor(x) - reach, MathHelper.floor(y) - reach, MathHelper.floor(z) - reach, side);
+        snapshot.capture(explosion, world, exploder,
+                this.positionIndependentResistance && (exploder == null || POSITION_INDEPENDENT_EXPLODERS.contains(exploder.getClass())));
+
+        final float[] powers = new float[rays];
+        for (int i = 0; i < rays; i++) {
+            powers[i] = size * (0.7F + world.rand.nextFloat() * 0.6F);
+        }
+
+        final float[] hits;
+        final int tasks = size >= this.minParallelRadius ? this.pool.getParallelism() : 1;
+        if (tasks > 1) {
+            final List<ForkJoinTask<float[]>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                final int from = rays * i / tasks;
+                final int to = rays * (i + 1) / tasks;
+                futures.add(this.pool.submit(() -> traceRays(snapshot, powers, from, to, x, y, z)));
+            }
+            hits = futures.get(0).join();
+            for (int i = 1; i < tasks; i++) {
+                final float[] other = futures.get(i).join();
+                for (int j = 0; j < hits.length; j++) {
+                    if (other[j] > hits[j]) {
+                        hits[j] = other[j];
+                    }
+                }
+            }
+            this.parallelExplosions++;
+        } else {
+            hits = traceRays(snapshot, powers, 0, rays, x, y, z);
+        }
+
+        final List<BlockPos> affected = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < hits.length; i++) {
+            if (hits[i] <= 0.0F) {
+                continue;
+            }
+            snapshot.setPos(pos, i);
+            // Asked once per position with the strongest ray that reached it
+            if (exploder == null || exploder.canExplosionDestroyBlock(explosion, world, pos, snapshot.states[i], hits[i])) {
+                affected.add(pos.toImmutable());
+            }
+        }
+        affected.sort(Comparator.comparingInt((BlockPos p) -> p.getX() >> 4).thenComparingInt(p -> p.getZ() >> 4)
+                .thenComparingInt(p -> p.getY() >> 4));
+
+        final long time = System.nanoTime() - start;
+        this.tracedExplosions++;
+        this.lastTraceTime = time;
+        this.totalTraceTime += time;
+        if (time > this.maxTraceTime) {
+            this.maxTraceTime = time;
+        }
+        return affected;
+    }
+
+    private static float[] traceRays(Snapshot snapshot, float[] powers, int from, int to, double x, double y, double z) {
+        final float[] hits = new float[snapshot.resistances.length];
+        for (int ray = from; ray < to; ray++) {
+            final double d0 = RAY_DIRECTIONS[ray * 3];
+            final double d1 = RAY_DIRECTIONS[ray * 3 + 1];
+            final double d2 = RAY_DIRECTIONS[ray * 3 + 2];
+            float f = powers[ray];
+            double d4 = x;
+            double d6 = y;
+            double d8 = z;
+
+            for (; f > 0.0F; f -= 0.22500001F) {
+                final int index = snapshot.getIndex(MathHelper.floor(d4), MathHelper.floor(d6), MathHelper.floor(d8));
+                if (index < 0) {
+                    break;
+                }
+                final float resistance = snapshot.resistances[index];
+                if (!Float.isNaN(resistance)) {
+                    f -= (resistance + 0.3F) * 0.3F;
+                }
+
+                if (f > hits[index]) {
+                    hits[index] = f;
+                }
+
+                d4 += d0 * 0.30000001192092896D;
+                d6 += d1 * 0.30000001192092896D;
+                d8 += d2 * 0.30000001192092896D;
+            }
+        }
+        return hits;
+    }
+
+    public long getTracedExplosionCount() {
+        return this.tracedExplosions;
+    }
+
+    public long getParallelExplosionCount() {
+        return this.parallelExplosions;
+    }
+
+    public long getLastTraceTime(TimeUnit unit) {
+        return unit.convert(this.lastTraceTime, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxTraceTime(TimeUnit unit) {
+        return unit.convert(this.maxTraceTime, TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageTraceTime(TimeUnit unit) {
+        final long count = this.tracedExplosions;
+        return count == 0 ? 0 : unit.convert(this.totalTraceTime / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The block states around an explosion and how much each of them resists
+     * it, {@link Float#NaN} for air.
+     */
+    private static final class Snapshot {
+
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int side;
+        private final IBlockState[] states;
+        private final float[] resistances;
+
+        Snapshot(int minX, int minY, int minZ, int side) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.side = side;
+            this.states = new IBlockState[side * side * side];
+            this.resistances = new float[this.states.length];
+        }
+
+        int getIndex(int x, int y, int z) {
+            x -= this.minX;
+            y -= this.minY;
+            z -= this.minZ;
+            if (x < 0 || y < 0 || z < 0 || x >= this.side || y >= this.side || z >= this.side) {
+                return -1;
+            }
+            return (y * this.side + z) * this.side + x;
+        }
+
+        void setPos(BlockPos.MutableBlockPos pos, int index) {
+            pos.setPos(this.minX + index % this.side, this.minY + index / (this.side * this.side), this.minZ + (index / this.side) % this.side);
+        }
+
+        void capture(Explosion explosion, World world, @Nullable Entity exploder, boolean cacheResistance) {
+            final Reference2FloatMap<IBlockState> resistanceCache = new Reference2FloatOpenHashMap<>();
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            final int maxX = this.minX + this.side - 1;
+            final int maxZ = this.minZ + this.side - 1;
+            for (int chunkX = this.minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+                for (int chunkZ = this.minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                    final Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+                    final int fromX = Math.max(this.minX, chunkX << 4);
+                    final int toX = Math.min(maxX, (chunkX << 4) + 15);
+                    final int fromZ = Math.max(this.minZ, chunkZ << 4);
+                    final int toZ = Math.min(maxZ, (chunkZ << 4) + 15);
+                    for (int y = this.minY; y < this.minY + this.side; y++) {
+                        for (int z = fromZ; z <= toZ; z++) {
+                            for (int x = fromX; x <= toX; x++) {
+                                final int index = this.getIndex(x, y, z);
+                                final IBlockState state = y < 0 || y >= 256 ? Blocks.AIR.getDefaultState() : chunk.getBlockState(x, y, z);
+                                this.states[index] = state;
+                                if (state.getMaterial() == Material.AIR) {
+                                    this.resistances[index] = AIR;
+                                } else if (cacheResistance && resistanceCache.containsKey(state)) {
+                                    this.resistances[index] = resistanceCache.getFloat(state);
+                                } else {
+                                    pos.setPos(x, y, z);
+                                    final float resistance = exploder != null
+                                            ? exploder.getExplosionResistance(explosion, world, pos, state)
+                                            : state.getBlock().getExplosionResistance((Entity) null);
+                                    this.resistances[index] = resistance;
+                                    if (cacheResistance) {
+                                        resistanceCache.put(state, resistance);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
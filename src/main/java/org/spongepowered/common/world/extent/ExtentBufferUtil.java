@@ -27,7 +27,9 @@
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.biome.VirtualBiomeType;
 import org.spongepowered.api.world.extent.BiomeVolume;
@@ -64,6 +66,10 @@ public static char[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max,
             throw new OutOfMemoryError("Cannot copy the blocks to an array because the size limit was reached");
         }
         final char[] copy = new char[(int) memory];
+        if (volume instanceof World) {
+            copyChunkBlocksToArray((World) volume, min, max, copy);
+            return copy;
+        }
         int i = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int z = min.getZ(); z <= max.getZ(); z++) {
@@ -75,4 +81,23 @@ public static char[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max,
         return copy;
     }
 
+    /**
+     * Reads the blocks straight from the chunk sections, looking up each
+     * chunk only once per column instead of once per block.
+     */
+    private static void copyChunkBlocksToArray(World world, Vector3i min, Vector3i max, char[] copy) {
+        int i = 0;
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            Chunk chunk = null;
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                if (chunk == null || chunk.z != z >> 4) {
+                    chunk = world.getChunkFromChunkCoords(x >> 4, z >> 4);
+                }
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    copy[i++] = (char) Block.BLOCK_STATE_IDS.get(chunk.getBlockState(x, y, z));
+                }
+            }
+        }
+    }
+
 }
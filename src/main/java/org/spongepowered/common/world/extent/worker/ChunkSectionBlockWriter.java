@@ -0,0 +1,194 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.type.GlobalConfig;
+import org.spongepowered.common.event.ShouldFire;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes the blocks of a region into the chunks of a server world one
+ * 16x16x16 section at a time, directly into the section storage instead of
+ * going through the phase tracker for every block.
+ *
+ * <p>Each chunk that changed gets its sky light map regenerated and its
+ * relight checks reset once, and the changed sections are resent to the
+ * watching players in a single packet once the blocks whose light value or
+ * opacity changed got a block light check. Sky light changed in sections
+ * below the written ones isn't resent. No block physics are performed.
+ * Blocks that have or receive a tile entity are still set through the
+ * destination volume, so tile entities are created and removed as usual.</p>
+ */
+final class ChunkSectionBlockWriter {
+
+    @FunctionalInterface
+    interface BlockSource {
+
+        BlockState getBlock(int x, int y, int z);
+
+    }
+
+    private ChunkSectionBlockWriter() {
+    }
+
+    /**
+     * Gets the server world whose sections back the given volume, if blocks
+     * may be written into them directly. This is only the case if the bulk
+     * block worker and the optimizations module are enabled in the config,
+     * as the direct writes skip block
+     * physics and tracking, and no plugin listens to block changes, as
+     * writing the sections directly doesn't capture them.
+     *
+     * @param volume The volume
+     * @return The world, or null if the per block path has to be used
+     */
+    @Nullable
+    static WorldServer getSectionBackedWorld(MutableBlockVolume volume) {
+        if (ShouldFire.CHANGE_BLOCK_EVENT) {
+            return null;
+        }
+        final GlobalConfig config = SpongeImpl.getGlobalConfig().getConfig();
+        if (!config.getModules().useOptimizations() || !config.getOptimizations().useBulkBlockWorker()) {
+            return null;
+        }
+        if (volume instanceof WorldServer) {
+            return (WorldServer) volume;
+        }
+        if (volume instanceof Chunk && ((Chunk) volume).getWorld() instanceof WorldServer) {
+            return (WorldServer) ((Chunk) volume).getWorld();
+        }
+        return null;
+    }
+
+    /**
+     * Writes the blocks provided by the source into the world, the bounds
+     * are inclusive and in world coordinates.
+     */
+    static void write(WorldServer world, MutableBlockVolume destination, int xMin, int yMin, int zMin, int xMax, int yMax, int zMax,
+            BlockSource source) {
+        final boolean hasSkyLight = world.provider.hasSkyLight();
+        final IBlockState air = Blocks.AIR.getDefaultState();
+        // Blocks with tile entities, set through the destination once all sections are written
+        final List<BlockPos> tileEntityPositions = new ArrayList<>();
+        final List<BlockState> tileEntityBlocks = new ArrayList<>();
+        // Blocks whose light value or opacity changed, the sky light map only covers the sky light
+        final List<BlockPos> lightPositions = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        // The changed chunks and sections, resent once their block light is checked
+        final List<Chunk> changedChunks = new ArrayList<>();
+        final IntList changedChunkSections = new IntArrayList();
+
+        for (int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+            for (int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+                final Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+                final ExtendedBlockStorage[] storageArrays = chunk.getBlockStorageArray();
+                final int x0 = Math.max(xMin, chunkX << 4);
+                final int x1 = Math.min(xMax, (chunkX << 4) + 15);
+                final int z0 = Math.max(zMin, chunkZ << 4);
+                final int z1 = Math.min(zMax, (chunkZ << 4) + 15);
+                int changedSections = 0;
+
+                for (int sectionY = yMin >> 4; sectionY <= yMax >> 4; sectionY++) {
+                    ExtendedBlockStorage storage = storageArrays[sectionY];
+                    final int y0 = Math.max(yMin, sectionY << 4);
+                    final int y1 = Math.min(yMax, (sectionY << 4) + 15);
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                final BlockState block = source.getBlock(x, y, z);
+                                final IBlockState newState = (IBlockState) block;
+                                final IBlockState currentState = storage == Chunk.NULL_BLOCK_STORAGE ? air : storage.get(x & 15, y & 15, z & 15);
+                                if (newState == currentState) {
+                                    continue;
+                                }
+                                if (SpongeImplHooks.hasBlockTileEntity(currentState.getBlock(), currentState)
+                                        || SpongeImplHooks.hasBlockTileEntity(newState.getBlock(), newState)) {
+                                    tileEntityPositions.add(new BlockPos(x, y, z));
+                                    tileEntityBlocks.add(block);
+                                    continue;
+                                }
+                                pos.setPos(x, y, z);
+                                if (SpongeImplHooks.getChunkPosLight(currentState, world, pos) != SpongeImplHooks.getChunkPosLight(newState, world, pos)
+                                        || SpongeImplHooks.getBlockLightOpacity(currentState, world, pos)
+                                            != SpongeImplHooks.getBlockLightOpacity(newState, world, pos)) {
+                                    lightPositions.add(pos.toImmutable());
+                                }
+                                if (storage == Chunk.NULL_BLOCK_STORAGE) {
+                                    storage = storageArrays[sectionY] = new ExtendedBlockStorage(sectionY << 4, hasSkyLight);
+                                }
+                                storage.set(x & 15, y & 15, z & 15, newState);
+                                changedSections |= 1 << sectionY;
+                            }
+                        }
+                    }
+                }
+
+                if (changedSections != 0) {
+                    chunk.generateSkylightMap();
+                    chunk.resetRelightChecks();
+                    chunk.markDirty();
+                    changedChunks.add(chunk);
+                    changedChunkSections.add(changedSections);
+                }
+            }
+        }
+
+        for (BlockPos lightPos : lightPositions) {
+            world.checkLightFor(EnumSkyBlock.BLOCK, lightPos);
+        }
+
+        for (int i = 0; i < changedChunks.size(); i++) {
+            final Chunk chunk = changedChunks.get(i);
+            final PlayerChunkMapEntry entry = world.getPlayerChunkMap().getEntry(chunk.x, chunk.z);
+            if (entry != null && entry.isSentToPlayers()) {
+                entry.sendPacket(new SPacketChunkData(chunk, changedChunkSections.getInt(i)));
+            }
+        }
+
+        for (int i = 0; i < tileEntityPositions.size(); i++) {
+            final BlockPos tileEntityPos = tileEntityPositions.get(i);
+            destination.setBlock(tileEntityPos.getX(), tileEntityPos.getY(), tileEntityPos.getZ(), tileEntityBlocks.get(i));
+        }
+    }
+}
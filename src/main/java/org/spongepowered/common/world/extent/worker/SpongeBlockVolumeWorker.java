@@ -27,6 +27,7 @@
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.CauseStackManager;
@@ -76,6 +77,13 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)
             .buildAndSwitch()) {
+            final WorldServer world = ChunkSectionBlockWriter.getSectionBackedWorld(destination);
+            if (world != null) {
+                ChunkSectionBlockWriter.write(world, destination, xMin + xOffset, yMin + yOffset, zMin + zOffset,
+                    xMax + xOffset, yMax + yOffset, zMax + zOffset,
+                    (x, y, z) -> mapper.map(unmodifiableVolume, x - xOffset, y - yOffset, z - zOffset));
+                return;
+            }
             for (int z = zMin; z <= zMax; z++) {
                 for (int y = yMin; y <= yMax; y++) {
                     for (int x = xMin; x <= xMax; x++) {
@@ -109,6 +117,19 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)
             .buildAndSwitch()) {
+            final WorldServer world = ChunkSectionBlockWriter.getSectionBackedWorld(destination);
+            if (world != null) {
+                ChunkSectionBlockWriter.write(world, destination, xMin + xOffsetDestination, yMin + yOffsetDestination, zMin + zOffsetDestination,
+                    xMax + xOffsetDestination, yMax + yOffsetDestination, zMax + zOffsetDestination,
+                    (x, y, z) -> {
+                        final int xFirst = x - xOffsetDestination;
+                        final int yFirst = y - yOffsetDestination;
+                        final int zFirst = z - zOffsetDestination;
+                        return merger.merge(firstUnmodifiableVolume, xFirst, yFirst, zFirst,
+                            secondUnmodifiableVolume, xFirst + xOffsetSecond, yFirst + yOffsetSecond, zFirst + zOffsetSecond);
+                    });
+                return;
+            }
             for (int z = zMin; z <= zMax; z++) {
                 for (int y = yMin; y <= yMax; y++) {
                     for (int x = xMin; x <= xMax; x++) {
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.extent.worker;
 
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
@@ -46,6 +47,11 @@ public void fill(BlockVolumeFiller filler) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        final WorldServer world = ChunkSectionBlockWriter.getSectionBackedWorld(this.volume);
+        if (world != null) {
+            ChunkSectionBlockWriter.write(world, this.volume, xMin, yMin, zMin, xMax, yMax, zMax, filler::produce);
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
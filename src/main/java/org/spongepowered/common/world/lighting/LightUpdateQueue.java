@@ -0,0 +1,218 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import com.google.common.base.MoreObjects;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The pending lighting work of a single chunk. Queued positions are kept as
+ * one dirty bit per block, in bitsets allocated per 16x16x16 section and
+ * per light type, so queueing, de-duplicating and draining positions never
+ * allocates per update, regardless of how many blocks change at once.
+ *
+ * <p>Positions are queued from the server thread and drained by lighting
+ * workers as a whole {@link Batch}, all access is synchronized on the
+ * queue itself.</p>
+ */
+public final class LightUpdateQueue {
+
+    private static final int SECTION_COUNT = 16;
+    private static final int WORDS_PER_SECTION = 16 * 16 * 16 / Long.SIZE;
+
+    private long[][] skyLight = new long[SECTION_COUNT][];
+    private long[][] blockLight = new long[SECTION_COUNT][];
+    private List<Runnable> chunkTasks = Collections.emptyList();
+    private int size;
+    private boolean scheduled;
+    private long scheduledTime;
+    private List<Chunk> neighbors = Collections.emptyList();
+
+    /**
+     * Marks the position as needing a light update of the given type.
+     *
+     * @param type The light type
+     * @param pos The position, only the chunk relative coordinates are used
+     * @return True if the position was not already queued
+     */
+    public synchronized boolean add(EnumSkyBlock type, BlockPos pos) {
+        final int y = pos.getY();
+        if (y < 0 || y >= 256) {
+            return false;
+        }
+        final long[][] sections = type == EnumSkyBlock.SKY ? this.skyLight : this.blockLight;
+        long[] section = sections[y >> 4];
+        if (section == null) {
+            section = sections[y >> 4] = new long[WORDS_PER_SECTION];
+        }
+        final int index = (y & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+        final long bit = 1L << index;
+        final long word = section[index >>> 6];
+        if ((word & bit) != 0) {
+            return false;
+        }
+        section[index >>> 6] = word | bit;
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Queues a task to be run against the whole chunk, such as a gap or
+     * column relight, before any queued positions are updated.
+     *
+     * @param task The task
+     */
+    public synchronized void addTask(Runnable task) {
+        if (this.chunkTasks.isEmpty()) {
+            this.chunkTasks = new ArrayList<>();
+        }
+        this.chunkTasks.add(task);
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    synchronized boolean isScheduled() {
+        return this.scheduled;
+    }
+
+    /**
+     * Marks this queue as scheduled with the lighting engine, if it
+     * isn't already.
+     *
+     * @param neighbors The surrounding chunks that are counted as pending
+     *     for as long as the scheduled work is in progress
+     * @param time The time the work was scheduled, in nanoseconds
+     * @return True if the queue was not already scheduled
+     */
+    synchronized boolean markScheduled(List<Chunk> neighbors, long time) {
+        if (this.scheduled) {
+            return false;
+        }
+        this.scheduled = true;
+        this.scheduledTime = time;
+        this.neighbors = neighbors;
+        return true;
+    }
+
+    /**
+     * Takes all queued work, leaving this queue empty and no longer
+     * scheduled, so any further updates will schedule it again.
+     *
+     * @param chunk The chunk owning this queue
+     * @return The queued work
+     */
+    synchronized Batch drain(Chunk chunk) {
+        final Batch batch = new Batch(chunk, this.skyLight, this.blockLight, this.chunkTasks, this.size, this.scheduledTime, this.neighbors);
+        if (this.size != 0) {
+            this.skyLight = new long[SECTION_COUNT][];
+            this.blockLight = new long[SECTION_COUNT][];
+        }
+        this.chunkTasks = Collections.emptyList();
+        this.size = 0;
+        this.scheduled = false;
+        this.neighbors = Collections.emptyList();
+        return batch;
+    }
+
+    /**
+     * The drained work of a single chunk.
+     */
+    static final class Batch {
+
+        final Chunk chunk;
+        final List<Runnable> chunkTasks;
+        final int size;
+        final long scheduledTime;
+        final List<Chunk> neighbors;
+        private final long[][] skyLight;
+        private final long[][] blockLight;
+
+        Batch(Chunk chunk, long[][] skyLight, long[][] blockLight, List<Runnable> chunkTasks, int size, long scheduledTime,
+            List<Chunk> neighbors) {
+            this.chunk = chunk;
+            this.skyLight = skyLight;
+            this.blockLight = blockLight;
+            this.chunkTasks = chunkTasks;
+            this.size = size;
+            this.scheduledTime = scheduledTime;
+            this.neighbors = neighbors;
+        }
+
+        /**
+         * Visits every queued position, sky light first, in section order.
+         *
+         * @param visitor The visitor
+         */
+        void forEach(Visitor visitor) {
+            if (this.size == 0) {
+                return;
+            }
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            visit(EnumSkyBlock.SKY, this.skyLight, pos, visitor);
+            visit(EnumSkyBlock.BLOCK, this.blockLight, pos, visitor);
+        }
+
+        private void visit(EnumSkyBlock type, long[][] sections, BlockPos.MutableBlockPos pos, Visitor visitor) {
+            final int baseX = this.chunk.x << 4;
+            final int baseZ = this.chunk.z << 4;
+            for (int sectionY = 0; sectionY < SECTION_COUNT; sectionY++) {
+                final long[] section = sections[sectionY];
+                if (section == null) {
+                    continue;
+                }
+                for (int wordIndex = 0; wordIndex < WORDS_PER_SECTION; wordIndex++) {
+                    long word = section[wordIndex];
+                    while (word != 0) {
+                        final int index = wordIndex << 6 | Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        pos.setPos(baseX | (index & 15), sectionY << 4 | index >> 8, baseZ | (index >> 4 & 15));
+                        visitor.visit(type, pos);
+                    }
+                }
+            }
+        }
+    }
+
+    interface Visitor {
+
+        void visit(EnumSkyBlock type, BlockPos pos);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("size", this.size)
+                .add("scheduled", this.scheduled)
+                .toString();
+    }
+}
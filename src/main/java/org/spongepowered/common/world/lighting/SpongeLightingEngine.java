@@ -0,0 +1,336 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches the asynchronous light updates of a world. Rather than submitting
+ * a task per updated position, positions and chunk wide relights are queued
+ * onto the {@link LightUpdateQueue} of their chunk. Once per tick, every
+ * chunk with queued work is grouped by region and each region is handed to
+ * one of a bounded number of workers, so a region is never lit by more than
+ * one worker at a time. The results of finished regions, the pending counts
+ * that keep chunks from unloading while they are lit, are synced back on
+ * the server thread at the start of the next tick.
+ */
+public final class SpongeLightingEngine {
+
+    // Regions are 8x8 chunks
+    private static final int REGION_SHIFT = 3;
+    private static final int LIGHT_UPDATE_BUFFER_SIZE = 32768;
+    private static final ThreadLocal<int[]> LIGHT_UPDATE_BUFFER = ThreadLocal.withInitial(() -> new int[LIGHT_UPDATE_BUFFER_SIZE]);
+
+    private final WorldServer world;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<RegionResult> completedRegions = new ConcurrentLinkedQueue<>();
+    // Everything below is only accessed from the server thread
+    private final ArrayDeque<Chunk> scheduledChunks = new ArrayDeque<>();
+    private final LongSet activeRegions = new LongOpenHashSet();
+    private int backlog;
+    private long averageTimeToLight;
+    private long lastTimeToLight;
+
+    public SpongeLightingEngine(WorldServer world) {
+        this.world = world;
+        this.executor = Executors.newFixedThreadPool(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(),
+                new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    }
+
+    /**
+     * Gets the buffer used by the light propagation of the current thread.
+     * Each lighting worker needs its own, as they run concurrently.
+     *
+     * @return The buffer
+     */
+    public static int[] getLightUpdateBuffer() {
+        return LIGHT_UPDATE_BUFFER.get();
+    }
+
+    /**
+     * Gets the loaded chunks surrounding the given chunk, including the
+     * diagonal ones, that light updates within the chunk may spill into.
+     *
+     * @param chunk The chunk
+     * @return The surrounding chunks
+     */
+    public static List<Chunk> getSurroundingChunks(Chunk chunk) {
+        final IMixinChunk mixinChunk = (IMixinChunk) chunk;
+        final List<Chunk> neighbors = mixinChunk.getNeighbors();
+        // Diagonal chunks are reached through the north and south neighbors
+        for (int direction = 0; direction < 2; direction++) {
+            final Chunk neighbor = mixinChunk.getNeighborChunk(direction);
+            if (neighbor == null) {
+                continue;
+            }
+            final Chunk east = ((IMixinChunk) neighbor).getNeighborChunk(2);
+            if (east != null) {
+                neighbors.add(east);
+            }
+            final Chunk west = ((IMixinChunk) neighbor).getNeighborChunk(3);
+            if (west != null) {
+                neighbors.add(west);
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * Queues a light update of the given position. Must be called from the
+     * server thread.
+     *
+     * @param type The light type
+     * @param pos The position
+     * @param chunk The chunk containing the position
+     * @return True if the position was not already queued
+     */
+    public boolean queue(EnumSkyBlock type, BlockPos pos, Chunk chunk) {
+        final IMixinChunk mixinChunk = (IMixinChunk) chunk;
+        final LightUpdateQueue queue = mixinChunk.getLightUpdateQueue();
+        if (!queue.add(type, pos)) {
+            return false;
+        }
+        this.backlog++;
+        this.schedule(chunk, queue);
+        return true;
+    }
+
+    /**
+     * Queues a task relighting (part of) the given chunk, to be run before
+     * any positions queued for the chunk. Must be called from the server
+     * thread.
+     *
+     * @param chunk The chunk
+     * @param task The task
+     */
+    public void queueChunkTask(Chunk chunk, Runnable task) {
+        final LightUpdateQueue queue = ((IMixinChunk) chunk).getLightUpdateQueue();
+        queue.addTask(task);
+        this.schedule(chunk, queue);
+    }
+
+    private void schedule(Chunk chunk, LightUpdateQueue queue) {
+        final long worldTime = this.world.getTotalWorldTime();
+        final IMixinChunk mixinChunk = (IMixinChunk) chunk;
+        mixinChunk.setLightUpdateTime(worldTime);
+        if (queue.isScheduled()) {
+            return;
+        }
+        final List<Chunk> neighbors = getSurroundingChunks(chunk);
+        queue.markScheduled(neighbors, System.nanoTime());
+        // Keeps the chunk and its neighbors from unloading until the work is synced back
+        mixinChunk.getPendingLightUpdates().incrementAndGet();
+        for (Chunk neighbor : neighbors) {
+            final IMixinChunk mixinNeighbor = (IMixinChunk) neighbor;
+            mixinNeighbor.getPendingLightUpdates().incrementAndGet();
+            mixinNeighbor.setLightUpdateTime(worldTime);
+        }
+        this.scheduledChunks.add(chunk);
+    }
+
+    /**
+     * Syncs back the regions finished since the last tick, then dispatches
+     * all chunks scheduled since, grouped by region. Regions still being
+     * lit are left for a later tick.
+     */
+    public void onTick() {
+        RegionResult result;
+        while ((result = this.completedRegions.poll()) != null) {
+            this.activeRegions.remove(result.regionKey);
+            for (LightUpdateQueue.Batch batch : result.batches) {
+                this.complete(batch);
+            }
+        }
+
+        if (this.scheduledChunks.isEmpty() || this.executor.isShutdown()) {
+            return;
+        }
+        final Long2ObjectMap<List<Chunk>> regions = new Long2ObjectOpenHashMap<>();
+        final List<Chunk> deferred = new ArrayList<>();
+        Chunk chunk;
+        while ((chunk = this.scheduledChunks.poll()) != null) {
+            final long regionKey = regionKey(chunk);
+            if (this.activeRegions.contains(regionKey)) {
+                deferred.add(chunk);
+                continue;
+            }
+            List<Chunk> regionChunks = regions.get(regionKey);
+            if (regionChunks == null) {
+                regionChunks = new ArrayList<>();
+                regions.put(regionKey, regionChunks);
+            }
+            regionChunks.add(chunk);
+        }
+        this.scheduledChunks.addAll(deferred);
+
+        for (Long2ObjectMap.Entry<List<Chunk>> entry : regions.long2ObjectEntrySet()) {
+            final long regionKey = entry.getLongKey();
+            final List<Chunk> regionChunks = entry.getValue();
+            try {
+                this.executor.execute(() -> this.processRegion(regionKey, regionChunks));
+                this.activeRegions.add(regionKey);
+            } catch (RejectedExecutionException e) {
+                // This could happen if ServerHangWatchdog kills the server while dispatching
+                if (!this.executor.isShutdown()) {
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private void processRegion(long regionKey, List<Chunk> chunks) {
+        final IMixinWorldServer mixinWorld = (IMixinWorldServer) this.world;
+        final List<LightUpdateQueue.Batch> batches = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            final LightUpdateQueue.Batch batch = ((IMixinChunk) chunk).getLightUpdateQueue().drain(chunk);
+            batches.add(batch);
+            if (chunk.unloadQueued) {
+                continue;
+            }
+            try {
+                for (Runnable task : batch.chunkTasks) {
+                    task.run();
+                }
+                batch.forEach((type, pos) -> mixinWorld.checkLightAsync(type, pos, chunk, batch.neighbors));
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Exception while updating light of chunk [{}, {}] in world {}", chunk.x, chunk.z,
+                        this.world.getWorldInfo().getWorldName(), e);
+            }
+        }
+        this.completedRegions.add(new RegionResult(regionKey, batches));
+    }
+
+    private void complete(LightUpdateQueue.Batch batch) {
+        final long worldTime = this.world.getTotalWorldTime();
+        final IMixinChunk mixinChunk = (IMixinChunk) batch.chunk;
+        mixinChunk.getPendingLightUpdates().decrementAndGet();
+        mixinChunk.setLightUpdateTime(worldTime);
+        for (Chunk neighbor : batch.neighbors) {
+            final IMixinChunk mixinNeighbor = (IMixinChunk) neighbor;
+            mixinNeighbor.getPendingLightUpdates().decrementAndGet();
+            mixinNeighbor.setLightUpdateTime(worldTime);
+        }
+        this.backlog -= batch.size;
+        if (batch.size != 0) {
+            this.lastTimeToLight = System.nanoTime() - batch.scheduledTime;
+            this.averageTimeToLight = this.averageTimeToLight == 0
+                    ? this.lastTimeToLight
+                    : this.averageTimeToLight + (this.lastTimeToLight - this.averageTimeToLight) / 16;
+        }
+    }
+
+    private static long regionKey(Chunk chunk) {
+        return (long) (chunk.x >> REGION_SHIFT) << 32 | (chunk.z >> REGION_SHIFT) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the amount of positions queued for a light update that have not
+     * been synced back yet.
+     *
+     * @return The backlog size
+     */
+    public int getBacklog() {
+        return this.backlog;
+    }
+
+    /**
+     * Gets the amount of chunks waiting to be dispatched to a worker.
+     *
+     * @return The amount of scheduled chunks
+     */
+    public int getScheduledChunkCount() {
+        return this.scheduledChunks.size();
+    }
+
+    /**
+     * Gets the amount of regions currently being lit by a worker.
+     *
+     * @return The amount of active regions
+     */
+    public int getActiveRegionCount() {
+        return this.activeRegions.size();
+    }
+
+    /**
+     * Gets the moving average of the time between a chunk being scheduled
+     * and its light updates being synced back.
+     *
+     * @param unit The unit to return the time in
+     * @return The average time to light
+     */
+    public long getAverageTimeToLight(TimeUnit unit) {
+        return unit.convert(this.averageTimeToLight, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the time to light of the most recently synced back chunk.
+     *
+     * @param unit The unit to return the time in
+     * @return The last time to light
+     */
+    public long getLastTimeToLight(TimeUnit unit) {
+        return unit.convert(this.lastTimeToLight, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    private static final class RegionResult {
+
+        final long regionKey;
+        final List<LightUpdateQueue.Batch> batches;
+
+        RegionResult(long regionKey, List<LightUpdateQueue.Batch> batches) {
+            this.regionKey = regionKey;
+            this.batches = batches;
+        }
+    }
+}
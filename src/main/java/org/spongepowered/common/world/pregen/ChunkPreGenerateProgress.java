@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.pregen;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The progress of a pre-generation, stored in the world directory so that a
+ * pre-generation of the same area can continue where it stopped, for example
+ * after a restart of the server.
+ */
+final class ChunkPreGenerateProgress {
+
+    private static final String REGION_INDEX = "RegionIndex";
+    private static final String GENERATED = "Generated";
+    private static final String SKIPPED = "Skipped";
+    private static final String TIME = "Time";
+    private static final String IN_REGION = "InRegion";
+    private static final String CHUNK_X = "ChunkX";
+    private static final String CHUNK_Z = "ChunkZ";
+
+    final int regionIndex;
+    final int chunksGenerated;
+    final int chunksSkipped;
+    final long timeMillis;
+    // Whether the region at the region index was partially generated, and
+    // if so the chunk to continue at. The counts include the chunks before it.
+    final boolean inRegion;
+    final int chunkX;
+    final int chunkZ;
+
+    ChunkPreGenerateProgress(int regionIndex, int chunksGenerated, int chunksSkipped, long timeMillis, boolean inRegion, int chunkX,
+            int chunkZ) {
+        this.regionIndex = regionIndex;
+        this.chunksGenerated = chunksGenerated;
+        this.chunksSkipped = chunksSkipped;
+        this.timeMillis = timeMillis;
+        this.inRegion = inRegion;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    static ChunkPreGenerateProgress read(Path file) throws IOException {
+        final NBTTagCompound compound;
+        try (InputStream stream = Files.newInputStream(file)) {
+            compound = CompressedStreamTools.readCompressed(stream);
+        }
+        return new ChunkPreGenerateProgress(compound.getInteger(REGION_INDEX), compound.getInteger(GENERATED), compound.getInteger(SKIPPED),
+                compound.getLong(TIME), compound.getBoolean(IN_REGION), compound.getInteger(CHUNK_X), compound.getInteger(CHUNK_Z));
+    }
+
+    void write(Path file) throws IOException {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger(REGION_INDEX, this.regionIndex);
+        compound.setInteger(GENERATED, this.chunksGenerated);
+        compound.setInteger(SKIPPED, this.chunksSkipped);
+        compound.setLong(TIME, this.timeMillis);
+        compound.setBoolean(IN_REGION, this.inRegion);
+        compound.setInteger(CHUNK_X, this.chunkX);
+        compound.setInteger(CHUNK_Z, this.chunkZ);
+
+        Files.createDirectories(file.getParent());
+        // Write to a temporary file first, a crash while writing shouldn't lose the previous progress
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp)) {
+            CompressedStreamTools.writeCompressed(compound, stream);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
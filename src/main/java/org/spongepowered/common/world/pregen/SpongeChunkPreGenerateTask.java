@@ -28,8 +28,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.GenericMath;
+import com.flowpowered.math.vector.Vector2i;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.util.math.MathHelper;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -43,14 +45,25 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -61,12 +74,12 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private static final int DEFAULT_TICK_INTERVAL = 4;
     private static final float DEFAULT_TICK_PERCENT = 0.8f;
 
-    private static final Vector3i[] OFFSETS = {
-            Vector3i.UNIT_Z.negate().mul(2),
-            Vector3i.UNIT_X.mul(2),
-            Vector3i.UNIT_Z.mul(2),
-            Vector3i.UNIT_X.negate().mul(2)
-    };
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_MASK = (1 << REGION_SHIFT) - 1;
+    private static final int CHUNKS_PER_REGION = 1 << (REGION_SHIFT * 2);
+
+    // The weight of the latest measurement in the average time it takes to generate a chunk
+    private static final double GENERATION_TIME_WEIGHT = 0.1;
 
     private final Scheduler scheduler;
 
@@ -85,18 +98,41 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
     @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
 
-    private Vector3i currentPosition;
-    private int currentGenCount;
-    private int currentLayer;
-    private int currentIndex;
-    private int nextJump;
+    // The chunks are generated region by region, and within a region in the order they are
+    // stored in its region file, which keeps the reads and writes of the region files sequential
+    private final Vector2i minChunk;
+    private final Vector2i maxChunk;
+    private final List<Vector2i> regions;
+    // If null, the world doesn't use region files
+    @Nullable private final Path regionDirectory;
+    private final Path progressFile;
+
+    private int regionIndex;
+    private boolean inRegion;
+    private int currentX;
+    private int currentZ;
+    // Set once a region is finished, the progress is saved after the step
+    private boolean regionCompleted;
+    private Vector2i regionMin = Vector2i.ZERO;
+    private Vector2i regionMax = Vector2i.ZERO;
+    // The chunks of the current region which are present in its region file
+    private BitSet presentChunks = new BitSet();
+    @Nullable private CompletableFuture<BitSet> nextPresentChunks;
+    private CompletableFuture<?> progressSave = CompletableFuture.completedFuture(null);
 
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
 
+    // Used to adapt the amount of chunks per step to the tick time left
+    private double averageGenerationNanos = 0;
+    private long lastStepNanos = 0;
+
     // Used for wall clock times.
     private long generationStartTime = 0;
     private long generationEndTime = 0;
+    // The time spent and the chunks processed by the previous runs of this pre-generation
+    private long previousTime = 0;
+    private int previousChunks = 0;
     private boolean isCancelled = false;
 
     private SpongeChunkPreGenerateTask(Object plugin,
@@ -117,8 +153,10 @@ private SpongeChunkPreGenerateTask(Object plugin,
         if (world.getWorldStorage() instanceof IMixinAnvilChunkLoader) {
             this.doesChunkExistCheck = v -> ((IMixinAnvilChunkLoader) world.getWorldStorage())
                     .chunkExists((net.minecraft.world.World) this.world, v.getX(), v.getZ());
+            this.regionDirectory = ((IMixinAnvilChunkLoader) world.getWorldStorage()).getWorldDir().resolve("region");
         } else {
             this.doesChunkExistCheck = v -> false;
+            this.regionDirectory = null;
         }
 
         this.chunkRadius = GenericMath.floor(diameter / 32);
@@ -127,19 +165,21 @@ private SpongeChunkPreGenerateTask(Object plugin,
         this.tickTimeLimit = Math.round(preferredTickInterval * tickPercent);
         this.cause = cause;
         this.tickInterval = tickInterval;
-        final Optional<Vector3i> currentPosition = SpongeChunkLayout.instance.toChunk(center.toInt());
-        if (currentPosition.isPresent()) {
-            this.currentPosition = currentPosition.get();
-        } else {
+        final Optional<Vector3i> centerChunk = SpongeChunkLayout.instance.toChunk(center.toInt());
+        if (!centerChunk.isPresent()) {
             throw new IllegalArgumentException("Center is not a valid chunk coordinate");
         }
-        this.currentGenCount = 4;
-        this.currentLayer = 0;
-        this.currentIndex = 0;
-        this.nextJump = 0;
+        final Vector2i centerPosition = centerChunk.get().toVector2(true);
+        this.minChunk = centerPosition.sub(this.chunkRadius, this.chunkRadius);
+        this.maxChunk = centerPosition.add(this.chunkRadius, this.chunkRadius);
+        this.regions = getRegions(this.minChunk, this.maxChunk, centerPosition);
 
         this.totalChunksToGenerate = (int) Math.pow(this.chunkRadius * 2 + 1, 2);
 
+        this.progressFile = world.getDirectory().resolve("data")
+                .resolve("sponge_pregen_" + centerPosition.getX() + "_" + centerPosition.getY() + "_" + this.chunkRadius + ".dat");
+        restoreProgress();
+
         this.spongeTask = this.scheduler
                 .createTaskBuilder()
                 .intervalTicks(tickInterval)
@@ -154,6 +194,68 @@ private SpongeChunkPreGenerateTask(Object plugin,
         }
     }
 
+    /**
+     * Gets the regions which overlap the area between the given chunks, with
+     * the regions closest to the center first.
+     */
+    private static List<Vector2i> getRegions(Vector2i minChunk, Vector2i maxChunk, Vector2i centerChunk) {
+        final Vector2i centerRegion = new Vector2i(centerChunk.getX() >> REGION_SHIFT, centerChunk.getY() >> REGION_SHIFT);
+        final List<Vector2i> regions = new ArrayList<>();
+        for (int z = minChunk.getY() >> REGION_SHIFT; z <= maxChunk.getY() >> REGION_SHIFT; z++) {
+            for (int x = minChunk.getX() >> REGION_SHIFT; x <= maxChunk.getX() >> REGION_SHIFT; x++) {
+                regions.add(new Vector2i(x, z));
+            }
+        }
+        // Ring by ring around the center, in file order within a ring
+        regions.sort(Comparator.comparingInt((Vector2i region) ->
+                Math.max(Math.abs(region.getX() - centerRegion.getX()), Math.abs(region.getY() - centerRegion.getY())))
+                .thenComparingInt(Vector2i::getY)
+                .thenComparingInt(Vector2i::getX));
+        return regions;
+    }
+
+    private void restoreProgress() {
+        if (!Files.exists(this.progressFile)) {
+            return;
+        }
+        try {
+            final ChunkPreGenerateProgress progress = ChunkPreGenerateProgress.read(this.progressFile);
+            this.regionIndex = Math.min(progress.regionIndex, this.regions.size());
+            this.chunksGenerated = progress.chunksGenerated;
+            this.chunksSkipped = progress.chunksSkipped;
+            this.previousTime = progress.timeMillis;
+            this.previousChunks = this.chunksGenerated + this.chunksSkipped;
+            if (progress.inRegion && this.regionIndex < this.regions.size()) {
+                // Continue at the chunk the partially generated region stopped at
+                enterRegion();
+                this.currentX = GenericMath.clamp(progress.chunkX, this.regionMin.getX(), this.regionMax.getX());
+                this.currentZ = GenericMath.clamp(progress.chunkZ, this.regionMin.getY(), this.regionMax.getY());
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Unable to read the chunk pre-generation progress from {}, starting over.", this.progressFile, e);
+        }
+    }
+
+    private void saveProgress() {
+        final ChunkPreGenerateProgress progress = new ChunkPreGenerateProgress(this.regionIndex, this.chunksGenerated, this.chunksSkipped,
+                getTotalTime().toMillis(), this.inRegion, this.currentX, this.currentZ);
+        // Chain the writes, so an older progress never overwrites a newer one
+        this.progressSave = this.progressSave.thenCompose(v -> SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            progress.write(this.progressFile);
+            return null;
+        })).exceptionally(t -> {
+            SpongeImpl.getLogger().warn("Unable to save the chunk pre-generation progress to {}", this.progressFile, t);
+            return null;
+        });
+    }
+
+    private void deleteProgress() {
+        this.progressSave = this.progressSave.thenCompose(v -> SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            Files.deleteIfExists(this.progressFile);
+            return null;
+        }));
+    }
+
     Task getSpongeTask() {
         return this.spongeTask;
     }
@@ -180,7 +282,43 @@ public int getTargetTotalChunks() {
 
     @Override
     public Duration getTotalTime() {
-        return Duration.of((isCancelled() ? this.generationEndTime : System.currentTimeMillis()) - this.generationStartTime, ChronoUnit.MILLIS);
+        return Duration.of(this.previousTime + getRunTime(), ChronoUnit.MILLIS);
+    }
+
+    private long getRunTime() {
+        if (this.generationStartTime == 0) {
+            return 0;
+        }
+        return (isCancelled() ? this.generationEndTime : System.currentTimeMillis()) - this.generationStartTime;
+    }
+
+    /**
+     * Gets the amount of chunks that were generated or skipped per second
+     * since this pre-generation was started.
+     *
+     * @return The chunks per second
+     */
+    public double getChunksPerSecond() {
+        final long runTime = getRunTime();
+        if (runTime <= 0) {
+            return 0;
+        }
+        return (this.chunksGenerated + this.chunksSkipped - this.previousChunks) * 1000.0 / runTime;
+    }
+
+    /**
+     * Gets the estimated time until all the chunks are generated, based on
+     * {@link #getChunksPerSecond()}.
+     *
+     * @return The estimated time remaining, if any chunks were processed yet
+     */
+    public Optional<Duration> getEstimatedTimeRemaining() {
+        final double chunksPerSecond = getChunksPerSecond();
+        if (chunksPerSecond <= 0) {
+            return Optional.empty();
+        }
+        final int remaining = Math.max(0, this.totalChunksToGenerate - this.chunksGenerated - this.chunksSkipped);
+        return Optional.of(Duration.ofMillis(Math.round(remaining * 1000.0 / chunksPerSecond)));
     }
 
     @Override
@@ -204,6 +342,9 @@ public void cancel() {
             if (this.eventListener != null) {
                 Sponge.getEventManager().unregisterListeners(this.eventListener);
             }
+            if (hasNextChunkPosition()) {
+                saveProgress();
+            }
             this.spongeTask.cancel();
             this.isCancelled = true;
         }
@@ -235,35 +376,42 @@ public void accept(Task task) {
             return;
         }
 
+        final long stepStartNanos = System.nanoTime();
+        final long stepBudget = getStepBudget();
+        final int stepTarget = getStepTarget(stepBudget);
+
         // Count how many chunks are generated during the tick
         int count = 0;
         int skipped = 0;
-        do {
+        while (hasNextChunkPosition() && count < stepTarget && (count == 0 && skipped < CHUNKS_PER_REGION
+                || System.nanoTime() - stepStartNanos < stepBudget)) {
             final Vector3i position = nextChunkPosition();
-            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
-            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
-            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
-
-            // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
-
-                // At least one chunk isn't generated, so to populate, we need to load them all.
-                this.world.loadChunk(position, true);
-                this.world.loadChunk(pos1, true);
-                this.world.loadChunk(pos2, true);
-                this.world.loadChunk(pos3, true);
-
-                count += this.currentGenCount;
-            } else {
-
-                // Skipped them, log this.
-                skipped += this.currentGenCount;
+            if (chunkExists(position)) {
+                skipped++;
+                continue;
             }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+
+            // Loading the neighbors as well allows the chunks around them to be populated
+            final long chunkStartNanos = System.nanoTime();
+            this.world.loadChunk(position, true);
+            this.world.loadChunk(position.sub(Vector3i.UNIT_X), true);
+            this.world.loadChunk(position.sub(Vector3i.UNIT_Z), true);
+            this.world.loadChunk(position.sub(1, 0, 1), true);
+            final long generationNanos = System.nanoTime() - chunkStartNanos;
+            this.averageGenerationNanos = this.averageGenerationNanos == 0 ? generationNanos :
+                    this.averageGenerationNanos + (generationNanos - this.averageGenerationNanos) * GENERATION_TIME_WEIGHT;
+            count++;
+        }
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
+        if (this.regionCompleted) {
+            // Only save once the counts include every chunk before the saved position
+            this.regionCompleted = false;
+            saveProgress();
+        }
 
+        this.lastStepNanos = System.nanoTime() - stepStartNanos;
         final long deltaTime = System.currentTimeMillis() - stepStartTime;
         this.generationEndTime = System.currentTimeMillis();
 
@@ -289,14 +437,43 @@ public void accept(Task task) {
             ));
 
             this.isCancelled = true;
+            deleteProgress();
             unregisterListener();
             task.cancel();
         }
     }
 
-    private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i chunk3, Vector3i chunk4) {
-        return this.doesChunkExistCheck.test(chunk1) && this.doesChunkExistCheck.test(chunk2) &&
-                this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
+    /**
+     * Gets the time in nanoseconds this step may take, which is the part of
+     * the tick percent limit which is not already used by the rest of the
+     * server tick.
+     */
+    private long getStepBudget() {
+        if (this.tickPercent <= 0) {
+            return Long.MAX_VALUE;
+        }
+        final long limit = TimeUnit.MILLISECONDS.toNanos(this.tickTimeLimit);
+        // The tick times include the previous steps, spread over the tick interval
+        final long serverTickNanos = (long) MathHelper.average(SpongeImpl.getServer().tickTimeArray);
+        final long otherNanos = Math.max(0, serverTickNanos - this.lastStepNanos / this.tickInterval);
+        return Math.max(0, limit - otherNanos);
+    }
+
+    private int getStepTarget(long stepBudget) {
+        int target = Integer.MAX_VALUE;
+        if (this.tickPercent > 0 && this.averageGenerationNanos > 0) {
+            target = (int) Math.max(1, Math.min(Integer.MAX_VALUE, stepBudget / this.averageGenerationNanos));
+        }
+        if (this.chunkCount > 0) {
+            target = Math.min(target, this.chunkCount);
+        }
+        return target;
+    }
+
+    private boolean chunkExists(Vector3i position) {
+        return this.presentChunks.get((position.getX() & REGION_MASK) | (position.getZ() & REGION_MASK) << REGION_SHIFT)
+                || this.world.getChunk(position).isPresent()
+                || this.doesChunkExistCheck.test(position);
     }
 
     private void unregisterListener() {
@@ -312,42 +489,80 @@ private void cancelTask(Task task) {
             task.cancel();
         }
 
+        if (!this.isCancelled && hasNextChunkPosition()) {
+            // Keep the position within the current region, so a resumed run doesn't count its chunks again
+            saveProgress();
+        }
         this.isCancelled = true;
         unregisterListener();
     }
 
     private boolean hasNextChunkPosition() {
-        return this.currentLayer <= this.chunkRadius;
+        return this.regionIndex < this.regions.size();
     }
 
     private Vector3i nextChunkPosition() {
-        final Vector3i nextPosition = this.currentPosition;
-        final int currentLayerIndex;
-        if (this.currentIndex >= this.nextJump) {
-            // Reached end of layer, jump to the next so we can keep spiralling
-            this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_X).sub(Vector3i.UNIT_Z);
-            this.currentLayer++;
-            // Each the jump increment increases by 4 at each new layer
-            this.nextJump += this.currentLayer * 4;
-            currentLayerIndex = 1;
-        } else {
-            // Get the current index since the last jump
-            currentLayerIndex = this.currentIndex - (this.nextJump - this.currentLayer * 4);
-            // Move to next position in layer, by following a square
-            this.currentPosition = this.currentPosition.add(OFFSETS[currentLayerIndex / this.currentLayer]);
-        }
-        // If we're at the corner it's 3, else 2 for an edge
-        this.currentGenCount = currentLayerIndex % this.currentLayer == 0 ? 3 : 2;
-        this.currentIndex++;
+        if (!this.inRegion) {
+            enterRegion();
+        }
+        final Vector3i nextPosition = new Vector3i(this.currentX, 0, this.currentZ);
+        // Move along the rows of the region, the order the chunks are stored in the region file
+        if (++this.currentX > this.regionMax.getX()) {
+            this.currentX = this.regionMin.getX();
+            if (++this.currentZ > this.regionMax.getY()) {
+                this.inRegion = false;
+                this.regionIndex++;
+                this.regionCompleted = true;
+            }
+        }
         return nextPosition;
     }
 
-    private boolean checkChunkCount(int count) {
-        return this.chunkCount <= 0 || count < this.chunkCount;
+    private void enterRegion() {
+        final Vector2i region = this.regions.get(this.regionIndex);
+        final Vector2i regionStart = region.mul(1 << REGION_SHIFT);
+        this.regionMin = regionStart.max(this.minChunk);
+        this.regionMax = regionStart.add(REGION_MASK, REGION_MASK).min(this.maxChunk);
+        this.currentX = this.regionMin.getX();
+        this.currentZ = this.regionMin.getY();
+        this.inRegion = true;
+
+        final CompletableFuture<BitSet> present = this.nextPresentChunks != null ? this.nextPresentChunks : readPresentChunks(region);
+        this.presentChunks = present.join();
+        // Read the header of the next region while this one is being generated
+        this.nextPresentChunks = this.regionIndex + 1 < this.regions.size() ? readPresentChunks(this.regions.get(this.regionIndex + 1)) : null;
     }
 
-    private boolean checkTickTime(long tickTime) {
-        return this.tickPercent <= 0 || tickTime < this.tickTimeLimit;
+    private CompletableFuture<BitSet> readPresentChunks(Vector2i region) {
+        if (this.regionDirectory == null) {
+            return CompletableFuture.completedFuture(new BitSet());
+        }
+        final Path file = this.regionDirectory.resolve("r." + region.getX() + "." + region.getY() + ".mca");
+        return SpongeImpl.getScheduler().submitAsyncTask(() -> readPresentChunks(file)).exceptionally(t -> {
+            SpongeImpl.getLogger().warn("Unable to read the header of region file {}", file, t);
+            return new BitSet();
+        });
+    }
+
+    /**
+     * Reads which chunks are present in a region file from the location table
+     * in its header, without reading any of the chunks.
+     */
+    private static BitSet readPresentChunks(Path regionFile) throws IOException {
+        final BitSet present = new BitSet(CHUNKS_PER_REGION);
+        if (!Files.isRegularFile(regionFile)) {
+            return present;
+        }
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(regionFile)))) {
+            for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+                if (stream.readInt() != 0) {
+                    present.set(i);
+                }
+            }
+        } catch (EOFException ignored) {
+            // A truncated header, the remaining chunks are missing
+        }
+        return present;
     }
 
     public static class Builder implements ChunkPreGenerate.Builder {
@@ -387,11 +602,15 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        final SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) post.getChunkPreGenerate();
+                        logger.info("Generated {} chunks in {}, {}% complete, {} chunks/s, ETA {}", post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
                             GenericMath.floor(
-                                100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
-                                    / post.getChunkPreGenerate().getTargetTotalChunks())
+                                100 * (task.getTotalGeneratedChunks() + task.getTotalSkippedChunks()) / task.getTargetTotalChunks()),
+                            GenericMath.floor(task.getChunksPerSecond()),
+                            task.getEstimatedTimeRemaining()
+                                .map(eta -> DurationFormatUtils.formatDurationWords(eta.toMillis(), true, true))
+                                .orElse("unknown")
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+/**
+ * A chunk that is being loaded asynchronously. The data of the chunk is read
+ * by the {@link SpongeChunkLoadExecutor}, after which the chunk is added to
+ * the world and the future is completed on the server thread.
+ */
+public final class PendingChunkLoad {
+
+    private final int x;
+    private final int z;
+    private final CompletableFuture<Chunk> future = new CompletableFuture<>();
+    // Written by the load thread before the load is handed back to the server thread
+    @Nullable private volatile NBTTagCompound data;
+    // Only accessed from the server thread
+    private boolean stale;
+
+    public PendingChunkLoad(int x, int z) {
+        this.x = x;
+        this.z = z;
+    }
+
+    public int getX() {
+        return this.x;
+    }
+
+    public int getZ() {
+        return this.z;
+    }
+
+    /**
+     * Gets the future that is completed with the loaded chunk, or with
+     * {@code null} if the chunk doesn't exist on disk.
+     *
+     * @return The future
+     */
+    public CompletableFuture<Chunk> getFuture() {
+        return this.future;
+    }
+
+    /**
+     * Gets the data read from disk.
+     *
+     * @return The chunk data, or null if the chunk doesn't exist or couldn't be read
+     */
+    @Nullable
+    public NBTTagCompound getData() {
+        return this.data;
+    }
+
+    void setData(@Nullable NBTTagCompound data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets whether the chunk was saved or unloaded after the read was
+     * scheduled, so the read data may be outdated.
+     *
+     * @return Whether the read data may be outdated
+     */
+    public boolean isStale() {
+        return this.stale;
+    }
+
+    public void markStale() {
+        this.stale = true;
+    }
+}
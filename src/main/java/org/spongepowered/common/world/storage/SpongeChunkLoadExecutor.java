@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads, decompresses and decodes the data of chunks that are loaded
+ * asynchronously, so only adding the chunks to the world is left to the
+ * server thread.
+ */
+public final class SpongeChunkLoadExecutor {
+
+    @Nullable private static SpongeChunkLoadExecutor instance;
+
+    public static synchronized SpongeChunkLoadExecutor getInstance() {
+        if (instance == null) {
+            instance = new SpongeChunkLoadExecutor(
+                    SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncChunkLoadingCategory().getNumThreads());
+        }
+        return instance;
+    }
+
+    private final ExecutorService executor;
+
+    private SpongeChunkLoadExecutor(int numThreads) {
+        this.executor = Executors.newFixedThreadPool(Math.max(1, numThreads), new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Async Chunk Load Thread #%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Reads the data of the pending chunk load and hands it over to the given
+     * queue once done, even if the data couldn't be read.
+     *
+     * @param loader The chunk loader to read the data with
+     * @param load The pending chunk load
+     * @param completed The queue of the loads to be finished on the server thread
+     */
+    public void read(IMixinAnvilChunkLoader loader, PendingChunkLoad load, Queue<PendingChunkLoad> completed) {
+        this.executor.execute(() -> {
+            try {
+                load.setData(loader.readChunkData(load.getX(), load.getZ()));
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Couldn't read chunk {}, {} asynchronously", load.getX(), load.getZ(), e);
+            } finally {
+                completed.add(load);
+            }
+        });
+    }
+}
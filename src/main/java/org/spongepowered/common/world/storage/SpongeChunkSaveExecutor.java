@@ -0,0 +1,231 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ChunkSaveCategory;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes the pending chunks of all the chunk loaders to disk, replacing the
+ * single threaded file IO thread. Writes are sharded by region file over a
+ * pool of single threaded writers, so the chunks of one region file are
+ * always written in order by the same thread while different region files
+ * are compressed and written concurrently.
+ */
+public final class SpongeChunkSaveExecutor {
+
+    // Region files are 32x32 chunks
+    private static final int REGION_SHIFT = 5;
+    // The times a chunk is tried to be written before its data is discarded
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    @Nullable private static SpongeChunkSaveExecutor instance;
+
+    public static synchronized SpongeChunkSaveExecutor getInstance() {
+        if (instance == null) {
+            instance = new SpongeChunkSaveExecutor(SpongeImpl.getGlobalConfig().getConfig().getGeneral().getChunkSave());
+        }
+        return instance;
+    }
+
+    /**
+     * Waits for the pending chunk writes, if the executor was started. Done
+     * whenever the file IO thread is waited for, so the region files aren't
+     * closed while chunks are still being written.
+     */
+    public static void flushIfStarted() {
+        final SpongeChunkSaveExecutor executor;
+        synchronized (SpongeChunkSaveExecutor.class) {
+            executor = instance;
+        }
+        if (executor != null) {
+            executor.flush();
+        }
+    }
+
+    private final ExecutorService[] writers;
+    // Null if the amount of pending chunks isn't limited
+    @Nullable private final Semaphore pendingPermits;
+    private final AtomicInteger pendingChunks = new AtomicInteger();
+    private final AtomicLong stalls = new AtomicLong();
+    private final LongAdder writtenChunks = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    // The bytes written during the current and the last completed second
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final LongAdder currentSecondBytes = new LongAdder();
+    private volatile long lastSecondBytes;
+    private volatile long lastFlushTime;
+    private volatile long maxFlushTime;
+
+    private SpongeChunkSaveExecutor(ChunkSaveCategory config) {
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Chunk Save Thread #%d")
+                .setDaemon(true)
+                .build();
+        this.writers = new ExecutorService[Math.max(1, config.getNumThreads())];
+        for (int i = 0; i < this.writers.length; i++) {
+            this.writers[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+        this.pendingPermits = config.getMaxPendingChunks() > 0 ? new Semaphore(config.getMaxPendingChunks()) : null;
+    }
+
+    /**
+     * Schedules the pending data of the given chunk to be written. Must only
+     * be called once until the write has started, repeated saves of the chunk
+     * are picked up by the scheduled write. Blocks the calling thread while
+     * the maximum amount of pending chunks is reached.
+     *
+     * @param loader The chunk loader holding the pending data
+     * @param pos The position of the chunk
+     */
+    public void schedule(IMixinAnvilChunkLoader loader, ChunkPos pos) {
+        if (this.pendingPermits != null && !this.pendingPermits.tryAcquire()) {
+            this.stalls.incrementAndGet();
+            this.pendingPermits.acquireUninterruptibly();
+        }
+        this.pendingChunks.incrementAndGet();
+        final ExecutorService writer = this.getWriter(loader, pos);
+        writer.execute(() -> this.write(writer, loader, pos, 1));
+    }
+
+    private void write(ExecutorService writer, IMixinAnvilChunkLoader loader, ChunkPos pos, int attempt) {
+        final int bytes = loader.writePendingChunk(pos);
+        if (bytes >= 0) {
+            this.writtenChunks.increment();
+            this.recordBytes(bytes);
+        } else if (attempt < MAX_WRITE_ATTEMPTS) {
+            // Retried behind the other queued writes, so the writes of the other region files aren't held up
+            writer.execute(() -> this.write(writer, loader, pos, attempt + 1));
+            return;
+        } else {
+            SpongeImpl.getLogger().error("Discarding chunk [{}, {}] after it failed to be saved {} times", pos.x, pos.z, attempt);
+            loader.discardPendingChunk(pos);
+        }
+        this.pendingChunks.decrementAndGet();
+        if (this.pendingPermits != null) {
+            this.pendingPermits.release();
+        }
+    }
+
+    /**
+     * Waits until no chunks are pending anymore, including failed writes
+     * that are retried.
+     */
+    public void flush() {
+        final long start = System.nanoTime();
+        do {
+            final CompletableFuture<?>[] barriers = new CompletableFuture<?>[this.writers.length];
+            for (int i = 0; i < this.writers.length; i++) {
+                // The writers run their tasks in order, so the barrier completes after all the writes before it
+                barriers[i] = CompletableFuture.runAsync(() -> {}, this.writers[i]);
+            }
+            CompletableFuture.allOf(barriers).join();
+        } while (this.pendingChunks.get() > 0);
+        final long time = System.nanoTime() - start;
+        this.lastFlushTime = time;
+        if (time > this.maxFlushTime) {
+            this.maxFlushTime = time;
+        }
+    }
+
+    private ExecutorService getWriter(IMixinAnvilChunkLoader loader, ChunkPos pos) {
+        int hash = System.identityHashCode(loader);
+        hash = 31 * hash + (pos.x >> REGION_SHIFT);
+        hash = 31 * hash + (pos.z >> REGION_SHIFT);
+        return this.writers[(hash & Integer.MAX_VALUE) % this.writers.length];
+    }
+
+    private void recordBytes(int bytes) {
+        this.writtenBytes.add(bytes);
+        final long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        final long previous = this.currentSecond.get();
+        if (second != previous && this.currentSecond.compareAndSet(previous, second)) {
+            final long completed = this.currentSecondBytes.sumThenReset();
+            this.lastSecondBytes = second == previous + 1 ? completed : 0;
+        }
+        this.currentSecondBytes.add(bytes);
+    }
+
+    /**
+     * Gets the amount of chunks that are waiting to be written.
+     *
+     * @return The pending chunk count
+     */
+    public int getPendingChunkCount() {
+        return this.pendingChunks.get();
+    }
+
+    /**
+     * Gets how often the server had to wait for the writers because
+     * the maximum amount of pending chunks was reached.
+     *
+     * @return The stall count
+     */
+    public long getStallCount() {
+        return this.stalls.get();
+    }
+
+    public long getWrittenChunkCount() {
+        return this.writtenChunks.sum();
+    }
+
+    public long getWrittenBytes() {
+        return this.writtenBytes.sum();
+    }
+
+    /**
+     * Gets the amount of uncompressed chunk data written during the last
+     * completed second.
+     *
+     * @return The bytes per second
+     */
+    public long getBytesPerSecond() {
+        final long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        return second - this.currentSecond.get() > 1 ? 0 : this.lastSecondBytes;
+    }
+
+    public long getLastFlushTime(TimeUnit unit) {
+        return unit.convert(this.lastFlushTime, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxFlushTime(TimeUnit unit) {
+        return unit.convert(this.maxFlushTime, TimeUnit.NANOSECONDS);
+    }
+}
@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.WorldServer;
@@ -33,10 +34,12 @@
 import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.Chunk;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.common.data.LazyNbtDataContainer;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 
 import java.io.DataInputStream;
 import java.io.File;
@@ -46,10 +49,14 @@
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 public class WorldStorageUtil {
 
+    // The region files chunks are being written to, guarded by the RegionFileCache monitor
+    private static final Set<RegionFile> writingRegionFiles = Sets.newIdentityHashSet();
+
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         int x = chunkCoords.getX();
         int z = chunkCoords.getZ();
@@ -73,6 +80,39 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         });
     }
 
+    /**
+     * Loads the chunk at the given chunk coordinates without blocking the
+     * server thread on reading it from disk. Chunks that don't exist are not
+     * generated. May be called from any thread, the future is completed on
+     * the server thread.
+     *
+     * @param world The world of the chunk
+     * @param chunkCoords The chunk coordinates
+     * @return The future completed with the chunk, if it exists
+     */
+    public static CompletableFuture<Optional<Chunk>> loadChunk(WorldServer world, Vector3i chunkCoords) {
+        int x = chunkCoords.getX();
+        int z = chunkCoords.getZ();
+        if (!SpongeChunkLayout.instance.isValidChunk(x, chunkCoords.getY(), z)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        final CompletableFuture<Optional<Chunk>> future = new CompletableFuture<>();
+        final Runnable request = () -> ((IMixinChunkProviderServer) world.getChunkProvider()).loadChunkAsync(x, z)
+                .whenComplete((chunk, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else {
+                        future.complete(Optional.ofNullable((Chunk) chunk));
+                    }
+                });
+        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            request.run();
+        } else {
+            SpongeImpl.getScheduler().callSync(request);
+        }
+        return future;
+    }
+
     public static DataContainer readDataFromRegion(DataInputStream stream) throws IOException {
         if (stream == null) {
             return null;
@@ -88,7 +128,8 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (!level.hasKey(NbtDataUtil.CHUNK_DATA_SECTIONS, NbtDataUtil.TAG_LIST)) {
             return null;
         }
-        return NbtTranslator.getInstance().translateFrom(level);
+        // The chunk data is large and callers usually only look at a small part of it
+        return new LazyNbtDataContainer(level);
     }
 
     public static Iterable<Path> listRegionFiles(Path worldDir) {
@@ -115,4 +156,39 @@ public static RegionFile getRegionFile(Path regionFilePath) {
         return regionFile;
     }
 
+    /**
+     * Gets the cached region file containing the given chunk and marks it as
+     * being written to, so clearing the region file cache doesn't close it
+     * until it is released with {@link #releaseWritingRegionFile(RegionFile)}.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file
+     */
+    public static RegionFile acquireWritingRegionFile(File worldDir, int chunkX, int chunkZ) {
+        synchronized (RegionFileCache.class) {
+            final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(worldDir, chunkX, chunkZ);
+            writingRegionFiles.add(regionFile);
+            return regionFile;
+        }
+    }
+
+    public static void releaseWritingRegionFile(RegionFile regionFile) {
+        synchronized (RegionFileCache.class) {
+            writingRegionFiles.remove(regionFile);
+        }
+    }
+
+    /**
+     * Gets whether chunks are being written to the given region file. Must
+     * be called while holding the RegionFileCache monitor.
+     *
+     * @param regionFile The region file
+     * @return Whether the region file is being written to
+     */
+    public static boolean isWritingRegionFile(RegionFile regionFile) {
+        return writingRegionFiles.contains(regionFile);
+    }
+
 }
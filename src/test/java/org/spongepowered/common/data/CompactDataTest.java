@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+
+/**
+ * Runs all the {@link MemoryDataTest}s against a {@link CompactDataContainer}.
+ */
+public class CompactDataTest extends MemoryDataTest {
+
+    @Override
+    protected DataContainer createContainer() {
+        return new CompactDataContainer();
+    }
+
+    @Test
+    public void testUnboxedLists() {
+        final DataContainer container = createContainer();
+        final List<Integer> ints = ImmutableList.of(1, 2, 3, 4);
+        container.set(of("foo", "ints"), ints);
+        final Object stored = ((MemoryDataView) container.getView(of("foo")).get()).map.get("ints");
+        assertTrue(stored instanceof IntList);
+        assertEquals(ints, container.getIntegerList(of("foo", "ints")).get());
+    }
+
+    @Test
+    public void testEqualToMemoryContainer() {
+        final DataContainer compact = createContainer();
+        final DataContainer memory = DataContainer.createNew();
+        for (DataView view : ImmutableList.of(compact, memory)) {
+            view.set(of("foo", "bar"), "baz");
+            view.set(of("ints"), ImmutableList.of(1, 2, 3));
+        }
+        assertTrue(compact.copy() instanceof CompactDataContainer);
+        assertEquals(memory, compact);
+        assertEquals(compact, memory);
+        assertEquals(memory.hashCode(), compact.hashCode());
+    }
+
+}
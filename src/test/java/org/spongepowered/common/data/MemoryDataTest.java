@@ -49,22 +49,44 @@
 @RunWith(LaunchWrapperTestRunner.class)
 public class MemoryDataTest {
 
+    /**
+     * Creates a new container of the implementation being tested.
+     *
+     * @return The new container
+     */
+    protected DataContainer createContainer() {
+        return DataContainer.createNew();
+    }
+
     @Test
     public void testCreateDataView() {
-        DataContainer.createNew();
+        createContainer();
     }
 
     @Test
     public void testCreateView() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery tempQuery = of("foo", "bar", "baz");
         container.createView(tempQuery);
         assertTrue(container.getView(tempQuery).isPresent());
     }
 
+    @Test
+    public void testCreateViewParents() {
+        DataContainer container = createContainer();
+        DataView baz = container.createView(of("foo", "bar", "baz"));
+        DataView bar = container.getView(of("foo", "bar")).get();
+        DataView foo = container.getView(of("foo")).get();
+        assertTrue(baz.getParent().get() == bar);
+        assertTrue(bar.getParent().get() == foo);
+        assertTrue(foo.getParent().get() == container);
+        assertTrue(bar.getCurrentPath().equals(of("foo", "bar")));
+        assertTrue(baz.getCurrentPath().equals(of("foo", "bar", "baz")));
+    }
+
     @Test
     public void testSetData() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of('.', "foo.bar");
         container.set(testQuery, 1);
         Optional<Integer> optional = container.getInt(testQuery);
@@ -73,7 +95,7 @@ public void testSetData() {
 
     @Test
     public void testIncorrectType() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, "foo");
         Optional<Integer> optional = container.getInt(testQuery);
@@ -82,7 +104,7 @@ public void testIncorrectType() {
 
     @Test
     public void testToString() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar", "baz");
         List<Integer> intList = ImmutableList.of(1, 2, 3, 4);
         container.set(testQuery, intList);
@@ -112,7 +134,7 @@ public void testToString() {
 
     @Test
     public void testNumbers() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, 1.0D);
         Optional<Integer> integerOptional = container.getInt(testQuery);
@@ -128,7 +150,7 @@ public void testNumbers() {
 
     @Test
     public void testBoolean() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, false);
         Optional<Boolean> booleanOptional = container.getBoolean(testQuery);
@@ -138,7 +160,7 @@ public void testBoolean() {
 
     @Test
     public void testString() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, "foo");
         Optional<String> stringOptional = container.getString(testQuery);
@@ -148,7 +170,7 @@ public void testString() {
 
     @Test
     public void testAbsents() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar", "baz");
         assertTrue(!container.get(testQuery).isPresent());
         assertTrue(!container.getBoolean(testQuery).isPresent());
@@ -172,7 +194,7 @@ public void testAbsents() {
 
     @Test
     public void testNumberedLists() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar", "baz");
         List<Integer> intList = ImmutableList.of(1, 2, 3, 4);
         container.set(testQuery, intList);
@@ -198,11 +220,11 @@ public void testNumberedLists() {
 
     @Test
     public void testLists() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery query = of("foo");
         List<DataView> list = Lists.newArrayList();
         for (int i = 0; i < 1; i++) {
-            DataContainer internal = DataContainer.createNew();
+            DataContainer internal = createContainer();
             internal.set(of("foo", "bar"), "foo.bar" + i);
             int[] ints = new int[] {0, 1, 2, 3, i};
             internal.set(of("ints"), Arrays.asList(ints));
@@ -216,7 +238,7 @@ public void testLists() {
 
     @Test
     public void testEmptyQuery() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery query = of("");
         container.set(query, "foo");
         assertTrue(container.get(query).isPresent());
@@ -225,7 +247,7 @@ public void testEmptyQuery() {
 
     @Test
     public void testContainsEmpty() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         DataQuery query = of("");
         assertTrue(!container.contains(query));
         container.set(query, "foo");
@@ -238,7 +260,7 @@ public void testContainsEmpty() {
 
     @Test
     public void testGetName() {
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         assertTrue(container.getName() !=  null);
     }
 
@@ -272,7 +294,7 @@ public void testGetSerializableList() throws Exception {
             String number = Integer.toString(i);
             list.add(new SimpleData(i, 0.1 * i, "i", Lists.asList(number, new String[] {" foo", "bar"})));
         }
-        DataContainer container = DataContainer.createNew();
+        DataContainer container = createContainer();
         container.set(of("foo", "bar"), list);
         assertTrue(container.contains(of("foo", "bar")));
         Optional<List<SimpleData>> fromContainer = container.getSerializableList(of("foo", "bar"), SimpleData.class);
@@ -290,7 +312,7 @@ public void testGetKeys() {
         queries.add(of("foo", "bar"));
         queries.add(of("foo", "bar", "baz"));
         queries.add(of("bar"));
-        DataView view = DataContainer.createNew();
+        DataView view = createContainer();
         view.set(of("foo"), "foo");
         view.set(of("foo", "bar"), "foobar");
         view.set(of("foo", "bar", "baz"), "foobarbaz");
@@ -307,7 +329,7 @@ public void testGetKeys() {
 
     @Test
     public void testGetMaps() {
-        DataView view = DataContainer.createNew();
+        DataView view = createContainer();
         view.set(of("foo", "bar", "foo"), "foo");
         view.set(of("foo", "bar", "bar"), "foobar");
         view.set(of("foo", "bar", "baz"), "foobarbaz");
@@ -352,7 +374,7 @@ public void testMaps() {
             stringList.add("Foo" + i);
         }
         myMap.put("myList", stringList);
-        DataView view = DataContainer.createNew();
+        DataView view = createContainer();
         view.set(of("Foo"), myMap);
 
         Map<?, ?> retrievedMap = view.getMap(of("Foo")).get();
@@ -362,21 +384,21 @@ public void testMaps() {
 
     @Test
     public void testCopy() {
-        final DataContainer container = DataContainer.createNew();
+        final DataContainer container = createContainer();
         container.set(of("Foo"), "foo");
         final DataContainer newContainer = container.copy();
         assertTrue(container.equals(newContainer));
         container.set(of("Foo", "bar"), "foo.bar");
         final DataView internal = container.getView(of("Foo")).get().copy();
-        final DataContainer internalCopy = DataContainer.createNew().set(of("bar"), "foo.bar");
+        final DataContainer internalCopy = createContainer().set(of("bar"), "foo.bar");
         assertTrue(internal.equals(internalCopy));
     }
 
     @Test
     public void testTest() {
 
-        DataContainer containertest = DataContainer.createNew();
-        DataContainer containertest2 = DataContainer.createNew();
+        DataContainer containertest = createContainer();
+        DataContainer containertest2 = createContainer();
         containertest.set(DataQuery.of("test1", "test2", "test3"), containertest2);
     }
 
@@ -393,7 +415,7 @@ public void testDeepSerialization() {
         sub.add(ImmutableList.of(data1));
         sub.add(ImmutableList.of(data2));
 
-        DataContainer main = DataContainer.createNew();
+        DataContainer main = createContainer();
 
         main.set(DataQuery.of("ROOT"), data3);
         main.set(DataQuery.of("SINGLE"), ImmutableList.of(data2));
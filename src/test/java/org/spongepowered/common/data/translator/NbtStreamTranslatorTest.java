@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.translator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.common.data.LazyNbtDataContainer;
+import org.spongepowered.common.data.persistence.NbtStreamTranslator;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class NbtStreamTranslatorTest {
+
+    private static DataContainer createData() {
+        final DataContainer container = DataContainer.createNew()
+                .set(DataQuery.of("foo", "int"), 1)
+                .set(DataQuery.of("foo", "double"), 10.0D)
+                .set(DataQuery.of("foo", "boolean"), true)
+                .set(DataQuery.of("foo", "string"), "bar")
+                .set(DataQuery.of("bytes"), new byte[] {1, 2, 3})
+                .set(DataQuery.of("ints"), new int[] {4, 5, 6})
+                .set(DataQuery.of("longList"), ImmutableList.of(1L, 2L, 3L));
+        container.set(DataQuery.of("views"), ImmutableList.of(
+                DataContainer.createNew().set(DataQuery.of("a"), "b"),
+                DataContainer.createNew().set(DataQuery.of("c"), (short) 7)));
+        return container;
+    }
+
+    /**
+     * Checks the arrays separately, since arrays aren't equal to each other
+     * within views.
+     */
+    private static void assertEqualData(DataContainer expected, DataContainer actual) {
+        assertArrayEquals((byte[]) expected.get(DataQuery.of("bytes")).get(), (byte[]) actual.get(DataQuery.of("bytes")).get());
+        assertArrayEquals((int[]) expected.get(DataQuery.of("ints")).get(), (int[]) actual.get(DataQuery.of("ints")).get());
+        assertEquals(expected.copy().remove(DataQuery.of("bytes")).remove(DataQuery.of("ints")),
+                actual.copy().remove(DataQuery.of("bytes")).remove(DataQuery.of("ints")));
+    }
+
+    @Test
+    public void testWriteMatchesTranslator() throws IOException {
+        final DataContainer data = createData();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NbtStreamTranslator.write(data, new DataOutputStream(out));
+
+        final NBTTagCompound compound = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+        assertEquals(NbtTranslator.getInstance().translateData(data), compound);
+    }
+
+    @Test
+    public void testReadMatchesTranslator() throws IOException {
+        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(createData());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressedStreamTools.write(compound, new DataOutputStream(out));
+
+        final DataContainer read = NbtStreamTranslator.read(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+        assertEqualData(NbtTranslator.getInstance().translateFrom(compound), read);
+    }
+
+    @Test
+    public void testLazyContainer() {
+        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(createData());
+        final LazyNbtDataContainer lazy = new LazyNbtDataContainer(compound.copy());
+        assertEquals(true, lazy.getBoolean(DataQuery.of("foo", "boolean")).get());
+        assertTrue(lazy.contains(DataQuery.of("views")));
+        assertEqualData(NbtTranslator.getInstance().translateFrom(compound), lazy);
+    }
+
+}
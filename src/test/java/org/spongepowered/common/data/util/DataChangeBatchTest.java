@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.common.interfaces.network.datasync.IMixinEntityDataManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class DataChangeBatchTest {
+
+    private final Key<?> healthKey = mock(Key.class);
+    private final Key<?> nameKey = mock(Key.class);
+    private final ImmutableValue<?> health = value(this.healthKey);
+    private final ImmutableValue<?> name = value(this.nameKey);
+
+    @Test
+    public void testSingleBatchForAllOffers() {
+        final IMixinEntityDataManager dataManager = mock(IMixinEntityDataManager.class);
+        when(dataManager.finishChangeBatch()).thenReturn(Collections.emptySet());
+
+        final DataTransactionResult result = DataChangeBatch.offer(dataManager, ImmutableList.of(
+                success(this.health), success(this.name)));
+
+        verify(dataManager, times(1)).startChangeBatch();
+        verify(dataManager, times(1)).finishChangeBatch();
+        verify(dataManager, never()).abortChangeBatch();
+        assertEquals(DataTransactionResult.Type.SUCCESS, result.getType());
+        assertEquals(2, result.getSuccessfulData().size());
+    }
+
+    @Test
+    public void testStopsAtFailedOffer() {
+        final List<Supplier<DataTransactionResult>> offers = ImmutableList.of(
+                () -> DataTransactionResult.failResult(this.health), success(this.name));
+
+        final DataTransactionResult result = DataChangeBatch.offer(null, offers);
+
+        assertEquals(DataTransactionResult.Type.FAILURE, result.getType());
+        assertTrue(result.getSuccessfulData().isEmpty());
+        assertEquals(1, result.getRejectedData().size());
+    }
+
+    @Test
+    public void testPartiallyRestoredBatch() {
+        final IMixinEntityDataManager dataManager = mock(IMixinEntityDataManager.class);
+        when(dataManager.finishChangeBatch()).thenReturn(ImmutableSet.of(this.healthKey));
+
+        final DataTransactionResult result = DataChangeBatch.offer(dataManager, ImmutableList.of(
+                success(this.health), success(this.name)));
+
+        assertEquals(DataTransactionResult.Type.SUCCESS, result.getType());
+        assertEquals(ImmutableList.of(this.name), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(this.health), result.getRejectedData());
+    }
+
+    @Test
+    public void testFullyRestoredBatchIsCancelled() {
+        final IMixinEntityDataManager dataManager = mock(IMixinEntityDataManager.class);
+        when(dataManager.finishChangeBatch()).thenReturn(ImmutableSet.of(this.healthKey, this.nameKey));
+
+        final DataTransactionResult result = DataChangeBatch.offer(dataManager, ImmutableList.of(
+                success(this.health), success(this.name)));
+
+        assertEquals(DataTransactionResult.Type.CANCELLED, result.getType());
+        assertTrue(result.getSuccessfulData().isEmpty());
+        assertEquals(2, result.getRejectedData().size());
+    }
+
+    @Test
+    public void testThrowingOfferAbortsBatch() {
+        final IMixinEntityDataManager dataManager = mock(IMixinEntityDataManager.class);
+        final List<Supplier<DataTransactionResult>> offers = ImmutableList.of(success(this.health), () -> {
+            throw new IllegalStateException();
+        });
+
+        try {
+            DataChangeBatch.offer(dataManager, offers);
+            fail();
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        verify(dataManager).abortChangeBatch();
+        verify(dataManager, never()).finishChangeBatch();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ImmutableValue<?> value(Key<?> key) {
+        final ImmutableValue<?> value = mock(ImmutableValue.class);
+        when(value.getKey()).thenReturn((Key) key);
+        return value;
+    }
+
+    private static Supplier<DataTransactionResult> success(ImmutableValue<?> value) {
+        return () -> DataTransactionResult.successResult(value);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+public class PlayerTrackerMapTest {
+
+    @Test
+    public void testOwnerAndNotifier() {
+        final PlayerTrackerMap map = new PlayerTrackerMap();
+        final int key = PlayerTrackerMap.key(new BlockPos(17, 64, -3));
+        assertFalse(map.contains(key));
+        assertEquals(-1, map.getOwner(key));
+
+        map.setNotifier(key, 5);
+        assertTrue(map.contains(key));
+        assertEquals(-1, map.getOwner(key));
+        assertEquals(5, map.getNotifier(key));
+
+        map.setOwner(key, 7);
+        assertEquals(7, map.getOwner(key));
+        assertEquals(5, map.getNotifier(key));
+
+        map.remove(key);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testShortKeyConversion() {
+        final BlockPos pos = new BlockPos(-1, 255, 30);
+        final short shortKey = (short) ((pos.getX() & 0xF) | (pos.getY() & 0xFF) << 4 | (pos.getZ() & 0xF) << 12);
+        assertEquals(PlayerTrackerMap.key(pos), PlayerTrackerMap.keyFromShort(shortKey));
+    }
+
+    @Test
+    public void testNbtRoundTrip() {
+        final PlayerTrackerMap map = new PlayerTrackerMap();
+        final int lowKey = PlayerTrackerMap.key(new BlockPos(3, 12, 9));
+        final int highKey = PlayerTrackerMap.key(new BlockPos(3, 300, 9));
+        map.put(lowKey, 1, 2);
+        map.put(highKey, 3, -1);
+
+        final NBTTagList positions = new NBTTagList();
+        map.writeTo(positions);
+        assertEquals(2, positions.tagCount());
+        int shortPositions = 0;
+        for (int i = 0; i < positions.tagCount(); i++) {
+            final NBTTagCompound compound = positions.getCompoundTagAt(i);
+            if (compound.hasKey("pos")) {
+                shortPositions++;
+            } else {
+                assertTrue(compound.hasKey("ipos"));
+            }
+        }
+        assertEquals(1, shortPositions);
+
+        final PlayerTrackerMap read = PlayerTrackerMap.readFrom(positions);
+        assertEquals(2, read.size());
+        assertEquals(1, read.getOwner(lowKey));
+        assertEquals(2, read.getNotifier(lowKey));
+        assertEquals(3, read.getOwner(highKey));
+        assertEquals(-1, read.getNotifier(highKey));
+    }
+
+    @Test
+    public void testSetOwnerLeavesNotifierUnset() {
+        final PlayerTrackerMap map = new PlayerTrackerMap();
+        final int key = PlayerTrackerMap.key(new BlockPos(5, 70, 5));
+        map.setOwner(key, 4);
+        assertEquals(4, map.getOwner(key));
+        assertEquals(-1, map.getNotifier(key));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEmptyIsImmutable() {
+        PlayerTrackerMap.EMPTY.put(PlayerTrackerMap.key(BlockPos.ORIGIN), 1, 1);
+    }
+
+}
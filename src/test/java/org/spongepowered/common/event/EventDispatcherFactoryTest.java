@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventDispatcherFactoryTest {
+
+    @Test
+    public void testListenersCalledInOrder() throws Exception {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final EventType<SpawnEntityEvent> eventType = new EventType<>(SpawnEntityEvent.class, null);
+        final List<Integer> calls = new ArrayList<>();
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int index = i;
+            listeners.add(new RegisteredListener<>(plugin, eventType, Order.DEFAULT, event -> calls.add(index), false));
+        }
+
+        final EventDispatcherFactory factory = new EventDispatcherFactory("org.spongepowered.common.event.dispatcher",
+                getClass().getClassLoader());
+        final EventDispatcher dispatcher = factory.create(SpawnEntityEvent.class, listeners);
+        dispatcher.dispatchAsync(Mockito.mock(SpawnEntityEvent.class));
+
+        Assert.assertEquals(10, calls.size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, (int) calls.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyListeners() throws Exception {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final EventType<Event> eventType = new EventType<>(Event.class, null);
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        for (int i = 0; i <= EventDispatcherFactory.MAX_LISTENERS; i++) {
+            listeners.add(new RegisteredListener<>(plugin, eventType, Order.DEFAULT, event -> { }, false));
+        }
+        new EventDispatcherFactory("org.spongepowered.common.event.dispatcher", getClass().getClassLoader()).create(Event.class, listeners);
+    }
+
+}
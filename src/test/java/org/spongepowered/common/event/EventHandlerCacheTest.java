@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.InjectedTest;
+
+import java.util.Optional;
+
+public class EventHandlerCacheTest extends InjectedTest {
+
+    private SpongeEventManager eventManager;
+    private Object plugin;
+
+    @Before
+    public void init() throws Exception {
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        this.eventManager = new SpongeEventManager(this.logger, manager);
+
+        this.plugin = new Object();
+        PluginContainer container = Mockito.mock(PluginContainer.class);
+        Mockito.when(manager.fromInstance(this.plugin)).thenReturn(Optional.of(container));
+    }
+
+    @Test
+    public void testUnrelatedRegistrationKeepsCache() {
+        Event event = Mockito.mock(SpawnEntityEvent.Custom.class);
+        RegisteredListener.Cache cache = this.eventManager.getHandlerCache(event);
+        Assert.assertTrue(cache.getListeners().isEmpty());
+
+        BreakListener breakListener = new BreakListener();
+        this.eventManager.registerListeners(this.plugin, breakListener);
+        Assert.assertSame(cache, this.eventManager.getHandlerCache(event));
+
+        this.eventManager.unregisterListeners(breakListener);
+        Assert.assertSame(cache, this.eventManager.getHandlerCache(event));
+    }
+
+    @Test
+    public void testSupertypeRegistrationInvalidatesCache() {
+        Event event = Mockito.mock(SpawnEntityEvent.Custom.class);
+        RegisteredListener.Cache cache = this.eventManager.getHandlerCache(event);
+
+        SpawnListener spawnListener = new SpawnListener();
+        this.eventManager.registerListeners(this.plugin, spawnListener);
+        RegisteredListener.Cache rebaked = this.eventManager.getHandlerCache(event);
+        Assert.assertNotSame(cache, rebaked);
+        Assert.assertEquals(1, rebaked.getListeners().size());
+
+        this.eventManager.unregisterListeners(spawnListener);
+        Assert.assertTrue(this.eventManager.getHandlerCache(event).getListeners().isEmpty());
+    }
+
+    @Test
+    public void testStaleGenerationRebakesCache() {
+        Event event = Mockito.mock(SpawnEntityEvent.Custom.class);
+        RegisteredListener.Cache cache = this.eventManager.getHandlerCache(event);
+
+        // Like a cache that was baked before a change but only stored after its invalidation
+        cache.setGeneration(cache.getGeneration() - 1);
+        RegisteredListener.Cache rebaked = this.eventManager.getHandlerCache(event);
+        Assert.assertNotSame(cache, rebaked);
+        Assert.assertSame(rebaked, this.eventManager.getHandlerCache(event));
+    }
+
+    private static class SpawnListener {
+
+        @Listener
+        public void onSpawn(SpawnEntityEvent event) {}
+    }
+
+    private static class BreakListener {
+
+        @Listener
+        public void onBreak(ChangeBlockEvent.Break event) {}
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ListenerLatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverTheirValues() {
+        for (long value = 0; value < 1 << 20; value++) {
+            final int bucket = ListenerLatencyHistogram.bucketOf(value);
+            assertTrue(value <= ListenerLatencyHistogram.highestValueOf(bucket));
+            if (bucket > 0) {
+                assertTrue(value > ListenerLatencyHistogram.highestValueOf(bucket - 1));
+            }
+        }
+        assertEquals(ListenerLatencyHistogram.getHighestTrackableValue(),
+                ListenerLatencyHistogram.highestValueOf(ListenerLatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final ListenerLatencyHistogram histogram = new ListenerLatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050000L, histogram.getTotalNanos());
+        assertEquals(100000L, histogram.getMaxNanos());
+        // Reported values are within the precision of a bucket
+        assertEquals(50000L, histogram.getValueAtPercentile(50), 50000L / 16);
+        assertEquals(99000L, histogram.getValueAtPercentile(99), 99000L / 16);
+        assertEquals(100000L, histogram.getValueAtPercentile(100));
+
+        final ListenerLatencyHistogram merged = new ListenerLatencyHistogram();
+        merged.add(histogram);
+        merged.add(histogram);
+        assertEquals(200, merged.getCount());
+        assertEquals(histogram.getValueAtPercentile(50), merged.getValueAtPercentile(50));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+public class SchedulerRejectionTest {
+
+    @Test
+    public void testRejectedRepeatingTaskRunsAgain() {
+        final RejectingScheduler scheduler = new RejectingScheduler();
+        final ScheduledTask task = createTask(1000L);
+        scheduler.addTask(task);
+
+        scheduler.processTask(task);
+        assertEquals(ScheduledTask.ScheduledTaskState.RUNNING, task.getState());
+        scheduler.processTask(task);
+        assertEquals(2, scheduler.attempts);
+        assertTrue(scheduler.getTask(task.getUniqueId()).isPresent());
+    }
+
+    @Test
+    public void testRejectedOneShotTaskIsCancelled() {
+        final RejectingScheduler scheduler = new RejectingScheduler();
+        final ScheduledTask task = createTask(0L);
+        scheduler.addTask(task);
+
+        scheduler.processTask(task);
+        assertEquals(1, scheduler.attempts);
+        assertEquals(ScheduledTask.ScheduledTaskState.CANCELED, task.getState());
+        assertFalse(scheduler.getTask(task.getUniqueId()).isPresent());
+    }
+
+    private static ScheduledTask createTask(long interval) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS, t -> {}, "test", 0L, false, interval, false,
+                Mockito.mock(PluginContainer.class));
+    }
+
+    private static final class RejectingScheduler extends SchedulerBase {
+
+        int attempts;
+
+        RejectingScheduler() {
+            super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
+        }
+
+        @Override
+        protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+            this.attempts++;
+            this.onTaskRejected(task);
+        }
+    }
+
+}
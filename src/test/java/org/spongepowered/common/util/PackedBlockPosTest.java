@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class PackedBlockPosTest {
+
+    private static final BlockPos[] POSITIONS = {
+            BlockPos.ORIGIN,
+            new BlockPos(1, 64, -1),
+            new BlockPos(-30000000, 0, 30000000),
+            new BlockPos(29999999, 255, -29999999),
+            new BlockPos(-1, -1, -1),
+    };
+
+    @Test
+    public void testMatchesBlockPosLayout() {
+        for (BlockPos pos : POSITIONS) {
+            final long packed = PackedBlockPos.pack(pos.getX(), pos.getY(), pos.getZ());
+            assertEquals(pos.toLong(), packed);
+            assertEquals(pos.getX(), PackedBlockPos.getX(packed));
+            assertEquals(pos.getY(), PackedBlockPos.getY(packed));
+            assertEquals(pos.getZ(), PackedBlockPos.getZ(packed));
+            assertEquals(pos, PackedBlockPos.setPos(new BlockPos.MutableBlockPos(), packed));
+        }
+    }
+
+    @Test
+    public void testOffset() {
+        for (BlockPos pos : POSITIONS) {
+            for (EnumFacing facing : EnumFacing.values()) {
+                assertEquals(pos.offset(facing).toLong(), PackedBlockPos.offset(pos.toLong(), facing));
+            }
+            assertEquals(pos.add(2, -1, -2).toLong(), PackedBlockPos.offset(pos.toLong(), 2, -1, -2));
+        }
+    }
+}
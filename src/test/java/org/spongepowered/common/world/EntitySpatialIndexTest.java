@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.interfaces.entity.IMixinIndexedEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+public class EntitySpatialIndexTest {
+
+    @Test
+    public void testAddAndRemove() {
+        final EntitySpatialIndex index = new EntitySpatialIndex(0, 0);
+        final TestEntity entity = new TestEntity(2.5, 64, 2.5);
+        index.add(entity.entity);
+        assertEquals(1, index.size());
+        assertTrue(find(index, 2.5, 64, 2.5).contains(entity.entity));
+        assertFalse(find(index, 13.5, 64, 13.5).contains(entity.entity));
+
+        index.remove(entity.entity);
+        assertEquals(0, index.size());
+        assertTrue(find(index, 2.5, 64, 2.5).isEmpty());
+        assertNull(entity.index);
+    }
+
+    @Test
+    public void testUpdateMovesEntity() {
+        final EntitySpatialIndex index = new EntitySpatialIndex(0, 0);
+        final TestEntity entity = new TestEntity(2.5, 64, 2.5);
+        index.add(entity.entity);
+        final int cell = entity.cell;
+
+        entity.moveTo(13.5, 100, 13.5);
+        index.update(entity.entity);
+        assertTrue(entity.cell != cell);
+        assertTrue(find(index, 13.5, 100, 13.5).contains(entity.entity));
+        assertFalse(find(index, 2.5, 64, 2.5).contains(entity.entity));
+    }
+
+    @Test
+    public void testOutOfChunkEntityIsFound() {
+        // Entities that moved out of the chunk stay in its border cells until they change chunks
+        final EntitySpatialIndex index = new EntitySpatialIndex(0, 0);
+        final TestEntity entity = new TestEntity(1.5, 64, 1.5);
+        index.add(entity.entity);
+        entity.moveTo(-3.5, 64, 1.5);
+        index.update(entity.entity);
+        assertTrue(find(index, -3.5, 64, 1.5).contains(entity.entity));
+    }
+
+    @Test
+    public void testPartsAreFound() {
+        final EntitySpatialIndex index = new EntitySpatialIndex(0, 0);
+        final TestEntity entity = new TestEntity(8.5, 64, 8.5);
+        final TestEntity part = new TestEntity(8.5, 65, 8.5);
+        entity.parts = new Entity[] {part.entity};
+        index.add(entity.entity);
+        final List<Entity> found = find(index, 8.5, 64.5, 8.5);
+        assertTrue(found.contains(entity.entity));
+        assertTrue(found.contains(part.entity));
+    }
+
+    @Test
+    public void testLimitStopsSearch() {
+        final EntitySpatialIndex index = new EntitySpatialIndex(0, 0);
+        for (int i = 0; i < 5; i++) {
+            index.add(new TestEntity(8.5, 64, 8.5).entity);
+        }
+        final List<Entity> found = new ArrayList<>();
+        index.getEntitiesWithinAABBForEntity(null, box(8.5, 64, 8.5), found, null, 3);
+        assertEquals(3, found.size());
+        found.clear();
+        index.getEntitiesWithinAABBForEntity(null, box(8.5, 64, 8.5), found, null, -1);
+        assertEquals(5, found.size());
+    }
+
+    private static List<Entity> find(EntitySpatialIndex index, double x, double y, double z) {
+        final List<Entity> found = new ArrayList<>();
+        index.getEntitiesWithinAABBForEntity(null, box(x, y, z), found, null, -1);
+        return found;
+    }
+
+    private static AxisAlignedBB box(double x, double y, double z) {
+        return new AxisAlignedBB(x - 0.3, y, z - 0.3, x + 0.3, y + 0.9, z + 0.3);
+    }
+
+    private static final class TestEntity {
+
+        final Entity entity;
+        AxisAlignedBB boundingBox;
+        @Nullable Entity[] parts;
+        @Nullable EntitySpatialIndex index;
+        int cell = -1;
+
+        TestEntity(double x, double y, double z) {
+            this.boundingBox = box(x, y, z);
+            this.entity = Mockito.mock(Entity.class, Mockito.withSettings().extraInterfaces(IMixinIndexedEntity.class));
+            Mockito.when(this.entity.getEntityBoundingBox()).thenAnswer(invocation -> this.boundingBox);
+            Mockito.when(this.entity.getParts()).thenAnswer(invocation -> this.parts);
+            final IMixinIndexedEntity indexed = (IMixinIndexedEntity) this.entity;
+            Mockito.when(indexed.getSpatialIndex()).thenAnswer(invocation -> this.index);
+            Mockito.when(indexed.getSpatialIndexCell()).thenAnswer(invocation -> this.cell);
+            Mockito.doAnswer(invocation -> {
+                this.index = (EntitySpatialIndex) invocation.getArguments()[0];
+                this.cell = (Integer) invocation.getArguments()[1];
+                return null;
+            }).when(indexed).setSpatialIndex(Mockito.any(), Mockito.anyInt());
+        }
+
+        void moveTo(double x, double y, double z) {
+            this.boundingBox = box(x, y, z);
+        }
+    }
+
+}
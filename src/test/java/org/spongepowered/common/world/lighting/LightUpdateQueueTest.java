@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class LightUpdateQueueTest {
+
+    @Test
+    public void testDeduplicatesPositions() {
+        final LightUpdateQueue queue = new LightUpdateQueue();
+        assertTrue(queue.add(EnumSkyBlock.BLOCK, new BlockPos(3, 70, 9)));
+        assertFalse(queue.add(EnumSkyBlock.BLOCK, new BlockPos(3, 70, 9)));
+        // Same position, other light type
+        assertTrue(queue.add(EnumSkyBlock.SKY, new BlockPos(3, 70, 9)));
+        // Only chunk relative coordinates are used
+        assertFalse(queue.add(EnumSkyBlock.SKY, new BlockPos(19, 70, -7)));
+        assertFalse(queue.add(EnumSkyBlock.SKY, new BlockPos(3, 256, 9)));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void testDrainVisitsQueuedPositions() {
+        final Chunk chunk = Mockito.mock(Chunk.class);
+        final LightUpdateQueue queue = new LightUpdateQueue();
+        queue.add(EnumSkyBlock.BLOCK, new BlockPos(15, 255, 15));
+        queue.add(EnumSkyBlock.BLOCK, new BlockPos(0, 0, 0));
+        queue.add(EnumSkyBlock.SKY, new BlockPos(4, 17, 12));
+        assertTrue(queue.markScheduled(Collections.emptyList(), 0));
+        assertFalse(queue.markScheduled(Collections.emptyList(), 0));
+
+        final LightUpdateQueue.Batch batch = queue.drain(chunk);
+        assertEquals(3, batch.size);
+        assertEquals(0, queue.size());
+        assertFalse(queue.isScheduled());
+
+        final List<String> visited = new ArrayList<>();
+        batch.forEach((type, pos) -> visited.add(type + " " + pos.getX() + "," + pos.getY() + "," + pos.getZ()));
+        assertEquals(3, visited.size());
+        assertEquals("SKY 4,17,12", visited.get(0));
+        assertEquals("BLOCK 0,0,0", visited.get(1));
+        assertEquals("BLOCK 15,255,15", visited.get(2));
+
+        // Draining leaves the queue able to take the same positions again
+        assertTrue(queue.add(EnumSkyBlock.BLOCK, new BlockPos(0, 0, 0)));
+    }
+}